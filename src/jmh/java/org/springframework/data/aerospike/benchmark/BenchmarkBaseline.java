@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import com.jayway.jsonpath.JsonPath;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files produced with {@code -rf json} (for example the result of the previous release
+ * and the result of the current build) and reports throughput and allocation changes per benchmark.
+ * <p>
+ * Usage: {@code BenchmarkBaseline <baseline.json> <current.json> [max regression percent, default 10]}.
+ * Exits with status 1 if any benchmark has lower throughput or allocates more bytes per operation
+ * than allowed by the max regression percent.
+ */
+public final class BenchmarkBaseline {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkBaseline <baseline.json> <current.json> [max regression percent]");
+            System.exit(2);
+        }
+        double maxRegressionPercent = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-70s %14s %14s %8s %12s %12s %8s%n",
+                "Benchmark", "Base ops/s", "Curr ops/s", "Diff", "Base B/op", "Curr B/op", "Diff");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result base = baseline.get(entry.getKey());
+            Result curr = entry.getValue();
+            if (base == null) {
+                System.out.printf("%-70s %14s %14.1f%n", entry.getKey(), "-", curr.score);
+                continue;
+            }
+            double scoreDiff = percentDiff(base.score, curr.score);
+            double allocationDiff = percentDiff(base.allocatedBytes, curr.allocatedBytes);
+            boolean benchmarkRegressed = -scoreDiff > maxRegressionPercent || allocationDiff > maxRegressionPercent;
+            regressed |= benchmarkRegressed;
+            System.out.printf("%-70s %14.1f %14.1f %+7.1f%% %12.1f %12.1f %+7.1f%%%s%n",
+                    entry.getKey(), base.score, curr.score, scoreDiff,
+                    base.allocatedBytes, curr.allocatedBytes, allocationDiff,
+                    benchmarkRegressed ? "  REGRESSION" : "");
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    private static double percentDiff(double base, double current) {
+        if (base == 0) {
+            return current == 0 ? 0 : 100;
+        }
+        return (current - base) * 100 / base;
+    }
+
+    static Map<String, Result> read(File file) throws IOException {
+        List<Map<String, Object>> benchmarks = JsonPath.read(file, "$[*]");
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map<String, Object> benchmark : benchmarks) {
+            results.put(name(benchmark), result(benchmark));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String name(Map<String, Object> benchmark) {
+        String name = ((String) benchmark.get("benchmark")).replace(BenchmarkBaseline.class.getPackage().getName() + ".", "");
+        Map<String, Object> params = (Map<String, Object>) benchmark.get("params");
+        if (params == null || params.isEmpty()) {
+            return name;
+        }
+        return name + new TreeMap<>(params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result result(Map<String, Object> benchmark) {
+        Map<String, Object> primaryMetric = (Map<String, Object>) benchmark.get("primaryMetric");
+        double score = ((Number) primaryMetric.get("score")).doubleValue();
+        double allocatedBytes = 0;
+        Map<String, Object> secondaryMetrics = (Map<String, Object>) benchmark.get("secondaryMetrics");
+        if (secondaryMetrics != null) {
+            for (Map.Entry<String, Object> metric : secondaryMetrics.entrySet()) {
+                if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                    allocatedBytes = ((Number) ((Map<String, Object>) metric.getValue()).get("score")).doubleValue();
+                }
+            }
+        }
+        return new Result(score, allocatedBytes);
+    }
+
+    static class Result {
+
+        final double score;
+        final double allocatedBytes;
+
+        Result(double score, double allocatedBytes) {
+            this.score = score;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
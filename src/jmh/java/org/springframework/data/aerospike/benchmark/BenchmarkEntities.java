@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities used by benchmarks. Shapes are chosen to exercise the converter code paths used by typical applications:
+ * nested entities, collections of entities, maps of simple and complex values, dates and enums.
+ */
+public final class BenchmarkEntities {
+
+    private BenchmarkEntities() {
+    }
+
+    public enum Status {
+        NEW, PAID, SHIPPED, DELIVERED, CANCELLED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Document(collection = "orders")
+    public static class Order {
+        @Id
+        private String id;
+        private Status status;
+        private Customer customer;
+        private List<OrderLine> lines;
+        private Map<String, String> attributes;
+        private Map<String, List<Integer>> counters;
+        private List<String> tags;
+        private Date createdAt;
+        private LocalDate deliveryDate;
+        private Instant updatedAt;
+        private long totalCents;
+        private boolean gift;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Document(collection = "orders")
+    public static class VersionedOrder {
+        @Id
+        private String id;
+        @Version
+        private Long version;
+        private Status status;
+        private Customer customer;
+        private List<OrderLine> lines;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Customer {
+        private String firstName;
+        private String lastName;
+        private String email;
+        private Address address;
+        private Map<String, Address> otherAddresses;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Address {
+        private String street;
+        private String city;
+        private String zipCode;
+        private String country;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderLine {
+        private String sku;
+        private int quantity;
+        private long priceCents;
+        private Status status;
+    }
+
+    public static Order order(String id, int lines) {
+        Address home = new Address("1 Main St", "Springfield", "12345", "US");
+        Map<String, Address> otherAddresses = new HashMap<>();
+        otherAddresses.put("work", new Address("2 Office Rd", "Shelbyville", "54321", "US"));
+        Customer customer = new Customer("John", "Doe", "john.doe@example.com", home, otherAddresses);
+
+        List<OrderLine> orderLines = orderLines(lines);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("channel", "web");
+        attributes.put("campaign", "spring-sale");
+        attributes.put("locale", "en_US");
+        Map<String, List<Integer>> counters = new HashMap<>();
+        counters.put("views", Arrays.asList(1, 2, 3, 5, 8));
+        counters.put("clicks", Arrays.asList(13, 21));
+
+        long total = orderLines.stream().mapToLong(line -> line.getPriceCents() * line.getQuantity()).sum();
+        return new Order(id, Status.PAID, customer, orderLines, attributes, counters,
+                Arrays.asList("priority", "fragile", "express"), new Date(1_600_000_000_000L),
+                LocalDate.of(2021, 3, 15), Instant.ofEpochMilli(1_610_000_000_000L), total, false);
+    }
+
+    public static VersionedOrder versionedOrder(String id, int lines) {
+        Order order = order(id, lines);
+        return new VersionedOrder(id, null, order.getStatus(), order.getCustomer(), order.getLines());
+    }
+
+    private static List<OrderLine> orderLines(int lines) {
+        List<OrderLine> result = new ArrayList<>(lines);
+        Status[] statuses = Status.values();
+        for (int i = 0; i < lines; i++) {
+            result.add(new OrderLine("SKU-" + i, i % 5 + 1, 100L * (i + 1), statuses[i % statuses.length]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+
+import java.util.Collections;
+
+/**
+ * Creates the infrastructure that benchmarks share, configured the same way as
+ * {@link org.springframework.data.aerospike.config.AbstractAerospikeDataConfiguration} does.
+ */
+final class BenchmarkSupport {
+
+    static final String NAMESPACE = "benchmark";
+
+    private BenchmarkSupport() {
+    }
+
+    static AerospikeMappingContext mappingContext() {
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+
+        AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+        mappingContext.setApplicationContext(applicationContext);
+        mappingContext.setDefaultNameSpace(NAMESPACE);
+        return mappingContext;
+    }
+
+    static MappingAerospikeConverter converter(AerospikeMappingContext mappingContext) {
+        MappingAerospikeConverter converter = new MappingAerospikeConverter(mappingContext,
+                new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor());
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
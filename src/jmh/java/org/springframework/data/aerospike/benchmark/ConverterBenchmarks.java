@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.aerospike.benchmark.BenchmarkEntities.Order;
+import org.springframework.data.aerospike.convert.AerospikeReadData;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MappingAerospikeConverter} reading and writing an entity with nested entities, collections,
+ * maps, dates and enums.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterBenchmarks {
+
+    @Param({"1", "10", "100"})
+    public int lines;
+
+    private MappingAerospikeConverter converter;
+    private Order order;
+    private Key key;
+    private Record record;
+
+    @Setup
+    public void setUp() {
+        converter = BenchmarkSupport.converter(BenchmarkSupport.mappingContext());
+        order = BenchmarkEntities.order("order-1", lines);
+
+        AerospikeWriteData data = AerospikeWriteData.forWrite();
+        converter.write(order, data);
+        key = data.getKey();
+        Map<String, Object> bins = new HashMap<>();
+        for (Bin bin : data.getBins()) {
+            bins.put(bin.name, bin.value.getObject());
+        }
+        record = new Record(bins, 1, 0);
+    }
+
+    @Benchmark
+    public AerospikeWriteData write() {
+        AerospikeWriteData data = AerospikeWriteData.forWrite();
+        converter.write(order, data);
+        return data;
+    }
+
+    @Benchmark
+    public Order read() {
+        return converter.read(Order.class, AerospikeReadData.forRead(key, record));
+    }
+}
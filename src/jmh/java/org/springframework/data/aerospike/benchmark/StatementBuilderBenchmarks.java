@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.PredExp;
+import com.aerospike.client.query.Statement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.Qualifier.FilterOperation;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.aerospike.benchmark.BenchmarkSupport.NAMESPACE;
+
+/**
+ * Measures {@link StatementBuilder#build} with and without a matching secondary index and
+ * {@link Qualifier#toPredExp()} for the most common filter operations.
+ * <p>
+ * Statement building marks qualifiers that were turned into a filter, so qualifiers are created inside every
+ * benchmark method, the same way a query creator does for every query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementBuilderBenchmarks {
+
+    private static final String SET = "orders";
+
+    private StatementBuilder statementBuilder;
+
+    @Setup
+    public void setUp() {
+        IndexesCacheHolder indexesCache = new IndexesCacheHolder();
+        IndexKey indexKey = new IndexKey(NAMESPACE, SET, "totalCents", IndexType.NUMERIC, IndexCollectionType.DEFAULT);
+        Index index = new Index("orders_total_cents_idx", NAMESPACE, SET, "totalCents", IndexType.NUMERIC, IndexCollectionType.DEFAULT);
+        indexesCache.update(IndexesInfo.of(Collections.singletonMap(indexKey, index)));
+        statementBuilder = new StatementBuilder(indexesCache);
+    }
+
+    @Benchmark
+    public Statement buildWithIndexedQualifier() {
+        Qualifier[] qualifiers = {
+                new Qualifier("totalCents", FilterOperation.BETWEEN, Value.get(100), Value.get(10_000)),
+                new Qualifier("status", FilterOperation.EQ, Value.get("PAID")),
+                new Qualifier("gift", FilterOperation.EQ, Value.get(0))
+        };
+        return statementBuilder.build(NAMESPACE, SET, null, qualifiers);
+    }
+
+    @Benchmark
+    public Statement buildWithoutIndex() {
+        Qualifier[] qualifiers = {
+                new Qualifier("status", FilterOperation.EQ, Value.get("PAID")),
+                new Qualifier("tags", FilterOperation.LIST_CONTAINS, Value.get("express")),
+                new Qualifier("attributes", FilterOperation.MAP_KEYS_CONTAINS, Value.get("channel"))
+        };
+        return statementBuilder.build(NAMESPACE, SET, null, qualifiers);
+    }
+
+    @Benchmark
+    public Statement buildScan() {
+        Qualifier[] qualifiers = {
+                new Qualifier("totalCents", FilterOperation.GT, Value.get(100)),
+                new Qualifier("status", FilterOperation.NOTEQ, Value.get("CANCELLED"))
+        };
+        return statementBuilder.buildScan(NAMESPACE, SET, qualifiers);
+    }
+
+    @Benchmark
+    public List<PredExp> toPredExpEquals() {
+        return new Qualifier("status", FilterOperation.EQ, Value.get("PAID")).toPredExp();
+    }
+
+    @Benchmark
+    public List<PredExp> toPredExpStartsWithIgnoreCase() {
+        return new Qualifier("status", FilterOperation.START_WITH, true, Value.get("pa")).toPredExp();
+    }
+
+    @Benchmark
+    public List<PredExp> toPredExpBetween() {
+        return new Qualifier("totalCents", FilterOperation.BETWEEN, Value.get(100), Value.get(10_000)).toPredExp();
+    }
+
+    @Benchmark
+    public List<PredExp> toPredExpOr() {
+        return new Qualifier(FilterOperation.OR,
+                new Qualifier("status", FilterOperation.EQ, Value.get("PAID")),
+                new Qualifier("status", FilterOperation.EQ, Value.get("SHIPPED")),
+                new Qualifier("totalCents", FilterOperation.LTEQ, Value.get(500))
+        ).toPredExp();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.benchmark;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.ClientPolicy;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.aerospike.benchmark.BenchmarkEntities.Order;
+import org.springframework.data.aerospike.benchmark.BenchmarkEntities.VersionedOrder;
+import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.AerospikeTemplate;
+import org.springframework.data.aerospike.core.DefaultAerospikeExceptionTranslator;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.StatementBuilder;
+import org.springframework.data.aerospike.query.cache.IndexInfoParser;
+import org.springframework.data.aerospike.query.cache.IndexRefresher;
+import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.query.cache.InternalIndexOperations;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.data.aerospike.benchmark.BenchmarkSupport.NAMESPACE;
+
+/**
+ * Measures the {@link AerospikeTemplate} overhead on top of the client: key creation, mapping, policy creation,
+ * version handling and exception translation. The client is stubbed and answers immediately,
+ * so the results do not include network and server time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmarks {
+
+    @Param({"1", "10"})
+    public int lines;
+
+    private AerospikeTemplate template;
+    private Order order;
+    private VersionedOrder versionedOrder;
+
+    @Setup
+    public void setUp() {
+        AerospikeMappingContext mappingContext = BenchmarkSupport.mappingContext();
+        MappingAerospikeConverter converter = BenchmarkSupport.converter(mappingContext);
+        order = BenchmarkEntities.order("order-1", lines);
+        versionedOrder = BenchmarkEntities.versionedOrder("order-2", lines);
+
+        AerospikeClient client = stubbedClient(storedRecord(converter, order));
+        IndexesCacheHolder indexesCache = new IndexesCacheHolder();
+        QueryEngine queryEngine = new QueryEngine(client, new StatementBuilder(indexesCache), client.getQueryPolicyDefault());
+        IndexRefresher indexRefresher = new IndexRefresher(client, client.getInfoPolicyDefault(),
+                new InternalIndexOperations(new IndexInfoParser()), indexesCache);
+        template = new AerospikeTemplate(client, NAMESPACE, converter, mappingContext,
+                new DefaultAerospikeExceptionTranslator(), queryEngine, indexRefresher);
+    }
+
+    @Benchmark
+    public Order save() {
+        template.save(order);
+        return order;
+    }
+
+    @Benchmark
+    public VersionedOrder saveVersioned() {
+        versionedOrder.setVersion(null);
+        template.save(versionedOrder);
+        return versionedOrder;
+    }
+
+    @Benchmark
+    public Order findById() {
+        return template.findById("order-1", Order.class);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return template.exists("order-1", Order.class);
+    }
+
+    private static Record storedRecord(MappingAerospikeConverter converter, Object document) {
+        AerospikeWriteData data = AerospikeWriteData.forWrite();
+        converter.write(document, data);
+        Map<String, Object> bins = new HashMap<>();
+        for (Bin bin : data.getBins()) {
+            bins.put(bin.name, bin.value.getObject());
+        }
+        return new Record(bins, 1, 0);
+    }
+
+    /**
+     * Client that is created without connecting to a cluster and answers every call with the given record.
+     * Client methods are final, so the stub relies on the inline mock maker.
+     */
+    private static AerospikeClient stubbedClient(Record record) {
+        Record header = new Record(Collections.emptyMap(), 1, 0);
+        Answer<Object> answer = (InvocationOnMock invocation) -> {
+            switch (invocation.getMethod().getName()) {
+                case "get":
+                    return record;
+                case "operate":
+                    return header;
+                case "exists":
+                    return true;
+                default:
+                    return null;
+            }
+        };
+        return mock(AerospikeClient.class, withSettings()
+                .useConstructor(new ClientPolicy())
+                .defaultAnswer(answer));
+    }
+}
@@ -15,18 +15,36 @@
  */
 package org.springframework.data.aerospike.cache;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.util.Assert;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.GenerationPolicy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.PredExp;
 
 /**
  * 
@@ -36,51 +54,350 @@ import com.aerospike.client.policy.WritePolicy;
 public class AerospikeCache implements Cache {
 
 	private static final String VALUE = "value";
+	private static final String LOCK_SET_SUFFIX = "-lock";
+	private static final String EPOCH = "@epoch";
+	private static final String EPOCH_SET_SUFFIX = "-epoch";
+	private static final String LOCK_OWNER_PREFIX = ManagementFactory.getRuntimeMXBean().getName() + ':';
+	private static final int DEFAULT_LOCK_EXPIRATION = 10;
+	private static final long DEFAULT_LOCK_POLL_INTERVAL = 50;
 
 	protected AerospikeClient client;
 	protected String namespace;
 	protected String set;
+	protected WritePolicy writePolicy;
 	protected WritePolicy createOnly;
+	protected boolean touchOnRead;
+	protected WritePolicy lockPolicy;
+	protected long lockPollInterval = DEFAULT_LOCK_POLL_INTERVAL;
+	protected boolean epochClear;
+	protected WritePolicy epochPolicy;
+	protected LocalRecordCache localCache;
+	protected CacheValueCodec valueCodec;
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
 
 	public AerospikeCache(String namespace, String set, AerospikeClient client,
 			long expiration){
+		this(namespace, set, client, AerospikeCacheConfiguration.builder()
+				.expiration((int) expiration)
+				.build());
+	}
+
+	/**
+	 * @param set the set of the cache records, overrides the set of the configuration.
+	 */
+	public AerospikeCache(String namespace, String set, AerospikeClient client,
+			AerospikeCacheConfiguration configuration){
 		this.client = client;
 		this.namespace = namespace;
 		this.set = set;
-		this.createOnly = new WritePolicy(client.writePolicyDefault);
+		this.writePolicy = new WritePolicy(configuration.getWritePolicy() != null
+				? configuration.getWritePolicy() : client.writePolicyDefault);
+		this.writePolicy.expiration = configuration.getExpiration();
+		this.writePolicy.recordExistsAction = RecordExistsAction.UPDATE;
+		this.touchOnRead = configuration.isTouchOnRead();
+		this.createOnly = new WritePolicy(this.writePolicy);
 		this.createOnly.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+		this.lockPolicy = new WritePolicy(this.createOnly);
+		this.lockPolicy.expiration = DEFAULT_LOCK_EXPIRATION;
+		this.epochClear = configuration.getClearMode() == AerospikeCacheConfiguration.ClearMode.EPOCH;
+		this.epochPolicy = new WritePolicy(this.writePolicy);
+		this.epochPolicy.expiration = -1;
+		this.valueCodec = configuration.getValueCodec();
+		if (configuration.getLocalCacheSize() > 0) {
+			this.localCache = new LocalRecordCache(configuration.getLocalCacheSize(),
+					configuration.getLocalCacheTimeToLive().toNanos());
+		}
 	}
 
 	protected Key getKey(Object key){
 		return new Key(namespace, set, key.toString());
 	}
 
-	private ValueWrapper toWrapper(Record record) {
-		return (record != null ? new SimpleValueWrapper(record.getValue(VALUE)) : null);
+	/**
+	 * Reads the cache record from the local tier if enabled, otherwise from the server, resetting its expiration
+	 * if the cache touches records on read. Records found in the local tier are not touched.
+	 * With {@link AerospikeCacheConfiguration.ClearMode#EPOCH epoch clear} records written before the last clear
+	 * are treated as missing, the current epoch is read in the same batch as the record unless the record is touched.
+	 */
+	protected Record getRecord(Key key) {
+		if (localCache == null) {
+			return readCurrentRecord(key);
+		}
+		Record cached = localCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		long version = localCache.version();
+		Record record = readCurrentRecord(key);
+		if (record != null) {
+			localCache.put(key, record, version);
+		}
+		return record;
+	}
+
+	/**
+	 * Reads the cache records in a single batch, records found in the local tier are not read from the server.
+	 * Records are read one by one if the cache touches records on read, as a batch read can not touch records.
+	 *
+	 * @return the records in the order of the keys, null for missing records.
+	 */
+	protected Record[] getRecords(Key[] keys) {
+		Record[] records = new Record[keys.length];
+		if (touchOnRead) {
+			for (int i = 0; i < keys.length; i++) {
+				records[i] = getRecord(keys[i]);
+			}
+			return records;
+		}
+		List<Integer> missing = new ArrayList<>();
+		List<Key> batch = new ArrayList<>();
+		if (epochClear) {
+			batch.add(getEpochKey());
+		}
+		for (int i = 0; i < keys.length; i++) {
+			records[i] = localCache != null ? localCache.get(keys[i]) : null;
+			if (records[i] == null) {
+				missing.add(i);
+				batch.add(keys[i]);
+			}
+		}
+		if (missing.isEmpty()) {
+			return records;
+		}
+		long version = localCache != null ? localCache.version() : 0;
+		Record[] read = client.get(null, batch.toArray(new Key[0]));
+		int offset = epochClear ? 1 : 0;
+		long epoch = epochClear ? epochOf(read[0]) : 0;
+		for (int i = 0; i < missing.size(); i++) {
+			Record record = decodable(epochClear ? ofEpoch(read[i + offset], epoch) : read[i + offset]);
+			Key key = keys[missing.get(i)];
+			records[missing.get(i)] = record;
+			if (record != null && localCache != null) {
+				localCache.put(key, record, version);
+			}
+		}
+		return records;
+	}
+
+	private Record readCurrentRecord(Key key) {
+		if (!epochClear) {
+			return decodable(readRecord(key));
+		}
+		if (touchOnRead) {
+			long epoch = getEpoch();
+			return decodable(ofEpoch(readRecord(key), epoch));
+		}
+		Record[] records = client.get(null, new Key[]{getEpochKey(), key});
+		return decodable(ofEpoch(records[1], epochOf(records[0])));
+	}
+
+	/**
+	 * @return the record or null if the codec can not decode it, e.g. a record written before the codec was set,
+	 * so that it is treated as a cache miss and overwritten.
+	 */
+	private Record decodable(Record record) {
+		if (record == null || valueCodec == null || record.getValue(VALUE) instanceof byte[]) {
+			return record;
+		}
+		return null;
+	}
+
+	private Record readRecord(Key key) {
+		if (!touchOnRead) {
+			return client.get(null, key);
+		}
+		try {
+			return client.operate(writePolicy, key, Operation.touch(), Operation.get());
+		} catch (AerospikeException e) {
+			if (e.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	private static Record ofEpoch(Record record, long epoch) {
+		if (record == null || epochOf(record) != epoch) {
+			return null;
+		}
+		Map<String, Object> bins = new HashMap<>(record.bins);
+		bins.remove(EPOCH);
+		return new Record(bins, record.generation, record.expiration);
+	}
+
+	private static long epochOf(Record record) {
+		return record == null ? 0 : record.getLong(EPOCH);
+	}
+
+	/**
+	 * Writes the bins of a cache record, tagged with the current epoch if the cache clears by epoch,
+	 * and invalidates the record in the local tier.
+	 */
+	protected void write(WritePolicy policy, Key key, Bin... bins) {
+		write(policy, key, epochClear ? getEpoch() : 0, bins);
+	}
+
+	private void write(WritePolicy policy, Key key, long epoch, Bin[] bins) {
+		Bin[] written = bins;
+		if (epochClear) {
+			written = Arrays.copyOf(bins, bins.length + 1);
+			written[bins.length] = new Bin(EPOCH, epoch);
+		}
+		try {
+			client.put(policy, key, written);
+		} finally {
+			invalidateLocal(key);
+		}
+	}
+
+	private void invalidateLocal(Key key) {
+		if (localCache != null) {
+			localCache.invalidate(key);
+		}
+	}
+
+	/**
+	 * @return bins of the cache record holding the value, a single bin with the encoded value if a codec is set.
+	 */
+	protected Bin[] toBins(Object value) {
+		if (valueCodec != null) {
+			return new Bin[]{new Bin(VALUE, valueCodec.encode(value))};
+		}
+		return new Bin[]{new Bin(VALUE, value)};
+	}
+
+	/**
+	 * @return value held by the cache record.
+	 * @throws IllegalStateException if the value decoded by the codec is not of the given type.
+	 * @throws UndecodableValueException if the codec fails to decode the value.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> T toValue(Key key, Record record, Class<T> type) {
+		if (valueCodec == null) {
+			return (T) record.getValue(VALUE);
+		}
+		Object value;
+		try {
+			value = valueCodec.decode((byte[]) record.getValue(VALUE));
+		} catch (RuntimeException e) {
+			throw new UndecodableValueException(key, e);
+		}
+		if (value != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	protected long getEpoch() {
+		return epochOf(client.get(null, getEpochKey(), EPOCH));
+	}
+
+	/**
+	 * @return key of the record holding the epoch of the cache, it is stored next to the lock records
+	 * and never expires.
+	 */
+	protected Key getEpochKey() {
+		return new Key(namespace, set + EPOCH_SET_SUFFIX, set);
+	}
+
+	private ValueWrapper toWrapper(Key key, Record record) {
+		return toWrapper(key, record, Object.class);
+	}
+
+	/**
+	 * @return the wrapped value of the record or null if the record is missing or the codec fails to decode its value,
+	 * e.g. a value written by another codec, so that it is treated as a miss and overwritten by the next load or put.
+	 */
+	private <T> ValueWrapper toWrapper(Key key, Record record, Class<T> type) {
+		if (record == null) {
+			return null;
+		}
+		try {
+			return new SimpleValueWrapper(toValue(key, record, type));
+		} catch (UndecodableValueException e) {
+			invalidateLocal(key);
+			return null;
+		}
 	}
 
+	/**
+	 * Truncates the set of the cache or, with {@link AerospikeCacheConfiguration.ClearMode#EPOCH epoch clear},
+	 * increments the epoch of the cache so that all records written before are treated as missing.
+	 */
 	@Override
 	public void clear() {
-		// TODO Auto-generated method stub
+		try {
+			if (epochClear) {
+				client.operate(epochPolicy, getEpochKey(), Operation.add(new Bin(EPOCH, 1)));
+			} else {
+				client.truncate(null, namespace, set, null);
+			}
+		} finally {
+			if (localCache != null) {
+				localCache.clear();
+			}
+		}
 	}
 
 	@Override
 	public void evict(Object key) {
-		this.client.delete(null, getKey(key));
-
+		Key dbKey = getKey(key);
+		try {
+			this.client.delete(writePolicy, dbKey);
+		} finally {
+			invalidateLocal(dbKey);
+		}
 	}
 
 	@Override
 	public ValueWrapper get(Object key) {
-		Record record =  client.get(null, getKey(key));
-		ValueWrapper vr = toWrapper(record);
+		Key dbKey = getKey(key);
+		Record record = getRecord(dbKey);
+		ValueWrapper vr = toWrapper(dbKey, record);
 		return vr;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
+	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
-		return (T) client.get(null, getKey(key));
+		Key dbKey = getKey(key);
+		ValueWrapper value = toWrapper(dbKey, getRecord(dbKey), type);
+		return value == null ? null : (T) value.get();
+	}
+
+	/**
+	 * Returns the cached values of the given keys, read from the server in a single batch.
+	 *
+	 * @return the cached values by key in the order of the keys, keys without a cached value are left out.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Map<Object, T> getAll(Collection<?> keys, Class<T> type) {
+		Assert.notNull(keys, "Keys must not be null!");
+		List<Object> keyList = new ArrayList<>(keys);
+		Key[] dbKeys = keyList.stream().map(this::getKey).toArray(Key[]::new);
+		Record[] records = getRecords(dbKeys);
+		Map<Object, T> values = new LinkedHashMap<>();
+		for (int i = 0; i < records.length; i++) {
+			ValueWrapper value = toWrapper(dbKeys[i], records[i], type);
+			if (value != null) {
+				values.put(keyList.get(i), (T) value.get());
+			}
+		}
+		return values;
+	}
+
+	public Map<Object, Object> getAll(Collection<?> keys) {
+		return getAll(keys, Object.class);
+	}
+
+	/**
+	 * Writes the given entries. The client has no batch writes, so records are written one by one,
+	 * the epoch of an epoch cleared cache is read once for all of them.
+	 */
+	public void putAll(Map<?, ?> entries) {
+		Assert.notNull(entries, "Entries must not be null!");
+		long epoch = epochClear ? getEpoch() : 0;
+		entries.forEach((key, value) -> write(writePolicy, getKey(key), epoch, toBins(value)));
 	}
 
 	@Override
@@ -95,20 +412,203 @@ public class AerospikeCache implements Cache {
 
 	@Override
 	public void put(Object key, Object value) {
-		client.put(null, getKey(key), new Bin(VALUE, value));
+		write(writePolicy, getKey(key), toBins(value));
 	}
 
+	/**
+	 * Writes the value unless the key holds a value. The write is conditional: a missing record is created only if it
+	 * still does not exist, a record of a previous epoch or with a value the codec can not decode is replaced only
+	 * if it was not written meanwhile, otherwise the value written by the other caller is returned.
+	 *
+	 * @return the value held before or null if the value was written.
+	 */
 	@Override
 	public ValueWrapper putIfAbsent(Object key, Object value) {
-		Record record = client.operate(this.createOnly, getKey(key), Operation.put(new Bin(VALUE, value)), Operation.get(VALUE));
-		return toWrapper(record);
+		Key dbKey = getKey(key);
+		Bin[] bins = toBins(value);
+		try {
+			while (true) {
+				long epoch = 0;
+				Record existing;
+				if (epochClear) {
+					Record[] records = client.get(null, new Key[]{getEpochKey(), dbKey});
+					epoch = epochOf(records[0]);
+					existing = records[1];
+				} else {
+					existing = client.get(null, dbKey);
+				}
+				ValueWrapper current = toWrapper(dbKey, decodable(epochClear ? ofEpoch(existing, epoch) : existing));
+				if (current != null) {
+					return current;
+				}
+				if (writeIfUnchanged(dbKey, existing, epoch, bins)) {
+					return null;
+				}
+			}
+		} finally {
+			invalidateLocal(dbKey);
+		}
+	}
+
+	/**
+	 * @return whether the bins were written, false if the record was created, changed or removed since it was read.
+	 */
+	private boolean writeIfUnchanged(Key key, Record read, long epoch, Bin[] bins) {
+		WritePolicy policy = new WritePolicy(read == null ? createOnly : writePolicy);
+		if (read != null) {
+			policy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+			policy.generation = read.generation;
+		}
+		try {
+			write(policy, key, epoch, bins);
+			return true;
+		} catch (AerospikeException e) {
+			int resultCode = e.getResultCode();
+			if (resultCode == ResultCode.KEY_EXISTS_ERROR || resultCode == ResultCode.GENERATION_ERROR
+					|| resultCode == ResultCode.KEY_NOT_FOUND_ERROR) {
+				return false;
+			}
+			throw e;
+		}
 	}
 
+	/**
+	 * Returns the cached value or loads it. Concurrent loads of the same key are coalesced: within the JVM callers
+	 * wait for the load in progress, across JVMs a lock record written with {@link RecordExistsAction#CREATE_ONLY}
+	 * lets a single caller run the loader while others poll for the value. The lock record expires after
+	 * {@link #setLockExpiration(int) lock expiration}, so a crashed loader does not block the key.
+	 * Null values are not cached.
+	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(Object key, Callable<T> valueLoader) {
-		// TODO Auto-generated method stub
-		return null;
+		ValueWrapper cached = get(key);
+		if (cached != null) {
+			return (T) cached.get();
+		}
+		CompletableFuture<Object> loading = new CompletableFuture<>();
+		CompletableFuture<Object> inProgress = inFlight.putIfAbsent(key, loading);
+		if (inProgress != null) {
+			return (T) await(inProgress, key, valueLoader);
+		}
+		try {
+			Object value = loadWithLock(key, valueLoader);
+			loading.complete(value);
+			return (T) value;
+		} catch (RuntimeException | Error e) {
+			loading.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, loading);
+		}
+	}
+
+	private Object await(CompletableFuture<Object> inProgress, Object key, Callable<?> valueLoader) {
+		try {
+			return inProgress.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ValueRetrievalException(key, valueLoader, e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new ValueRetrievalException(key, valueLoader, e.getCause());
+		}
+	}
+
+	private Object loadWithLock(Object key, Callable<?> valueLoader) {
+		Key lockKey = getLockKey(key);
+		String owner = LOCK_OWNER_PREFIX + UUID.randomUUID();
+		while (!tryLock(lockKey, owner)) {
+			try {
+				Thread.sleep(lockPollInterval);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+			ValueWrapper cached = get(key);
+			if (cached != null) {
+				return cached.get();
+			}
+		}
+		try {
+			// the value may have been loaded by another JVM between the cache miss and acquiring the lock
+			ValueWrapper cached = get(key);
+			if (cached != null) {
+				return cached.get();
+			}
+			Object value;
+			try {
+				value = valueLoader.call();
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+			if (value != null) {
+				put(key, value);
+			}
+			return value;
+		} finally {
+			unlock(lockKey, owner);
+		}
+	}
+
+	private boolean tryLock(Key lockKey, String owner) {
+		try {
+			client.put(lockPolicy, lockKey, new Bin(VALUE, owner));
+			return true;
+		} catch (AerospikeException e) {
+			if (e.getResultCode() == ResultCode.KEY_EXISTS_ERROR) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Deletes the lock record only if it is still owned by the caller: the lock may have expired while the value
+	 * was loaded and may be held by another caller by now.
+	 */
+	private void unlock(Key lockKey, String owner) {
+		WritePolicy unlockPolicy = new WritePolicy(writePolicy);
+		unlockPolicy.setPredExp(PredExp.stringBin(VALUE), PredExp.stringValue(owner), PredExp.stringEqual());
+		try {
+			client.delete(unlockPolicy, lockKey);
+		} catch (AerospikeException e) {
+			if (e.getResultCode() != ResultCode.FILTERED_OUT) {
+				throw e;
+			}
+		}
+	}
+
+	protected Key getLockKey(Object key) {
+		return new Key(namespace, set + LOCK_SET_SUFFIX, key.toString());
+	}
+
+	/**
+	 * Sets the expiration of lock records in seconds, it should exceed the time the value loader takes.
+	 */
+	public void setLockExpiration(int lockExpiration) {
+		Assert.isTrue(lockExpiration > 0, "Lock expiration must be greater than zero");
+		this.lockPolicy.expiration = lockExpiration;
+	}
+
+	/**
+	 * Sets the interval in milliseconds at which callers waiting for another JVM poll for the value.
+	 */
+	public void setLockPollInterval(long lockPollInterval) {
+		Assert.isTrue(lockPollInterval > 0, "Lock poll interval must be greater than zero");
+		this.lockPollInterval = lockPollInterval;
 	}
 
+	/**
+	 * Thrown by {@link #toValue(Key, Record, Class)} if the codec fails to decode a cached value,
+	 * the cache treats such a record as missing.
+	 */
+	protected static class UndecodableValueException extends RuntimeException {
 
+		public UndecodableValueException(Key key, Throwable cause) {
+			super("Failed to decode cached value of " + key, cause);
+		}
+	}
 }
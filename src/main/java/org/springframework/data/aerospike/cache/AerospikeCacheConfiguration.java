@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import com.aerospike.client.policy.WritePolicy;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a single {@link AerospikeCache}, see {@link AerospikeCacheManager}.
+ */
+@Builder(toBuilder = true)
+@Value
+public class AerospikeCacheConfiguration {
+
+	/**
+	 * Set the cache records are stored in, the set of the cache manager if null.
+	 */
+	String setName;
+	/**
+	 * Expiration of cache records in seconds. Zero uses the default TTL of the namespace, -1 never expires records.
+	 */
+	@Builder.Default
+	int expiration = 0;
+	/**
+	 * Whether a read resets the expiration of the record, so that entries expire after they were not read
+	 * for the expiration time instead of after they were written.
+	 */
+	@Builder.Default
+	boolean touchOnRead = false;
+	/**
+	 * Policy of cache writes, the default write policy of the client if null.
+	 * Expiration and record exists action of the policy are overridden by the cache.
+	 */
+	WritePolicy writePolicy;
+	/**
+	 * How {@link AerospikeCache#clear()} removes the entries of the cache.
+	 */
+	@Builder.Default
+	ClearMode clearMode = ClearMode.TRUNCATE;
+	/**
+	 * Maximum number of records kept in the in-process tier in front of Aerospike, zero disables the tier.
+	 * Local puts, evicts and clears invalidate the tier, changes made by other processes are seen
+	 * once the local record outlives {@link #localCacheTimeToLive}.
+	 */
+	@Builder.Default
+	int localCacheSize = 0;
+	/**
+	 * Time a record is kept in the in-process tier after it was read from Aerospike.
+	 */
+	@Builder.Default
+	Duration localCacheTimeToLive = Duration.ofSeconds(10);
+	/**
+	 * Codec storing values in a single bin. If null, caches of the cache manager map values to bins
+	 * with its converter and caches created directly store values as they are. Records not holding encoded bytes,
+	 * e.g. written before the codec was set, are treated as missing.
+	 */
+	CacheValueCodec valueCodec;
+
+	public static AerospikeCacheConfiguration defaultCacheConfiguration() {
+		return builder().build();
+	}
+
+	public enum ClearMode {
+		/**
+		 * Truncates the set of the cache on the server, removing all records of the set.
+		 */
+		TRUNCATE,
+		/**
+		 * Increments an epoch number stored in a separate record, records written in a previous epoch are
+		 * treated as missing and removed once they expire. Suits caches sharing a set with other records
+		 * and clears in constant time, at the cost of reading the epoch on every read and write.
+		 */
+		EPOCH
+	}
+}
@@ -17,9 +17,9 @@
 package org.springframework.data.aerospike.cache;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.Record;
-import com.aerospike.client.policy.WritePolicy;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.SimpleValueWrapper;
@@ -53,6 +53,8 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	private final AerospikeConverter aerospikeConverter;
 	private final String setName;
 	private final Set<String> configuredCacheNames;
+	private final AerospikeCacheConfiguration defaultCacheConfiguration;
+	private final Map<String, AerospikeCacheConfiguration> cacheConfigurations;
 
 	/**
 	 * Create a new {@link AerospikeCacheManager} instance with no caches and with the
@@ -101,13 +103,56 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	 */
 	public AerospikeCacheManager(AerospikeClient aerospikeClient,
 								 Collection<String> cacheNames, String setName, MappingAerospikeConverter aerospikeConverter) {
+		this(aerospikeClient, aerospikeConverter, toDefaultConfiguration(setName), toConfigurations(cacheNames));
+	}
+
+	/**
+	 * Create a new {@link AerospikeCacheManager} instance with the specified caches and configurations.
+	 * Caches that are not configured are created with the default configuration when they are requested.
+	 * 
+	 * @param aerospikeClient the {@link AerospikeClient} instance.
+	 * @param aerospikeConverter
+	 * @param defaultCacheConfiguration the configuration of caches without own configuration,
+	 * the set name "aerospike" is used if it has no set name.
+	 * @param cacheConfigurations the caches to create and their configurations,
+	 * the set name of the default configuration is used if a configuration has no set name.
+	 */
+	public AerospikeCacheManager(AerospikeClient aerospikeClient, MappingAerospikeConverter aerospikeConverter,
+								 AerospikeCacheConfiguration defaultCacheConfiguration,
+								 Map<String, AerospikeCacheConfiguration> cacheConfigurations) {
 		Assert.notNull(aerospikeClient, "AerospikeClient must not be null");
-		Assert.notNull(cacheNames, "Cache names must not be null");
-		Assert.notNull(setName, "Set name must not be null");
+		Assert.notNull(defaultCacheConfiguration, "Default cache configuration must not be null");
+		Assert.notNull(cacheConfigurations, "Cache configurations must not be null");
 		this.aerospikeClient = aerospikeClient;
 		this.aerospikeConverter = aerospikeConverter;
-		this.setName = setName;
-		this.configuredCacheNames = new LinkedHashSet<String>(cacheNames);
+		this.setName = defaultCacheConfiguration.getSetName() != null
+				? defaultCacheConfiguration.getSetName() : DEFAULT_SET_NAME;
+		this.defaultCacheConfiguration = defaultCacheConfiguration.toBuilder().setName(this.setName).build();
+		this.configuredCacheNames = new LinkedHashSet<String>(cacheConfigurations.keySet());
+		this.cacheConfigurations = new HashMap<String, AerospikeCacheConfiguration>();
+		cacheConfigurations.forEach((name, configuration) -> this.cacheConfigurations.put(name,
+				configuration.getSetName() != null ? configuration : configuration.toBuilder().setName(this.setName).build()));
+	}
+
+	private static AerospikeCacheConfiguration toDefaultConfiguration(String setName) {
+		Assert.notNull(setName, "Set name must not be null");
+		return AerospikeCacheConfiguration.builder().setName(setName).build();
+	}
+
+	private static Map<String, AerospikeCacheConfiguration> toConfigurations(Collection<String> cacheNames) {
+		Assert.notNull(cacheNames, "Cache names must not be null");
+		Map<String, AerospikeCacheConfiguration> configurations = new LinkedHashMap<String, AerospikeCacheConfiguration>();
+		for (String cacheName : cacheNames) {
+			configurations.put(cacheName, AerospikeCacheConfiguration.defaultCacheConfiguration());
+		}
+		return configurations;
+	}
+
+	/**
+	 * @return configuration of the cache, the default configuration if the cache has no own configuration.
+	 */
+	public AerospikeCacheConfiguration getCacheConfiguration(String cacheName) {
+		return cacheConfigurations.getOrDefault(cacheName, defaultCacheConfiguration);
 	}
 
 	@Override
@@ -125,7 +170,7 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	}
 
 	protected AerospikeCache createCache(String cacheName) {
-		return new AerospikeSerializingCache(cacheName);
+		return new AerospikeSerializingCache(cacheName, getCacheConfiguration(cacheName));
 	}
 
 	@Override
@@ -145,7 +190,7 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	}
 
 	protected Cache lookupAerospikeCache(String name) {
-		return lookupCache(name + ":" + setName);
+		return lookupCache(name + ":" + getCacheConfiguration(name).getSetName());
 	}
 
 	@Override
@@ -163,19 +208,21 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 	public class AerospikeSerializingCache extends AerospikeCache {
 
 		public AerospikeSerializingCache(String namespace) {
-			super(namespace, setName, aerospikeClient, -1);
+			this(namespace, defaultCacheConfiguration);
+		}
+
+		public AerospikeSerializingCache(String namespace, AerospikeCacheConfiguration configuration) {
+			super(namespace, configuration.getSetName() != null ? configuration.getSetName() : setName,
+					aerospikeClient, configuration);
 		}
 
 		@Override
-		public <T> T get(Object key, Class<T> type) {
-			Key dbKey = getKey(key);
-			Record record =  client.get(null, dbKey);
-			if (record != null) {
-				AerospikeReadData data = AerospikeReadData.forRead(dbKey, record);
-				T value = aerospikeConverter.read(type,  data);
-				return value;
+		protected <T> T toValue(Key key, Record record, Class<T> type) {
+			if (valueCodec != null) {
+				return super.toValue(key, record, type);
 			}
-			return null;
+			AerospikeReadData data = AerospikeReadData.forRead(key, record);
+			return aerospikeConverter.read(type, data);
 		}
 
 		@Override
@@ -184,21 +231,14 @@ public class AerospikeCacheManager extends AbstractTransactionSupportingCacheMan
 			return (value != null ? new SimpleValueWrapper(value) : null);
 		}
 
-		private void serializeAndPut(WritePolicy writePolicy, Object key, Object value) {
+		@Override
+		protected Bin[] toBins(Object value) {
+			if (valueCodec != null) {
+				return super.toBins(value);
+			}
 			AerospikeWriteData data = AerospikeWriteData.forWrite();
 			aerospikeConverter.write(value, data);
-			client.put(writePolicy, getKey(key), data.getBinsAsArray());
-		}
-
-		@Override
-		public void put(Object key, Object value) {
-			serializeAndPut(null, key, value);
-		}
-
-		@Override
-		public ValueWrapper putIfAbsent(Object key, Object value) {
-			serializeAndPut(createOnly, key, value);
-			return get(key);
+			return data.getBinsAsArray();
 		}
 	}
 
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Codec writing values in a length-prefixed binary format without Java serialization, so that decoding can not
+ * instantiate arbitrary classes. Supports strings, primitive wrappers, {@link BigInteger}, {@link BigDecimal},
+ * byte arrays and lists, sets and maps of these; any other value fails with a {@link SerializationFailedException}.
+ * <p>
+ * Every value starts with a one byte type tag; strings, numbers of arbitrary precision, byte arrays and collections
+ * are prefixed by their length. Lists decode as {@link ArrayList}, sets as {@link LinkedHashSet} and maps as
+ * {@link LinkedHashMap}.
+ */
+public class BinaryCacheValueCodec implements CacheValueCodec {
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte CHARACTER = 5;
+	private static final byte INTEGER = 6;
+	private static final byte LONG = 7;
+	private static final byte FLOAT = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte BIG_INTEGER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BYTES = 12;
+	private static final byte LIST = 13;
+	private static final byte SET = 14;
+	private static final byte MAP = 15;
+
+	@Override
+	public byte[] encode(Object value) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			write(out, value);
+		} catch (IOException e) {
+			throw new SerializationFailedException("Failed to encode cache value", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Object decode(byte[] bytes) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			Object value = read(in);
+			if (in.read() != -1) {
+				throw new SerializationFailedException("Trailing bytes after cache value");
+			}
+			return value;
+		} catch (IOException e) {
+			throw new SerializationFailedException("Failed to decode cache value", e);
+		}
+	}
+
+	private static void write(DataOutputStream out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof Byte) {
+			out.writeByte(BYTE);
+			out.writeByte((Byte) value);
+		} else if (value instanceof Short) {
+			out.writeByte(SHORT);
+			out.writeShort((Short) value);
+		} else if (value instanceof Character) {
+			out.writeByte(CHARACTER);
+			out.writeChar((Character) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			out.writeByte(FLOAT);
+			out.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof BigInteger) {
+			out.writeByte(BIG_INTEGER);
+			writeBytes(out, ((BigInteger) value).toByteArray());
+		} else if (value instanceof BigDecimal) {
+			out.writeByte(BIG_DECIMAL);
+			out.writeInt(((BigDecimal) value).scale());
+			writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+		} else if (value instanceof byte[]) {
+			out.writeByte(BYTES);
+			writeBytes(out, (byte[]) value);
+		} else if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			out.writeByte(value instanceof Set ? SET : LIST);
+			out.writeInt(collection.size());
+			for (Object element : collection) {
+				write(out, element);
+			}
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			out.writeByte(MAP);
+			out.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				write(out, entry.getKey());
+				write(out, entry.getValue());
+			}
+		} else {
+			throw new SerializationFailedException("Unsupported cache value type: " + value.getClass().getName());
+		}
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static Object read(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+			case NULL:
+				return null;
+			case STRING:
+				return new String(readBytes(in), StandardCharsets.UTF_8);
+			case BOOLEAN:
+				return in.readBoolean();
+			case BYTE:
+				return in.readByte();
+			case SHORT:
+				return in.readShort();
+			case CHARACTER:
+				return in.readChar();
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case FLOAT:
+				return in.readFloat();
+			case DOUBLE:
+				return in.readDouble();
+			case BIG_INTEGER:
+				return new BigInteger(readBytes(in));
+			case BIG_DECIMAL:
+				int scale = in.readInt();
+				return new BigDecimal(new BigInteger(readBytes(in)), scale);
+			case BYTES:
+				return readBytes(in);
+			case LIST: {
+				int size = readLength(in);
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(read(in));
+				}
+				return list;
+			}
+			case SET: {
+				int size = readLength(in);
+				Set<Object> set = new LinkedHashSet<>();
+				for (int i = 0; i < size; i++) {
+					set.add(read(in));
+				}
+				return set;
+			}
+			case MAP: {
+				int size = readLength(in);
+				Map<Object, Object> map = new LinkedHashMap<>();
+				for (int i = 0; i < size; i++) {
+					map.put(read(in), read(in));
+				}
+				return map;
+			}
+			default:
+				throw new SerializationFailedException("Unknown cache value type: " + type);
+		}
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readLength(in)];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Reads a length checked against the remaining bytes, so that a corrupt length fails instead of allocating.
+	 */
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new SerializationFailedException("Invalid length of cache value: " + length);
+		}
+		return length;
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+/**
+ * Encodes cache values into the bytes of a single bin, replacing the mapping of values to bins by the converter.
+ *
+ * @see AerospikeCacheConfiguration#getValueCodec()
+ */
+public interface CacheValueCodec {
+
+	byte[] encode(Object value);
+
+	Object decode(byte[] bytes);
+}
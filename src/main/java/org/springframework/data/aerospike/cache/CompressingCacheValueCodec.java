@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Codec deflating the values encoded by another codec once they reach a size threshold.
+ * The first byte of the encoded value tells whether the rest is deflated, values that do not get smaller
+ * are stored as they are.
+ */
+public class CompressingCacheValueCodec implements CacheValueCodec {
+
+	private static final byte PLAIN = 0;
+	private static final byte DEFLATED = 1;
+
+	private final CacheValueCodec delegate;
+	private final int threshold;
+
+	/**
+	 * @param delegate  codec encoding the values
+	 * @param threshold size in bytes from which encoded values are deflated
+	 */
+	public CompressingCacheValueCodec(CacheValueCodec delegate, int threshold) {
+		Assert.notNull(delegate, "Delegate must not be null!");
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative");
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public byte[] encode(Object value) {
+		byte[] encoded = delegate.encode(value);
+		if (encoded.length >= threshold) {
+			byte[] deflated = deflate(encoded);
+			if (deflated.length < encoded.length) {
+				return withHeader(DEFLATED, deflated);
+			}
+		}
+		return withHeader(PLAIN, encoded);
+	}
+
+	@Override
+	public Object decode(byte[] bytes) {
+		Assert.isTrue(bytes.length > 0, "Encoded value must not be empty");
+		switch (bytes[0]) {
+			case PLAIN:
+				return delegate.decode(Arrays.copyOfRange(bytes, 1, bytes.length));
+			case DEFLATED:
+				return delegate.decode(inflate(bytes));
+			default:
+				throw new SerializationFailedException("Unknown header of encoded value: " + bytes[0]);
+		}
+	}
+
+	private static byte[] withHeader(byte header, byte[] bytes) {
+		byte[] result = new byte[bytes.length + 1];
+		result[0] = header;
+		System.arraycopy(bytes, 0, result, 1, bytes.length);
+		return result;
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+			byte[] buffer = new byte[4096];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] bytes) {
+		try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+			return StreamUtils.copyToByteArray(in);
+		} catch (IOException e) {
+			throw new SerializationFailedException("Failed to inflate encoded value", e);
+		}
+	}
+}
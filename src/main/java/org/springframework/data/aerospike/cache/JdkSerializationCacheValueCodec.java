@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Codec writing values with Java serialization, values must implement {@link java.io.Serializable}.
+ * <p>
+ * Decoding instantiates the classes named in the cached bytes, so a codec reading records other processes can write
+ * should be given the allowed classes, see {@link #JdkSerializationCacheValueCodec(ClassLoader, Collection)}, or be
+ * replaced by {@link BinaryCacheValueCodec}.
+ */
+public class JdkSerializationCacheValueCodec implements CacheValueCodec {
+
+	private static final Set<String> ALWAYS_ALLOWED = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			String.class.getName(), Number.class.getName(), Enum.class.getName(), Boolean.class.getName(),
+			Byte.class.getName(), Short.class.getName(), Character.class.getName(), Integer.class.getName(),
+			Long.class.getName(), Float.class.getName(), Double.class.getName(),
+			BigInteger.class.getName(), BigDecimal.class.getName())));
+
+	private final SerializingConverter serializer = new SerializingConverter();
+	private final DeserializingConverter deserializer;
+	private final ClassLoader classLoader;
+	private final Collection<String> allowedClasses;
+
+	public JdkSerializationCacheValueCodec() {
+		this.deserializer = new DeserializingConverter();
+		this.classLoader = null;
+		this.allowedClasses = null;
+	}
+
+	/**
+	 * @param classLoader class loader resolving the classes of decoded values
+	 */
+	public JdkSerializationCacheValueCodec(ClassLoader classLoader) {
+		this.deserializer = new DeserializingConverter(classLoader);
+		this.classLoader = classLoader;
+		this.allowedClasses = null;
+	}
+
+	/**
+	 * @param classLoader class loader resolving the classes of decoded values
+	 * @param allowedClasses names of the classes decoded values may consist of, a name ending with {@code .*} allows
+	 * every class of the package and its subpackages. Strings, primitives, their wrappers, {@link java.math.BigInteger}
+	 * and {@link java.math.BigDecimal} are always allowed, collections have to be listed, e.g. {@code java.util.ArrayList}.
+	 * Decoding any other class fails with a {@link SerializationFailedException}.
+	 */
+	public JdkSerializationCacheValueCodec(ClassLoader classLoader, Collection<String> allowedClasses) {
+		this.deserializer = null;
+		this.classLoader = classLoader;
+		this.allowedClasses = Collections.unmodifiableList(new ArrayList<>(allowedClasses));
+	}
+
+	@Override
+	public byte[] encode(Object value) {
+		return serializer.convert(value);
+	}
+
+	@Override
+	public Object decode(byte[] bytes) {
+		if (allowedClasses == null) {
+			return deserializer.convert(bytes);
+		}
+		try (ObjectInputStream in = new AllowListObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new SerializationFailedException("Failed to deserialize payload", e);
+		}
+	}
+
+	private boolean isAllowed(String className) {
+		String name = className;
+		while (name.startsWith("[")) {
+			name = name.substring(1);
+		}
+		if (name.length() == 1) {
+			return true; // primitive array
+		}
+		if (name.startsWith("L") && name.endsWith(";")) {
+			name = name.substring(1, name.length() - 1);
+		}
+		if (ALWAYS_ALLOWED.contains(name)) {
+			return true;
+		}
+		for (String allowed : allowedClasses) {
+			if (allowed.endsWith(".*") ? name.startsWith(allowed.substring(0, allowed.length() - 1)) : name.equals(allowed)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private class AllowListObjectInputStream extends ConfigurableObjectInputStream {
+
+		AllowListObjectInputStream(InputStream in) throws IOException {
+			super(in, classLoader);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass classDesc) throws IOException, ClassNotFoundException {
+			if (!isAllowed(classDesc.getName())) {
+				throw new InvalidClassException(classDesc.getName(), "Class is not allowed to be decoded");
+			}
+			return super.resolveClass(classDesc);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+			for (String name : interfaces) {
+				if (!isAllowed(name)) {
+					throw new InvalidClassException(name, "Class is not allowed to be decoded");
+				}
+			}
+			return super.resolveProxyClass(interfaces);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+/**
+ * In-process tier of an {@link AerospikeCache} holding the most recently read records for a limited time.
+ * Records are evicted in least recently used order once the size is exceeded.
+ * <p>
+ * Every invalidation increments a version, a record read from the server is only stored if no invalidation happened
+ * since the read started, so a concurrent put or evict is not overwritten by the value read before it.
+ */
+class LocalRecordCache {
+
+	private final long timeToLiveNanos;
+	private final LongSupplier nanoTime;
+	private final Map<Key, Entry> entries;
+	private long version;
+
+	LocalRecordCache(int maxSize, long timeToLiveNanos) {
+		this(maxSize, timeToLiveNanos, System::nanoTime);
+	}
+
+	LocalRecordCache(int maxSize, long timeToLiveNanos, LongSupplier nanoTime) {
+		this.timeToLiveNanos = timeToLiveNanos;
+		this.nanoTime = nanoTime;
+		this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	synchronized Record get(Key key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (nanoTime.getAsLong() - entry.storedAt >= timeToLiveNanos) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.record;
+	}
+
+	/**
+	 * @return version to pass to {@link #put(Key, Record, long)} for a record read after this call.
+	 */
+	synchronized long version() {
+		return version;
+	}
+
+	synchronized void put(Key key, Record record, long readVersion) {
+		if (readVersion == version) {
+			entries.put(key, new Entry(record, nanoTime.getAsLong()));
+		}
+	}
+
+	synchronized void invalidate(Key key) {
+		version++;
+		entries.remove(key);
+	}
+
+	synchronized void clear() {
+		version++;
+		entries.clear();
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	private static class Entry {
+
+		private final Record record;
+		private final long storedAt;
+
+		private Entry(Record record, long storedAt) {
+			this.record = record;
+			this.storedAt = storedAt;
+		}
+	}
+}
@@ -34,21 +34,29 @@ import org.springframework.data.aerospike.query.cache.InternalIndexOperations;
 @Configuration
 public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataConfigurationSupport {
 
-    @Bean(name = "aerospikeTemplate")
+    @Bean(name = "aerospikeTemplate", destroyMethod = "destroy")
     public AerospikeTemplate aerospikeTemplate(AerospikeClient aerospikeClient,
                                                MappingAerospikeConverter mappingAerospikeConverter,
                                                AerospikeMappingContext aerospikeMappingContext,
                                                AerospikeExceptionTranslator aerospikeExceptionTranslator,
                                                QueryEngine queryEngine, IndexRefresher indexRefresher) {
-        return new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
+        AerospikeTemplate template = new AerospikeTemplate(aerospikeClient, nameSpace(), mappingAerospikeConverter,
                 aerospikeMappingContext, aerospikeExceptionTranslator, queryEngine, indexRefresher);
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        template.setBatchWriteConcurrency(settings.getBatchWriteConcurrency());
+        template.setSortMaxRecordsInMemory(settings.getSortMaxRecordsInMemory());
+        template.setMetrics(aerospikeMetrics());
+        return template;
     }
 
-    @Bean(name = "aerospikeQueryEngine")
+    @Bean(name = "aerospikeQueryEngine", destroyMethod = "destroy")
     public QueryEngine queryEngine(AerospikeClient aerospikeClient,
                                    StatementBuilder statementBuilder) {
         QueryEngine queryEngine = new QueryEngine(aerospikeClient, statementBuilder, aerospikeClient.getQueryPolicyDefault());
-        queryEngine.setScansEnabled(aerospikeDataSettings().isScansEnabled());
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        queryEngine.setScansEnabled(settings.isScansEnabled());
+        queryEngine.setParallelism(settings.getQueryParallelism());
+        queryEngine.setMetrics(aerospikeMetrics());
         return queryEngine;
     }
 
@@ -58,10 +66,16 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
         return new AerospikePersistenceEntityIndexCreator(aerospikeMappingContext, template);
     }
 
-    @Bean(name = "aerospikeIndexRefresher")
+    @Bean(name = "aerospikeIndexRefresher", destroyMethod = "destroy")
     public IndexRefresher indexRefresher(AerospikeClient aerospikeClient, IndexesCacheUpdater indexesCacheUpdater) {
         IndexRefresher refresher = new IndexRefresher(aerospikeClient, aerospikeClient.getInfoPolicyDefault(), new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater);
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        refresher.setParallelism(settings.getQueryParallelism());
         refresher.refreshIndexes();
+        if (!settings.getIndexRefreshInterval().isZero()) {
+            refresher.startRefreshing(settings.getIndexRefreshInterval(), settings.getIndexRefreshJitter(),
+                    settings.getIndexRefreshMaxBackoff());
+        }
         return refresher;
     }
 }
@@ -48,8 +48,15 @@ public abstract class AbstractReactiveAerospikeDataConfiguration extends Aerospi
                                                                AerospikeExceptionTranslator aerospikeExceptionTranslator,
                                                                AerospikeReactorClient aerospikeReactorClient,
                                                                ReactorQueryEngine reactorQueryEngine, ReactorIndexRefresher reactorIndexRefresher) {
-        return new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(), mappingAerospikeConverter, aerospikeMappingContext,
-                aerospikeExceptionTranslator, reactorQueryEngine, reactorIndexRefresher);
+        ReactiveAerospikeTemplate template = new ReactiveAerospikeTemplate(aerospikeReactorClient, nameSpace(), mappingAerospikeConverter,
+                aerospikeMappingContext, aerospikeExceptionTranslator, reactorQueryEngine, reactorIndexRefresher);
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        template.setBatchWriteConcurrency(settings.getBatchWriteConcurrency());
+        template.setBatchReadSize(settings.getBatchReadSize());
+        template.setBatchReadConcurrency(settings.getBatchReadConcurrency());
+        template.setBatchReadOrdered(settings.isBatchReadOrdered());
+        template.setMetrics(aerospikeMetrics());
+        return template;
     }
 
     @Bean(name = "reactiveAerospikeQueryEngine")
@@ -57,14 +64,22 @@ public abstract class AbstractReactiveAerospikeDataConfiguration extends Aerospi
                                                  StatementBuilder statementBuilder) {
         ReactorQueryEngine queryEngine = new ReactorQueryEngine(aerospikeReactorClient, statementBuilder, aerospikeReactorClient.getQueryPolicyDefault());
         queryEngine.setScansEnabled(aerospikeDataSettings().isScansEnabled());
+        queryEngine.setMetrics(aerospikeMetrics());
+        queryEngine.setBlockingClient(aerospikeClient());
         return queryEngine;
     }
 
-    @Bean(name = "reactiveAerospikeIndexRefresher")
+    @Bean(name = "reactiveAerospikeIndexRefresher", destroyMethod = "stopRefreshing")
     public ReactorIndexRefresher reactorIndexRefresher(AerospikeReactorClient aerospikeReactorClient, IndexesCacheUpdater indexesCacheUpdater) {
         ReactorIndexRefresher refresher = new ReactorIndexRefresher(aerospikeReactorClient, aerospikeReactorClient.getInfoPolicyDefault(),
                 new InternalIndexOperations(new IndexInfoParser()), indexesCacheUpdater);
+        refresher.setBlockingClient(aerospikeClient());
         refresher.refreshIndexes().block();
+        AerospikeDataSettings settings = aerospikeDataSettings();
+        if (!settings.getIndexRefreshInterval().isZero()) {
+            refresher.startRefreshing(settings.getIndexRefreshInterval(), settings.getIndexRefreshJitter(),
+                    settings.getIndexRefreshMaxBackoff());
+        }
         return refresher;
     }
 
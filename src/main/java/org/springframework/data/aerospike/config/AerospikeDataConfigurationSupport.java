@@ -31,6 +31,7 @@ import org.springframework.data.aerospike.core.DefaultAerospikeExceptionTranslat
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
 import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
 import org.springframework.data.aerospike.query.StatementBuilder;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
@@ -95,6 +96,15 @@ public abstract class AerospikeDataConfigurationSupport {
         return new DefaultAerospikeExceptionTranslator();
     }
 
+    /**
+     * Metrics of templates and query engines, override to publish them,
+     * for example by returning {@link org.springframework.data.aerospike.metrics.MicrometerAerospikeMetrics}.
+     */
+    @Bean(name = "aerospikeMetrics")
+    public AerospikeMetrics aerospikeMetrics() {
+        return AerospikeMetrics.NOOP;
+    }
+
     @Bean(name = "aerospikeClient", destroyMethod = "close")
     public AerospikeClient aerospikeClient() {
         Collection<Host> hosts = getHosts();
@@ -18,10 +18,60 @@ package org.springframework.data.aerospike.config;
 import lombok.Builder;
 import lombok.Value;
 
+import java.time.Duration;
+
 @Builder
 @Value
 public class AerospikeDataSettings {
 
 	@Builder.Default
 	boolean scansEnabled = false;
+	/**
+	 * Maximum amount of single-record writes in flight per batch write operation.
+	 */
+	@Builder.Default
+	int batchWriteConcurrency = 8;
+	/**
+	 * Amount of ids read per batch request by reactive reads by ids (e.g. findAllById).
+	 */
+	@Builder.Default
+	int batchReadSize = 1000;
+	/**
+	 * Maximum amount of batch requests in flight per reactive read by ids.
+	 */
+	@Builder.Default
+	int batchReadConcurrency = 8;
+	/**
+	 * Whether reactive reads by ids emit documents in the order of the given ids.
+	 */
+	@Builder.Default
+	boolean batchReadOrdered = false;
+	/**
+	 * Amount of partition ranges a scan is split into when documents are read in parallel (e.g. findAllInParallel),
+	 * also the amount of threads reading them and of concurrent info requests loading indexes.
+	 */
+	@Builder.Default
+	int queryParallelism = Runtime.getRuntime().availableProcessors();
+	/**
+	 * Maximum amount of records a sorted query keeps in memory, larger results are sorted using temporary files.
+	 */
+	@Builder.Default
+	int sortMaxRecordsInMemory = 100_000;
+	/**
+	 * Interval of periodic refreshes of the secondary indexes used by queries, so that indexes created or removed
+	 * by other applications are picked up. Zero disables periodic refreshes, indexes are then only refreshed
+	 * on startup and when they are created or deleted by a template.
+	 */
+	@Builder.Default
+	Duration indexRefreshInterval = Duration.ZERO;
+	/**
+	 * Maximum random delay added to the index refresh interval.
+	 */
+	@Builder.Default
+	Duration indexRefreshJitter = Duration.ZERO;
+	/**
+	 * Maximum interval between index refreshes after consecutive failures, the interval doubles with every failure.
+	 */
+	@Builder.Default
+	Duration indexRefreshMaxBackoff = Duration.ofMinutes(10);
 }
@@ -48,6 +48,15 @@ public class AerospikeReadData {
 		return new AerospikeReadData(key, record.bins, record.getTimeToLive(), record.generation);
 	}
 
+	/**
+	 * Data of a map returned by an aggregation, which has no key and no metadata.
+	 */
+	public static AerospikeReadData forAggregationResult(Map<String, Object> result) {
+		Assert.notNull(result, "Result must not be null");
+
+		return new AerospikeReadData(null, result, 0, 0);
+	}
+
 	public Map<String, Object> getRecord() {
 		return record;
 	}
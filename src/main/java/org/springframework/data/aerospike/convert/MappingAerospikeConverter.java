@@ -25,6 +25,7 @@ import org.springframework.data.convert.DefaultTypeMapper;
 import org.springframework.data.convert.SimpleTypeInformationMapper;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.util.TypeInformation;
 
 import java.util.Map;
 
@@ -85,4 +86,14 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 		writeConverter.write(source, sink);
 	}
 
+	/**
+	 * Converts a value of a property of the given type into the form it is stored in a bin, applying custom
+	 * conversions and mapping nested objects the same way entities are written.
+	 *
+	 * @return the value to write or null if the value is null
+	 */
+	public Object convertToWritableValue(Object value, TypeInformation<?> type) {
+		return writeConverter.convertToWritableValue(value, type);
+	}
+
 }
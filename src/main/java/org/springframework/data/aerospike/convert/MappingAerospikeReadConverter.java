@@ -30,7 +30,6 @@ import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
@@ -38,12 +37,15 @@ import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.springframework.data.aerospike.convert.AerospikeMetaData.USER_KEY;
 import static org.springframework.data.aerospike.utility.TimeUtils.offsetInSecondsToUnixTime;
@@ -56,6 +58,7 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 	private final AerospikeMappingContext mappingContext;
 	private final CustomConversions conversions;
 	private final GenericConversionService conversionService;
+	private final Map<Class<?>, EntityReadPlan> readPlans = new ConcurrentHashMap<>();
 
 	public MappingAerospikeReadConverter(EntityInstantiators entityInstantiators,
 										 TypeAliasAccessor<Map<String, Object>> typeAliasAccessor,
@@ -89,9 +92,8 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 
 		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeToUse);
 		RecordReadingPropertyValueProvider propertyValueProvider = new RecordReadingPropertyValueProvider(data);
-		ConvertingPropertyAccessor<?> accessor = getConvertingPropertyAccessor(entity, propertyValueProvider);
 
-		return convertProperties(entity, propertyValueProvider, accessor);
+		return readEntity(entity, propertyValueProvider);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -103,24 +105,24 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 	}
 
 	@SuppressWarnings("unchecked")
-	private <R> R convertProperties(AerospikePersistentEntity<?> entity,
-									RecordReadingPropertyValueProvider propertyValueProvider,
-									PersistentPropertyAccessor<?> accessor) {
-		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) persistentProperty -> {
-
-			PreferredConstructor<?, AerospikePersistentProperty> constructor = entity.getPersistenceConstructor();
-
-			if (constructor.isConstructorParameter(persistentProperty)) {
-				return;
-			}
-
-			Object value = propertyValueProvider.getPropertyValue(persistentProperty);
-
-			if (persistentProperty.getType().isPrimitive() && value == null) {
-				return;
+	private <R> R readEntity(AerospikePersistentEntity<?> entity, RecordReadingPropertyValueProvider propertyValueProvider) {
+		EntityReadPlan plan = readPlans.computeIfAbsent(entity.getType(), type -> new EntityReadPlan(entity));
+		Object instance = plan.instantiator.createInstance(entity,
+				new PersistentEntityParameterValueProvider<>(entity, propertyValueProvider, null));
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+		for (PropertyReadPlan property : plan.properties) {
+			Object value = propertyValueProvider.getPropertyValue(property.property);
+			if (value == null) {
+				if (!property.primitive) {
+					accessor.setProperty(property.property, null);
+				}
+			} else if (property.assignableType.isInstance(value)) {
+				accessor.setProperty(property.property, value);
+			} else {
+				accessor.setProperty(property.property, conversionService.convert(value, property.type));
 			}
-			accessor.setProperty(persistentProperty, value);
-		});
+		}
 
 		return (R) accessor.getBean();
 	}
@@ -160,8 +162,7 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 			return (T) source;
 		}
 		RecordReadingPropertyValueProvider propertyValueProvider = new RecordReadingPropertyValueProvider(source);
-		PersistentPropertyAccessor<?> persistentPropertyAccessor = getConvertingPropertyAccessor(entity, propertyValueProvider);
-		return convertProperties(entity, propertyValueProvider, persistentPropertyAccessor);
+		return readEntity(entity, propertyValueProvider);
 	}
 
 	private boolean shouldDefaultToMap(Map<String, Object> source, AerospikePersistentEntity<?> entity) {
@@ -209,15 +210,6 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 		return targetClass.isAssignableFrom(value.getClass()) ? value : conversionService.convert(value, targetClass);
 	}
 
-	private ConvertingPropertyAccessor<Object> getConvertingPropertyAccessor(AerospikePersistentEntity<?> entity,
-																	 RecordReadingPropertyValueProvider recordReadingPropertyValueProvider) {
-		EntityInstantiator instantiator = entityInstantiators.getInstantiatorFor(entity);
-		Object instance = instantiator.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
-				recordReadingPropertyValueProvider, null));
-
-		return new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance), conversionService);
-	}
-
 	@SuppressWarnings("unchecked")
 	private <T> T getExpiration(int expiration, AerospikePersistentProperty property) {
 		if (property.isExpirationSpecifiedAsUnixTime()) {
@@ -231,6 +223,43 @@ public class MappingAerospikeReadConverter implements EntityReader<Object, Aeros
 		return (T) convertIfNeeded(generation, property.getType());
 	}
 
+	/**
+	 * Everything needed to read an entity that does not depend on the record: the instantiator and the properties
+	 * that are not set via constructor, together with their resolved types.
+	 * Built once per entity type, so reading a record does not walk the entity metadata again.
+	 */
+	private class EntityReadPlan {
+
+		private final EntityInstantiator instantiator;
+		private final List<PropertyReadPlan> properties = new ArrayList<>();
+
+		private EntityReadPlan(AerospikePersistentEntity<?> entity) {
+			this.instantiator = entityInstantiators.getInstantiatorFor(entity);
+			PreferredConstructor<?, AerospikePersistentProperty> constructor = entity.getPersistenceConstructor();
+			entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+				if (constructor == null || !constructor.isConstructorParameter(property)) {
+					properties.add(new PropertyReadPlan(property));
+				}
+			});
+		}
+	}
+
+	private static class PropertyReadPlan {
+
+		private final AerospikePersistentProperty property;
+		private final Class<?> type;
+		// wrapper type for primitives, values of this type are set without conversion
+		private final Class<?> assignableType;
+		private final boolean primitive;
+
+		private PropertyReadPlan(AerospikePersistentProperty property) {
+			this.property = property;
+			this.type = property.getType();
+			this.assignableType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			this.primitive = type.isPrimitive();
+		}
+	}
+
 	/**
 	 * A {@link PropertyValueProvider} to lookup values on the configured {@link Record}.
 	 *
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.aerospike.convert;
 
+import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
@@ -31,12 +32,14 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.aerospike.convert.AerospikeMetaData.USER_KEY;
@@ -48,6 +51,7 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 	private final AerospikeMappingContext mappingContext;
 	private final CustomConversions conversions;
 	private final GenericConversionService conversionService;
+	private final Map<TypeInformation<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
 
 	public MappingAerospikeWriteConverter(TypeMapper<Map<String, Object>> typeMapper,
 										  AerospikeMappingContext mappingContext, CustomConversions conversions,
@@ -91,8 +95,25 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 
 		data.setExpiration(getExpiration(entity, accessor));
 
-		Map<String, Object> convertedProperties = convertProperties(type, entity, accessor);
-		convertedProperties.forEach(data::addBin);
+		EntityWritePlan plan = getWritePlan(type, entity);
+		plan.typeBins.forEach(data::add);
+		for (PropertyWritePlan property : plan.properties) {
+			Object valueToWrite = getValueToWrite(accessor.getProperty(property.property), property.type);
+			if (valueToWrite != null) {
+				data.addBin(property.binName, valueToWrite);
+			}
+		}
+	}
+
+	/**
+	 * Converts a property value the way it is written into a bin, see {@link MappingAerospikeConverter#convertToWritableValue(Object, TypeInformation)}.
+	 */
+	public Object convertToWritableValue(Object value, TypeInformation<?> type) {
+		return getValueToWrite(value, type);
+	}
+
+	private EntityWritePlan getWritePlan(TypeInformation<?> type, AerospikePersistentEntity<?> entity) {
+		return writePlans.computeIfAbsent(type, key -> new EntityWritePlan(type, entity));
 	}
 
 	private void convertToAerospikeWriteData(Object source, AerospikeWriteData data) {
@@ -104,19 +125,15 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 
 	private Map<String, Object> convertProperties(TypeInformation<?> type, AerospikePersistentEntity<?> entity,
 												  ConvertingPropertyAccessor<?> accessor) {
+		EntityWritePlan plan = getWritePlan(type, entity);
 		Map<String, Object> target = new HashMap<>();
-		typeMapper.writeType(type, target);
-		entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
-
-			Object value = accessor.getProperty(property);
-			if (isNotWritable(property)) {
-				return;
+		plan.typeBins.forEach(bin -> target.put(bin.name, bin.value.getObject()));
+		for (PropertyWritePlan property : plan.properties) {
+			Object valueToWrite = getValueToWrite(accessor.getProperty(property.property), property.type);
+			if (valueToWrite != null) {
+				target.put(property.binName, valueToWrite);
 			}
-			Object valueToWrite = getValueToWrite(value, property.getTypeInformation());
-			if(valueToWrite != null) {
-				target.put(property.getFieldName(), valueToWrite);
-			}
-		});
+		}
 		return target;
 	}
 
@@ -206,6 +223,42 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 		return source.getClass().isArray() ? CollectionUtils.arrayToList(source) : Collections.singleton(source);
 	}
 
+	/**
+	 * Bins describing the type and the writable properties of an entity, resolved once per type
+	 * instead of walking the entity metadata on every write.
+	 */
+	private class EntityWritePlan {
+
+		private final List<Bin> typeBins;
+		private final List<PropertyWritePlan> properties = new ArrayList<>();
+
+		private EntityWritePlan(TypeInformation<?> type, AerospikePersistentEntity<?> entity) {
+			Map<String, Object> typeInfo = new HashMap<>();
+			typeMapper.writeType(type, typeInfo);
+			this.typeBins = typeInfo.entrySet().stream()
+					.map(entry -> new Bin(entry.getKey(), entry.getValue()))
+					.collect(Collectors.toList());
+			entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+				if (!isNotWritable(property)) {
+					properties.add(new PropertyWritePlan(property));
+				}
+			});
+		}
+	}
+
+	private static class PropertyWritePlan {
+
+		private final AerospikePersistentProperty property;
+		private final String binName;
+		private final TypeInformation<?> type;
+
+		private PropertyWritePlan(AerospikePersistentProperty property) {
+			this.property = property;
+			this.binName = property.getFieldName();
+			this.type = property.getTypeInformation();
+		}
+	}
+
 	private int getExpiration(AerospikePersistentEntity<?> entity, ConvertingPropertyAccessor<?> accessor) {
 		AerospikePersistentProperty expirationProperty = entity.getExpirationProperty();
 		if (expirationProperty != null) {
@@ -22,12 +22,20 @@ import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.IndexAlreadyExistsException;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.query.CursorResult;
+import org.springframework.data.aerospike.query.PartitionCursor;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryPlan;
+import org.springframework.data.aerospike.query.Update;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -84,6 +92,36 @@ public interface AerospikeOperations {
 	 */
 	<T> void persist(T document, WritePolicy writePolicy);
 
+	/**
+	 * Insert documents using {@link com.aerospike.client.policy.RecordExistsAction#CREATE_ONLY} policy.
+	 * Documents are written in chunks of configured batch write size with bounded concurrency.
+	 * All documents are attempted, the exception of the first failed document is thrown afterwards.
+	 * @param documents The documents to insert.
+	 */
+	<T> void insertAll(Collection<? extends T> documents);
+
+	/**
+	 * Save documents following the rules of {@link #save(Object)}.
+	 * Documents are written in chunks of configured batch write size with bounded concurrency.
+	 * All documents are attempted, the exception of the first failed document is thrown afterwards.
+	 * @param documents The documents to save.
+	 */
+	<T> void saveAll(Iterable<? extends T> documents);
+
+	/**
+	 * Insert documents the same way as {@link #insertAll(Collection)}, but report per-document failures instead of throwing.
+	 * @param documents The documents to insert.
+	 * @return written documents and per-document failures.
+	 */
+	<T> BatchWriteResult<T> batchInsert(Collection<? extends T> documents);
+
+	/**
+	 * Save documents the same way as {@link #saveAll(Iterable)}, but report per-document failures instead of throwing.
+	 * @param documents The documents to save.
+	 * @return written documents and per-document failures.
+	 */
+	<T> BatchWriteResult<T> batchSave(Collection<? extends T> documents);
+
 	/**
 	 * Update operation using {@link com.aerospike.client.policy.RecordExistsAction#REPLACE_ONLY} policy
 	 * taking into consideration the version property of the document if it is present.
@@ -95,20 +133,115 @@ public interface AerospikeOperations {
 
 	<T> void delete(Class<T> entityClass);
 
+	/**
+	 * Applies the update to every document matching the query in a background query on the server,
+	 * documents are not transferred to the client. Expiration of the documents is kept, their version is incremented.
+	 * Near caches of the set are bypassed until the task is complete.
+	 * @param query The query selecting documents to update, must not have sort, offset or rows.
+	 * @param update Modifications of the document fields.
+	 * @param entityClass The class to extract the Aerospike set from and to map fields to bins.
+	 * @return handle of the background task to poll its status or wait for completion.
+	 */
+	<T> BackgroundTask updateAll(Query query, Update update, Class<T> entityClass);
+
+	/**
+	 * Deletes every document matching the query in a background query on the server,
+	 * documents are not transferred to the client. Near caches of the set are bypassed until the task is complete.
+	 * @param query The query selecting documents to delete, must not have sort, offset or rows.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @return handle of the background task to poll its status or wait for completion.
+	 */
+	<T> BackgroundTask deleteAll(Query query, Class<T> entityClass);
+
 	<T> boolean delete(Object id, Class<T> entityClass);
 	
 	<T> boolean delete(T objectToDelete);
 
 	<T> boolean exists(Object id, Class<T> entityClass);
+
+	/**
+	 * Checks whether the document exists and matches the qualifier. The qualifier is evaluated on the server.
+	 * @param id The id of the document.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @param qualifier Condition the record must match, e.g. {@code Criteria.getCriteriaObject()}.
+	 * @return whether a matching document exists.
+	 */
+	<T> boolean exists(Object id, Class<T> entityClass, Qualifier qualifier);
 	
 	<T> Stream<T> find(Query query, Class<T> entityClass);
+
+	/**
+	 * Find documents by query, reading only the bins needed by the target type.
+	 * @param query The query to execute.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @param targetClass Interface projection or DTO class to map the documents to.
+	 * Sort properties of the query must be exposed by the target type.
+	 * @return stream of projected documents.
+	 */
+	<T, S> Stream<S> find(Query query, Class<T> entityClass, Class<S> targetClass);
 	
 	<T> Stream<T> findAll(Class<T> entityClass);
 
+	/**
+	 * Find all documents of the given type, reading partition ranges concurrently.
+	 * The returned stream is parallel and must be closed after use.
+	 * @param entityClass The class to extract the Aerospike set from and to map the documents to.
+	 * @return parallel stream of all documents.
+	 */
+	<T> Stream<T> findAllInParallel(Class<T> entityClass);
+
+	/**
+	 * Find documents matching the query, running the query concurrently on partition ranges
+	 * (or on each cluster node for secondary index queries).
+	 * The returned stream is parallel and must be closed after use.
+	 * @param query The query to execute.
+	 * @param entityClass The class to extract the Aerospike set from and to map the documents to.
+	 * @return parallel stream of matching documents.
+	 */
+	<T> Stream<T> findInParallel(Query query, Class<T> entityClass);
+
 	<T> T findById(Object id, Class<T> entityClass);
 
 	<T> List<T> findByIds(Iterable<?> ids, Class<T> entityClass);
 
+	/**
+	 * Find a document by id if it matches the qualifier. The qualifier is evaluated on the server,
+	 * so the record is not transferred if it does not match.
+	 * @param id The id of the document.
+	 * @param entityClass The class to extract the Aerospike set from and to map the document to.
+	 * @param qualifier Condition the record must match, e.g. {@code Criteria.getCriteriaObject()}.
+	 * @return the document or null if it does not exist or does not match.
+	 */
+	<T> T findById(Object id, Class<T> entityClass, Qualifier qualifier);
+
+	/**
+	 * Find documents by ids that match the qualifier. The qualifier is evaluated on the server,
+	 * so records that do not match are not transferred.
+	 * @param ids The ids of the documents.
+	 * @param entityClass The class to extract the Aerospike set from and to map the documents to.
+	 * @param qualifier Condition the records must match, e.g. {@code Criteria.getCriteriaObject()}.
+	 * @return matching documents in the order of the ids.
+	 */
+	<T> List<T> findByIds(Iterable<?> ids, Class<T> entityClass, Qualifier qualifier);
+
+	/**
+	 * Find a document by id, reading only the bins needed by the target type.
+	 * @param id The id of the document.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @param targetClass Interface projection or DTO class to map the document to.
+	 * @return the projected document or null if it does not exist.
+	 */
+	<T, S> S findById(Object id, Class<T> entityClass, Class<S> targetClass);
+
+	/**
+	 * Find documents by ids, reading only the bins needed by the target type.
+	 * @param ids The ids of the documents.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @param targetClass Interface projection or DTO class to map the documents to.
+	 * @return projected documents in the order of the ids.
+	 */
+	<T, S> List<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass);
+
 	<T> T add(T objectToAddTo, Map<String, Long> values);
 	
 	<T> T add(T objectToAddTo, String binName, long value);
@@ -121,8 +254,37 @@ public interface AerospikeOperations {
 	
 	<T> T prepend(T objectToPrependTo, String binName, String value);
 	
+	/**
+	 * @deprecated since results are not mapped, use {@link #aggregate(Query, Class, Class, String, String, Value...)}.
+	 */
+	@Deprecated
 	<T> Iterable<T> aggregate(Filter filter, Class<T> entityClass, String module, String function, List<Value> arguments);
 
+	/**
+	 * Runs a stream UDF over documents matching the query. The stream must be closed after use,
+	 * closing it before it is exhausted stops the query on the server.
+	 * @param query The query selecting documents to aggregate.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @param resultType Type to map values returned by the function to. Maps are read by the converter
+	 * unless a map is requested, other values are converted.
+	 * @param module Lua module of the stream UDF, registered on the cluster.
+	 * @param function Function of the stream UDF.
+	 * @param arguments Arguments of the function.
+	 * @return stream of values returned by the function.
+	 */
+	<T, R> Stream<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType,
+							   String module, String function, Value... arguments);
+
+	/**
+	 * Runs a built-in aggregation over documents matching the query, see {@link Aggregation}.
+	 * @param query The query selecting documents to aggregate.
+	 * @param entityClass The class to extract the Aerospike set from and to map fields to bins.
+	 * @param resultType Type to map the result to, e.g. {@code Long} or {@code Map}.
+	 * @param aggregation The aggregation.
+	 * @return the result or empty if no document has the aggregated field.
+	 */
+	<T, R> Optional<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType, Aggregation aggregation);
+
 	/**
 	 * Execute operation against underlying store.
 	 * @param supplier must not be {@literal null}.
@@ -134,6 +296,37 @@ public interface AerospikeOperations {
 
 	<T> Stream<T> findInRange(long offset, long limit, Sort sort, Class<T> entityClass);
 
+	/**
+	 * Find a page of documents continuing from the given cursor.
+	 * Unlike {@link #findInRange(long, long, Sort, Class)} previous pages are not read again.
+	 * @param cursor Position to continue from, {@link PartitionCursor#START} for the first page.
+	 * @param limit Maximum amount of documents in the page.
+	 * @param entityClass The class to extract the Aerospike set from and to map the documents to.
+	 * @return documents of the page and the cursor of the next page.
+	 */
+	<T> CursorResult<T> findInRange(PartitionCursor cursor, int limit, Class<T> entityClass);
+
+	/**
+	 * Find a page of documents matching the query, continuing from the given cursor.
+	 * A query served by a secondary index is executed on the index.
+	 * Query offset and rows are ignored, sorted queries are not supported.
+	 * @param query The query to execute.
+	 * @param cursor Position to continue from, {@link PartitionCursor#START} for the first page.
+	 * @param limit Maximum amount of documents in the page.
+	 * @param entityClass The class to extract the Aerospike set from and to map the documents to.
+	 * @return documents of the page and the cursor of the next page.
+	 */
+	<T> CursorResult<T> find(Query query, PartitionCursor cursor, int limit, Class<T> entityClass);
+
+	/**
+	 * Explains how the query is executed: which criteria is served by a secondary index and estimated cost
+	 * of the indexes that could serve it. Nothing is sent to the server.
+	 * @param query The query to explain.
+	 * @param entityClass The class to extract the Aerospike set from.
+	 * @return plan of the query.
+	 */
+	<T> QueryPlan explain(Query query, Class<T> entityClass);
+
 	/**
 	 * Returns the amount of records in a query results.
 	 * @param query The query that provides the result set for count.
@@ -18,9 +18,12 @@ package org.springframework.data.aerospike.core;
 import com.aerospike.client.Record;
 import com.aerospike.client.*;
 import com.aerospike.client.cluster.Node;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.*;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.client.task.IndexTask;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
@@ -28,24 +31,42 @@ import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.query.CursorResult;
+import org.springframework.data.aerospike.query.FilterExpression;
 import org.springframework.data.aerospike.query.KeyRecordIterator;
+import org.springframework.data.aerospike.query.PartitionCursor;
 import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.QueryPlan;
+import org.springframework.data.aerospike.query.Update;
 import org.springframework.data.aerospike.query.cache.IndexRefresher;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.utility.InfoResponseUtils;
+import org.springframework.data.aerospike.utility.ThreadPools;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.IterableConverter;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.metrics.MetricsSupport.network;
+import static org.springframework.data.aerospike.metrics.MetricsSupport.observe;
 
 
 /**
@@ -61,6 +82,9 @@ import static org.springframework.data.aerospike.core.OperationUtils.operations;
 public class AerospikeTemplate extends BaseAerospikeTemplate implements AerospikeOperations {
 
 	private final Random random = new Random();
+	private final ThreadPoolExecutor batchWriteExecutor =
+			ThreadPools.newBoundedPool("aerospike-batch-write-", batchWriteConcurrency);
+	private int sortMaxRecordsInMemory = 100_000;
 	private final AerospikeClient client;
 	private final QueryEngine queryEngine;
 	private final IndexRefresher indexRefresher;
@@ -78,6 +102,32 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		this.indexRefresher = indexRefresher;
 	}
 
+	/**
+	 * Sorted queries keep at most this amount of records in memory, larger results are sorted using temporary files.
+	 *
+	 * @param sortMaxRecordsInMemory maximum amount of records held in memory by a sorted query
+	 */
+	public void setSortMaxRecordsInMemory(int sortMaxRecordsInMemory) {
+		Assert.isTrue(sortMaxRecordsInMemory > 0, "Sort max records in memory must be greater than zero");
+		this.sortMaxRecordsInMemory = sortMaxRecordsInMemory;
+	}
+
+	/**
+	 * Also resizes the executor shared by batch writes, so that it runs all writes in flight of a batch write at once.
+	 */
+	@Override
+	public void setBatchWriteConcurrency(int batchWriteConcurrency) {
+		super.setBatchWriteConcurrency(batchWriteConcurrency);
+		ThreadPools.resize(batchWriteExecutor, batchWriteConcurrency);
+	}
+
+	/**
+	 * Stops the executor of batch writes, batch writes started afterwards fail.
+	 */
+	public void destroy() {
+		batchWriteExecutor.shutdownNow();
+	}
+
 	@Override
 	public <T> void createIndex(Class<T> entityClass, String indexName,
 								String binName, IndexType indexType) {
@@ -92,8 +142,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(indexType, "Index type must not be null!");
 		Assert.notNull(indexCollectionType, "Index collection type must not be null!");
 
+		String setName = getSetName(entityClass);
+		observe(metrics, "createIndex", setName, 0,
+				() -> createIndexInternal(setName, indexName, binName, indexType, indexCollectionType));
+	}
+
+	private void createIndexInternal(String setName, String indexName, String binName,
+									 IndexType indexType, IndexCollectionType indexCollectionType) {
 		try {
-			String setName = getSetName(entityClass);
 			IndexTask task = client.createIndex(null, this.namespace,
 					setName, indexName, binName, indexType, indexCollectionType);
 			if (task != null) {
@@ -110,8 +166,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(entityClass, "Type must not be null!");
 		Assert.notNull(indexName, "Index name must not be null!");
 
+		String setName = getSetName(entityClass);
+		observe(metrics, "deleteIndex", setName, 0, () -> deleteIndexInternal(setName, indexName));
+	}
+
+	private void deleteIndexInternal(String setName, String indexName) {
 		try {
-			String setName = getSetName(entityClass);
 			IndexTask task = client.dropIndex(null, this.namespace, setName, indexName);
 			if (task != null) {
 				task.waitTillComplete();
@@ -141,9 +201,13 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> void save(T document) {
 		Assert.notNull(document, "Object to insert must not be null!");
 
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+		observe(metrics, "save", entity.getSetName(), 1, () -> saveInternal(document, entity));
+	}
+
+	private <T> void saveInternal(T document, AerospikePersistentEntity<?> entity) {
 		AerospikeWriteData data = writeData(document);
 
-		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
 		if (entity.hasVersionProperty()) {
 			WritePolicy policy = expectGenerationCasAwareSavePolicy(data);
 
@@ -160,24 +224,52 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(document, "Document must not be null!");
 		Assert.notNull(policy, "Policy must not be null!");
 
+		observe(metrics, "persist", getSetName(document.getClass()), 1, () -> persistInternal(document, policy));
+	}
+
+	private <T> void persistInternal(T document, WritePolicy policy) {
 		AerospikeWriteData data = writeData(document);
 
 		doPersistAndHandleError(data, policy);
 	}
 
+	@Override
 	public <T> void insertAll(Collection<? extends T> documents) {
+		batchInsert(documents).throwIfFailed();
+	}
+
+	@Override
+	public <T> void saveAll(Iterable<? extends T> documents) {
+		Assert.notNull(documents, "Documents must not be null!");
+
+		batchSave(IterableConverter.toList(documents)).throwIfFailed();
+	}
+
+	@Override
+	public <T> BatchWriteResult<T> batchInsert(Collection<? extends T> documents) {
+		Assert.notNull(documents, "Documents must not be null!");
+
+		return writeConcurrently(documents, this::insert);
+	}
+
+	@Override
+	public <T> BatchWriteResult<T> batchSave(Collection<? extends T> documents) {
 		Assert.notNull(documents, "Documents must not be null!");
 
-		documents.stream().filter(Objects::nonNull).forEach(this::insert);
+		return writeConcurrently(documents, this::save);
 	}
 
 	@Override
 	public <T> void insert(T document) {
 		Assert.notNull(document, "Document must not be null!");
 
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+		observe(metrics, "insert", entity.getSetName(), 1, () -> insertInternal(document, entity));
+	}
+
+	private <T> void insertInternal(T document, AerospikePersistentEntity<?> entity) {
 		AerospikeWriteData data = writeData(document);
 		WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.CREATE_ONLY);
-		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
 		if (entity.hasVersionProperty()) {
 			// we are ignoring generation here as insert operation should fail with DuplicateKeyException if key already exists
 			// and we do not mind which initial version is set in the document, BUT we need to update the version value in the original document
@@ -192,8 +284,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> void update(T document) {
 		Assert.notNull(document, "Document must not be null!");
 
-		AerospikeWriteData data = writeData(document);
 		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+		observe(metrics, "update", entity.getSetName(), 1, () -> updateInternal(document, entity));
+	}
+
+	private <T> void updateInternal(T document, AerospikePersistentEntity<?> entity) {
+		AerospikeWriteData data = writeData(document);
 		if (entity.hasVersionProperty()) {
 			WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.REPLACE_ONLY);
 
@@ -209,24 +305,73 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> void delete(Class<T> entityClass) {
 		Assert.notNull(entityClass, "Type must not be null!");
 
+		String set = getSetName(entityClass);
+		observe(metrics, "deleteAll", set, 0, () -> deleteAllInternal(set));
+	}
+
+	private void deleteAllInternal(String set) {
 		try {
-			String set = getSetName(entityClass);
-			client.truncate(null, getNamespace(), set, null);
+			network(metrics, "truncate", set, () -> client.truncate(null, getNamespace(), set, null));
+			nearCaches.clear(set);
 		} catch (AerospikeException e) {
 			throw translateError(e);
 		}
 	}
 
+	@Override
+	public <T> BackgroundTask updateAll(Query query, Update update, Class<T> entityClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		assertBackgroundQuery(query);
+
+		return executeInBackground("updateByQuery", query, entityClass, backgroundUpdatePolicy(),
+				updateOperations(update, entityClass));
+	}
+
+	@Override
+	public <T> BackgroundTask deleteAll(Query query, Class<T> entityClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		assertBackgroundQuery(query);
+
+		return executeInBackground("deleteByQuery", query, entityClass, ignoreGenerationDeletePolicy(),
+				new Operation[]{Operation.delete()});
+	}
+
+	private <T> BackgroundTask executeInBackground(String operation, Query query, Class<T> entityClass,
+												   WritePolicy policy, Operation[] operations) {
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		String set = getSetName(entityClass);
+		return observe(metrics, operation, set, task -> 0, () -> {
+			Runnable resumeNearCache = nearCaches.suspend(set);
+			try {
+				ExecuteTask task = queryEngine.execute(namespace, set, policy, operations, qualifier);
+				return backgroundTask(task, resumeNearCache);
+			} catch (AerospikeException e) {
+				resumeNearCache.run();
+				throw translateError(e);
+			} catch (RuntimeException e) {
+				resumeNearCache.run();
+				throw e;
+			}
+		});
+	}
+
 	@Override
 	public <T> boolean delete(Object id, Class<T> entityClass) {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(entityClass, "Type must not be null!");
 
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		return observe(metrics, "delete", entity.getSetName(), AerospikeTemplate::records, () -> deleteInternal(id, entity));
+	}
+
+	private boolean deleteInternal(Object id, AerospikePersistentEntity<?> entity) {
 		try {
-			AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
 			Key key = getKey(id, entity);
 
-			return this.client.delete(ignoreGenerationDeletePolicy(), key);
+			return deleteRecord(key);
 		} catch (AerospikeException e) {
 			throw translateError(e);
 		}
@@ -236,25 +381,58 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> boolean delete(T objectToDelete) {
 		Assert.notNull(objectToDelete, "Object to delete must not be null!");
 
+		return observe(metrics, "delete", getSetName(objectToDelete.getClass()), AerospikeTemplate::records,
+				() -> deleteInternal(objectToDelete));
+	}
+
+	private <T> boolean deleteInternal(T objectToDelete) {
 		try {
 			AerospikeWriteData data = writeData(objectToDelete);
 
-			return this.client.delete(ignoreGenerationDeletePolicy(), data.getKey());
+			return deleteRecord(data.getKey());
 		} catch (AerospikeException e) {
 			throw translateError(e);
 		}
 	}
 
+	private boolean deleteRecord(Key key) {
+		try {
+			return network(metrics, "delete", key.setName, () -> this.client.delete(ignoreGenerationDeletePolicy(), key));
+		} finally {
+			nearCaches.invalidate(key);
+		}
+	}
+
 	@Override
 	public <T> boolean exists(Object id, Class<T> entityClass) {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(entityClass, "Type must not be null!");
 
+		return existsInternal(id, entityClass, FilterExpression.empty());
+	}
+
+	@Override
+	public <T> boolean exists(Object id, Class<T> entityClass, Qualifier qualifier) {
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(qualifier, "Qualifier must not be null!");
+
+		return existsInternal(id, entityClass, FilterExpression.of(qualifier));
+	}
+
+	private <T> boolean existsInternal(Object id, Class<T> entityClass, FilterExpression expression) {
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		return observe(metrics, "exists", entity.getSetName(), AerospikeTemplate::records,
+				() -> exists(id, entity, expression));
+	}
+
+	private boolean exists(Object id, AerospikePersistentEntity<?> entity, FilterExpression expression) {
 		try {
-			AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
 			Key key = getKey(id, entity);
+			WritePolicy policy = expression.isEmpty() ? null : expression.applyTo(new WritePolicy(client.writePolicyDefault));
 
-			Record record = this.client.operate(null, key, Operation.getHeader());
+			Record record = network(metrics, "getHeader", key.setName,
+					() -> this.client.operate(policy, key, Operation.getHeader()));
 			return record != null;
 		} catch (AerospikeException e) {
 			throw translateError(e);
@@ -268,36 +446,96 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return findAllUsingQuery(entityClass, null, (Qualifier[])null);
 	}
 
+	@Override
+	public <T> Stream<T> findAllInParallel(Class<T> entityClass) {
+		Assert.notNull(entityClass, "Type must not be null!");
+
+		return findAllInParallelUsingQuery(entityClass, null, (Qualifier[]) null);
+	}
+
 	@Override
 	public <T> T findById(Object id, Class<T> entityClass) {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(entityClass, "Type must not be null!");
 
+		return findByIdInternal(id, entityClass, entityClass, FilterExpression.empty());
+	}
+
+	@Override
+	public <T> T findById(Object id, Class<T> entityClass, Qualifier qualifier) {
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(qualifier, "Qualifier must not be null!");
+
+		return findByIdInternal(id, entityClass, entityClass, FilterExpression.of(qualifier));
+	}
+
+	@Override
+	public <T, S> S findById(Object id, Class<T> entityClass, Class<S> targetClass) {
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(targetClass, "Target type must not be null!");
+
+		return findByIdInternal(id, entityClass, targetClass, FilterExpression.empty());
+	}
+
+	private <T, S> S findByIdInternal(Object id, Class<T> entityClass, Class<S> targetClass, FilterExpression expression) {
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		String[] binNames = getBinNames(entityClass, targetClass);
+		return observe(metrics, "findById", entity.getSetName(), AerospikeTemplate::records,
+				() -> findById(id, entity, entityClass, targetClass, binNames, expression));
+	}
+
+	private <T, S> S findById(Object id, AerospikePersistentEntity<?> entity, Class<T> entityClass, Class<S> targetClass,
+							   String[] binNames, FilterExpression expression) {
 		try {
-			AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
 			Key key = getKey(id, entity);
 
 			Record record;
 			if (entity.isTouchOnRead()) {
 				Assert.state(!entity.hasExpirationProperty(), "Touch on read is not supported for expiration property");
-				record = getAndTouch(key, entity.getExpiration());
+				record = getAndTouch(key, entity.getExpiration(), expression, binNames);
+			} else if (expression.isEmpty() && binNames == null) {
+				record = get(key, nearCaches.forEntity(entity));
 			} else {
-				record = this.client.get(null, key);
+				// filtered and projected reads bypass the near cache, which holds whole records only
+				Policy policy = expression.applyTo(new Policy(client.readPolicyDefault));
+				record = network(metrics, "get", key.setName, () -> binNames == null
+						? this.client.get(policy, key)
+						: this.client.get(policy, key, binNames));
 			}
 
-			return mapToEntity(key, entityClass, record);
+			return mapToTarget(key, entityClass, targetClass, record);
 		}
 		catch (AerospikeException e) {
 			throw translateError(e);
 		}
 	}
 
-	private Record getAndTouch(Key key, int expiration) {
-		WritePolicy writePolicy = new WritePolicy(client.writePolicyDefault);
+	private Record get(Key key, NearCache nearCache) {
+		if (nearCache == null) {
+			return network(metrics, "get", key.setName, () -> this.client.get(null, key));
+		}
+
+		Record cached = nearCache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		long stamp = nearCache.stamp();
+		Record record = network(metrics, "get", key.setName, () -> this.client.get(null, key));
+		if (record != null) {
+			nearCache.put(key, record, stamp);
+		}
+		return record;
+	}
+
+	private Record getAndTouch(Key key, int expiration, FilterExpression expression, String[] binNames) {
+		WritePolicy writePolicy = expression.applyTo(new WritePolicy(client.writePolicyDefault));
 		writePolicy.expiration = expiration;
 
-		if (this.client.exists(null, key)) {
-			return this.client.operate(writePolicy, key, Operation.touch(), Operation.get());
+		if (network(metrics, "exists", key.setName, () -> this.client.exists(null, key))) {
+			return network(metrics, "operate", key.setName,
+					() -> this.client.operate(writePolicy, key, touchAndGet(binNames)));
 		}
 
 		return null;
@@ -308,26 +546,54 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(ids, "List of ids must not be null!");
 		Assert.notNull(entityClass, "Type must not be null!");
 
-		return findByIdsInternal(IterableConverter.toList(ids), entityClass);
+		return findByIdsInternal(IterableConverter.toList(ids), entityClass, entityClass, FilterExpression.empty());
+	}
+
+	@Override
+	public <T> List<T> findByIds(Iterable<?> ids, Class<T> entityClass, Qualifier qualifier) {
+		Assert.notNull(ids, "List of ids must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(qualifier, "Qualifier must not be null!");
+
+		return findByIdsInternal(IterableConverter.toList(ids), entityClass, entityClass, FilterExpression.of(qualifier));
+	}
+
+	@Override
+	public <T, S> List<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass) {
+		Assert.notNull(ids, "List of ids must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(targetClass, "Target type must not be null!");
+
+		return findByIdsInternal(IterableConverter.toList(ids), entityClass, targetClass, FilterExpression.empty());
 	}
 
-	private <T> List<T> findByIdsInternal(Collection<?> ids, Class<T> entityClass) {
+	private <T, S> List<S> findByIdsInternal(Collection<?> ids, Class<T> entityClass, Class<S> targetClass,
+											 FilterExpression expression) {
 		if (ids.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		try {
-			AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		String[] binNames = getBinNames(entityClass, targetClass);
+		return observe(metrics, "findByIds", entity.getSetName(), List::size,
+				() -> findByIds(ids, entity, entityClass, targetClass, binNames, expression));
+	}
 
+	private <T, S> List<S> findByIds(Collection<?> ids, AerospikePersistentEntity<?> entity, Class<T> entityClass,
+									 Class<S> targetClass, String[] binNames, FilterExpression expression) {
+		try {
 			Key[] keys = ids.stream()
 					.map(id -> getKey(id, entity))
 					.toArray(Key[]::new);
 
-			Record[] records = client.get(null, keys);
+			BatchPolicy policy = expression.isEmpty() ? null : expression.applyTo(new BatchPolicy(client.batchPolicyDefault));
+			Record[] records = network(metrics, "batchGet", entity.getSetName(), () -> binNames == null
+					? client.get(policy, keys)
+					: client.get(policy, keys, binNames));
 
 			return IntStream.range(0, keys.length)
 					.filter(index -> records[index] != null)
-					.mapToObj(index -> mapToEntity(keys[index], entityClass, records[index]))
+					.mapToObj(index -> mapToTarget(keys[index], entityClass, targetClass, records[index]))
 					.collect(Collectors.toList());
 		} catch (AerospikeException e) {
 			throw translateError(e);
@@ -356,6 +622,40 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return (Iterable<T>) resultSet;
 	}
 
+	@Override
+	public <T, R> Stream<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType,
+									  String module, String function, Value... arguments) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(resultType, "Result type must not be null!");
+		Assert.notNull(module, "Module must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		try {
+			ResultSet resultSet = queryEngine.aggregate(namespace, getSetName(entityClass), module, function, arguments, qualifier);
+			return StreamSupport.stream(resultSet.spliterator(), false)
+					.onClose(resultSet::close)
+					.map(result -> mapAggregationResult(result, resultType));
+		} catch (AerospikeException e) {
+			throw translateError(e);
+		}
+	}
+
+	@Override
+	public <T, R> Optional<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType, Aggregation aggregation) {
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+
+		AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+		Value[] arguments = aggregation.getArguments(property -> getBinName(entity, property));
+		try (Stream<R> results = aggregate(query, entityClass, resultType, Aggregation.MODULE, aggregation.getFunction(), arguments)) {
+			return results.findFirst();
+		} catch (AerospikeException e) {
+			throw translateError(e);
+		}
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Sort sort, Class<T> entityClass) {
 		throw new UnsupportedOperationException("not implemented");
@@ -382,9 +682,25 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	@Override
 	public <T> long count(Query query, Class<T> entityClass) {
 		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(query, "Query must not be null!");
 
-		Stream<KeyRecord> results = findAllRecordsUsingQuery(entityClass, query);
-		return results.count();
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		String setName = getSetName(entityClass);
+		return observe(metrics, "count", setName, count -> count, () -> {
+			try {
+				return queryEngine.count(namespace, setName, qualifier);
+			} catch (AerospikeException e) {
+				throw translateError(e);
+			}
+		});
+	}
+
+	@Override
+	public <T> QueryPlan explain(Query query, Class<T> entityClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+
+		return queryEngine.explain(getNamespace(), getSetName(entityClass), query.getCriteria().getCriteriaObject());
 	}
 
 	@Override
@@ -395,6 +711,36 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return findAllUsingQuery(entityClass, query);
 	}
 
+	@Override
+	public <T, S> Stream<S> find(Query query, Class<T> entityClass, Class<S> targetClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.notNull(targetClass, "Target type must not be null!");
+		assertOffsetIsSorted(query);
+
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		String[] binNames = getBinNames(entityClass, targetClass, query.getSort());
+		KeyRecordIterator iterator = queryEngine.select(namespace, getSetName(entityClass), binNames, null, qualifier);
+		if (isSortedProjection(query, entityClass, targetClass)) {
+			return applyQueryModifiers(stream(iterator), keyRecord -> mapToProjected(keyRecord, entityClass),
+					this::getProjectedComparator, query)
+					.map(projected -> project(projected, entityClass, targetClass));
+		}
+		return applyQueryModifiers(stream(iterator),
+				keyRecord -> mapToTarget(keyRecord.key, entityClass, targetClass, keyRecord.record), query);
+	}
+
+	@Override
+	public <T> Stream<T> findInParallel(Query query, Class<T> entityClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		assertOffsetIsSorted(query);
+
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		Stream<KeyRecord> records = queryEngine.selectParallel(namespace, getSetName(entityClass), null, qualifier);
+		return applyQueryModifiers(records, entityClass, query);
+	}
+
 	@Override
 	public <T> Stream<T> findInRange(long offset, long limit, Sort sort,
 									 Class<T> entityClass) {
@@ -405,6 +751,23 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return results.skip(offset).limit(limit);
 	}
 
+	@Override
+	public <T> CursorResult<T> findInRange(PartitionCursor cursor, int limit, Class<T> entityClass) {
+		Assert.notNull(entityClass, "Type must not be null!");
+
+		return findPageUsingQuery(entityClass, cursor, limit, (Qualifier[]) null);
+	}
+
+	@Override
+	public <T> CursorResult<T> find(Query query, PartitionCursor cursor, int limit, Class<T> entityClass) {
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Type must not be null!");
+		Assert.isTrue(query.getSort() == null || query.getSort().isUnsorted(),
+				"Sorted query is not supported by cursor based paging");
+
+		return findPageUsingQuery(entityClass, cursor, limit, query.getCriteria().getCriteriaObject());
+	}
+
 	@Override
 	public <T> long count(Class<T> entityClass) {
 		Assert.notNull(entityClass, "Type for count must not be null!");
@@ -422,16 +785,22 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> long count(String setName) {
 		Assert.notNull(setName, "Set for count must not be null!");
 
+		return observe(metrics, "count", setName, count -> count, () -> countInternal(setName));
+	}
+
+	private long countInternal(String setName) {
 		try {
-			Node[] nodes = client.getNodes();
+			return network(metrics, "info", setName, () -> {
+				Node[] nodes = client.getNodes();
 
-			int replicationFactor = getReplicationFactor(nodes);
+				int replicationFactor = getReplicationFactor(nodes);
 
-			long totalObjects = Arrays.stream(nodes)
-					.mapToLong(node -> getObjectsCount(setName, node))
-					.sum();
+				long totalObjects = Arrays.stream(nodes)
+						.mapToLong(node -> getObjectsCount(setName, node))
+						.sum();
 
-			return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+				return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+			});
 		} catch (AerospikeException e) {
 			throw translateError(e);
 		}
@@ -441,9 +810,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> T prepend(T objectToPrependTo, String fieldName, String value) {
 		Assert.notNull(objectToPrependTo, "Object to prepend to must not be null!");
 
+		return observe(metrics, "prepend", getSetName(objectToPrependTo.getClass()), AerospikeTemplate::records,
+				() -> prependInternal(objectToPrependTo, fieldName, value));
+	}
+
+	private <T> T prependInternal(T objectToPrependTo, String fieldName, String value) {
 		try {
 			AerospikeWriteData data = writeData(objectToPrependTo);
-			Record record = this.client.operate(null, data.getKey(),
+			Record record = operate(null, data.getKey(),
 					Operation.prepend(new Bin(fieldName, value)),
 					Operation.get(fieldName));
 
@@ -458,10 +832,15 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(objectToPrependTo, "Object to prepend to must not be null!");
 		Assert.notNull(values, "Values must not be null!");
 
+		return observe(metrics, "prepend", getSetName(objectToPrependTo.getClass()), AerospikeTemplate::records,
+				() -> prependInternal(objectToPrependTo, values));
+	}
+
+	private <T> T prependInternal(T objectToPrependTo, Map<String, String> values) {
 		try {
 			AerospikeWriteData data = writeData(objectToPrependTo);
 			Operation[] ops = operations(values, Operation.Type.PREPEND, Operation.get());
-			Record record = this.client.operate(null, data.getKey(), ops);
+			Record record = operate(null, data.getKey(), ops);
 
 			return mapToEntity(data.getKey(), getEntityClass(objectToPrependTo), record);
 		}
@@ -475,10 +854,15 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(objectToAppendTo, "Object to append to must not be null!");
 		Assert.notNull(values, "Values must not be null!");
 
+		return observe(metrics, "append", getSetName(objectToAppendTo.getClass()), AerospikeTemplate::records,
+				() -> appendInternal(objectToAppendTo, values));
+	}
+
+	private <T> T appendInternal(T objectToAppendTo, Map<String, String> values) {
 		try {
 			AerospikeWriteData data = writeData(objectToAppendTo);
 			Operation[] ops = operations(values, Operation.Type.APPEND, Operation.get());
-			Record record = this.client.operate(null, data.getKey(), ops);
+			Record record = operate(null, data.getKey(), ops);
 
 			return mapToEntity(data.getKey(), getEntityClass(objectToAppendTo), record);
 		}
@@ -491,10 +875,14 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 	public <T> T append(T objectToAppendTo, String binName, String value) {
 		Assert.notNull(objectToAppendTo, "Object to append to must not be null!");
 
-		try {
+		return observe(metrics, "append", getSetName(objectToAppendTo.getClass()), AerospikeTemplate::records,
+				() -> appendInternal(objectToAppendTo, binName, value));
+	}
 
+	private <T> T appendInternal(T objectToAppendTo, String binName, String value) {
+		try {
 			AerospikeWriteData data = writeData(objectToAppendTo);
-			Record record = this.client.operate(null, data.getKey(),
+			Record record = operate(null, data.getKey(),
 					Operation.append(new Bin(binName, value)),
 					Operation.get(binName));
 
@@ -509,6 +897,11 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(objectToAddTo, "Object to add to must not be null!");
 		Assert.notNull(values, "Values must not be null!");
 
+		return observe(metrics, "add", getSetName(objectToAddTo.getClass()), AerospikeTemplate::records,
+				() -> addInternal(objectToAddTo, values));
+	}
+
+	private <T> T addInternal(T objectToAddTo, Map<String, Long> values) {
 		try {
 			AerospikeWriteData data = writeData(objectToAddTo);
 			Operation[] ops = operations(values, Operation.Type.ADD, Operation.get());
@@ -516,7 +909,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 			WritePolicy writePolicy = new WritePolicy(this.client.writePolicyDefault);
 			writePolicy.expiration = data.getExpiration();
 
-			Record record = this.client.operate(writePolicy, data.getKey(), ops);
+			Record record = operate(writePolicy, data.getKey(), ops);
 
 			return mapToEntity(data.getKey(), getEntityClass(objectToAddTo), record);
 		} catch (AerospikeException e) {
@@ -529,13 +922,18 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		Assert.notNull(objectToAddTo, "Object to add to must not be null!");
 		Assert.notNull(binName, "Bin name must not be null!");
 
+		return observe(metrics, "add", getSetName(objectToAddTo.getClass()), AerospikeTemplate::records,
+				() -> addInternal(objectToAddTo, binName, value));
+	}
+
+	private <T> T addInternal(T objectToAddTo, String binName, long value) {
 		try {
 			AerospikeWriteData data = writeData(objectToAddTo);
 
 			WritePolicy writePolicy = new WritePolicy(this.client.writePolicyDefault);
 			writePolicy.expiration = data.getExpiration();
 
-			Record record = this.client.operate(writePolicy, data.getKey(),
+			Record record = operate(writePolicy, data.getKey(),
 					Operation.add(new Bin(binName, value)), Operation.get());
 
 			return mapToEntity(data.getKey(), getEntityClass(objectToAddTo), record);
@@ -570,11 +968,82 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		}
 	}
 
+	/**
+	 * Writes documents keeping at most {@link #batchWriteConcurrency} single-record writes in flight,
+	 * the next write starts as soon as any write in flight completes.
+	 * Each document is written by the given single-record operation, so its record exists action and generation rules apply.
+	 */
+	private <T> BatchWriteResult<T> writeConcurrently(Collection<? extends T> documents, Consumer<T> writer) {
+		List<T> toWrite = documents.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+
+		Semaphore inFlight = new Semaphore(batchWriteConcurrency);
+		List<Future<RuntimeException>> futures = new ArrayList<>(toWrite.size());
+		for (T document : toWrite) {
+			try {
+				inFlight.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for batch write to complete", e);
+			}
+			try {
+				futures.add(batchWriteExecutor.submit(() -> {
+					try {
+						return tryWrite(document, writer);
+					} finally {
+						inFlight.release();
+					}
+				}));
+			} catch (RejectedExecutionException e) {
+				inFlight.release();
+				throw new IllegalStateException("Batch write executor is shut down", e);
+			}
+		}
+
+		List<T> written = new ArrayList<>();
+		List<BatchWriteResult.Failure<T>> failures = new ArrayList<>();
+		for (int i = 0; i < toWrite.size(); i++) {
+			T document = toWrite.get(i);
+			RuntimeException failure = await(futures.get(i));
+			if (failure == null) {
+				written.add(document);
+			} else {
+				failures.add(new BatchWriteResult.Failure<>(document, failure));
+			}
+		}
+		return new BatchWriteResult<>(written, failures);
+	}
+
+	private static <T> RuntimeException tryWrite(T document, Consumer<T> writer) {
+		try {
+			writer.accept(document);
+			return null;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	private static RuntimeException await(Future<RuntimeException> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for batch write to complete", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Batch write failed", e.getCause());
+		}
+	}
+
 	private void put(AerospikeWriteData data, WritePolicy policy) {
 		Key key = data.getKey();
 		Bin[] bins = data.getBinsAsArray();
 
-		client.put(policy, key, bins);
+		try {
+			network(metrics, "put", key.setName, () -> client.put(policy, key, bins));
+		} finally {
+			nearCaches.invalidate(key);
+		}
 	}
 
 	private Record putAndGetHeader(AerospikeWriteData data, WritePolicy policy) {
@@ -583,22 +1052,63 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
 		Operation[] operations = operations(bins, Operation::put, Operation.getHeader());
 
-		return client.operate(policy, key, operations);
+		return operate(policy, key, operations);
+	}
+
+	private Record operate(WritePolicy policy, Key key, Operation... operations) {
+		try {
+			return network(metrics, "operate", key.setName, () -> client.operate(policy, key, operations));
+		} finally {
+			nearCaches.invalidate(key);
+		}
 	}
 
 	<T> Stream<T> findAllUsingQuery(Class<T> type, Query query) {
+		assertOffsetIsSorted(query);
+
+		Qualifier qualifier = query.getCriteria().getCriteriaObject();
+		return applyQueryModifiers(findAllRecordsUsingQuery(type, null, qualifier), type, query);
+	}
+
+	private static void assertOffsetIsSorted(Query query) {
 		if ((query.getSort() == null || query.getSort().isUnsorted())
 				&& query.getOffset() > 0) {
 			throw new IllegalArgumentException("Unsorted query must not have offset value. " +
 					"For retrieving paged results use sorted query.");
 		}
+	}
 
-		Qualifier qualifier = query.getCriteria().getCriteriaObject();
-		Stream<T> results = findAllUsingQuery(type, null, qualifier);
+	private <T> Stream<T> applyQueryModifiers(Stream<KeyRecord> records, Class<T> type, Query query) {
+		return applyQueryModifiers(records, keyRecord -> mapToEntity(keyRecord.key, type, keyRecord.record), query);
+	}
+
+	private <T> Stream<T> applyQueryModifiers(Stream<KeyRecord> records, Function<KeyRecord, T> toEntity, Query query) {
+		return applyQueryModifiers(records, toEntity, this::getComparator, query);
+	}
 
+	private <T> Stream<T> applyQueryModifiers(Stream<KeyRecord> records, Function<KeyRecord, T> toEntity,
+											  Function<Query, Comparator<T>> comparatorFactory, Query query) {
+		Stream<T> results;
 		if (query.getSort() != null && query.getSort().isSorted()) {
-			Comparator<T> comparator = getComparator(query);
-			results = results.sorted(comparator);
+			Comparator<T> comparator = comparatorFactory.apply(query);
+			int topKSize = topKSize(query);
+			if (topKSize >= 0 && topKSize <= sortMaxRecordsInMemory) {
+				results = deferred(() -> {
+					try (Stream<KeyRecord> source = records) {
+						return source.map(toEntity).collect(TopK.collector(comparator, topKSize)).stream();
+					}
+				});
+			} else {
+				SpillingRecordSorter sorter = new SpillingRecordSorter(sortMaxRecordsInMemory);
+				results = deferred(() -> {
+					try (Stream<KeyRecord> source = records) {
+						return sorter.sort(source.iterator(), toEntity, comparator);
+					}
+				});
+			}
+			results = results.onClose(records::close);
+		} else {
+			results = records.map(toEntity);
 		}
 		if (query.hasOffset()) {
 			results = results.skip(query.getOffset());
@@ -609,17 +1119,62 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return results;
 	}
 
+	/**
+	 * Creates the stream on the first terminal operation, so that the query runs when the result is consumed.
+	 */
+	private static <T> Stream<T> deferred(Supplier<Stream<T>> supplier) {
+		AtomicReference<Stream<T>> created = new AtomicReference<>();
+		Supplier<Spliterator<T>> spliterator = () -> {
+			Stream<T> stream = supplier.get();
+			created.set(stream);
+			return stream.spliterator();
+		};
+		return StreamSupport.stream(spliterator, Spliterator.ORDERED, false)
+				.onClose(() -> {
+					Stream<T> stream = created.get();
+					if (stream != null) {
+						stream.close();
+					}
+				});
+	}
+
 	<T> Stream<T> findAllUsingQuery(Class<T> type, Filter filter, Qualifier... qualifiers) {
 		return findAllRecordsUsingQuery(type, filter, qualifiers)
 				.map(keyRecord -> mapToEntity(keyRecord.key, type, keyRecord.record));
 	}
 
+	private <T> CursorResult<T> findPageUsingQuery(Class<T> type, PartitionCursor cursor, int limit, Qualifier... qualifiers) {
+		Assert.notNull(cursor, "Cursor must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero");
+
+		String setName = getSetName(type);
+		return observe(metrics, "findPage", setName, page -> page.getContent().size(), () -> {
+			try {
+				return this.queryEngine.selectPage(this.namespace, setName, cursor, limit, qualifiers)
+						.map(keyRecord -> mapToEntity(keyRecord.key, type, keyRecord.record));
+			} catch (AerospikeException e) {
+				throw translateError(e);
+			}
+		});
+	}
+
+	<T> Stream<T> findAllInParallelUsingQuery(Class<T> type, Filter filter, Qualifier... qualifiers) {
+		String setName = getSetName(type);
+
+		return this.queryEngine.selectParallel(this.namespace, setName, filter, qualifiers)
+				.map(keyRecord -> mapToEntity(keyRecord.key, type, keyRecord.record));
+	}
+
 	<T> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> type, Filter filter, Qualifier... qualifiers) {
 		String setName = getSetName(type);
 
 		KeyRecordIterator recIterator = this.queryEngine.select(
 				this.namespace, setName, filter, qualifiers);
 
+		return stream(recIterator);
+	}
+
+	private static Stream<KeyRecord> stream(KeyRecordIterator recIterator) {
 		return StreamUtils.createStreamFromIterator(recIterator)
 				.onClose(() -> {
 					try {
@@ -630,14 +1185,6 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 				});
 	}
 
-	<T> Stream<KeyRecord> findAllRecordsUsingQuery(Class<T> type, Query query) {
-		Assert.notNull(query, "Query must not be null!");
-		Assert.notNull(type, "Type must not be null!");
-
-		Qualifier qualifier = query.getCriteria().getCriteriaObject();
-		return findAllRecordsUsingQuery(type, null, qualifier);
-	}
-
 	private long getObjectsCount(String setName, Node node) {
 		String infoString = Info.request(node, "sets/" + this.namespace + "/" + setName);
 		if (infoString.isEmpty()) {// set is not present
@@ -656,6 +1203,16 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 		return InfoResponseUtils.getPropertyFromConfigResponse(response, "replication-factor", Integer::parseInt);
 	}
 
+	/**
+	 * @return amount of records returned by a single-record operation.
+	 */
+	private static long records(Object result) {
+		if (result instanceof Boolean) {
+			return (Boolean) result ? 1 : 0;
+		}
+		return result == null ? 0 : 1;
+	}
+
 	private Node getRandomNode(Node[] nodes) {
 		if (nodes.length == 0) {
 			throw new AerospikeException(ResultCode.SERVER_NOT_AVAILABLE, "Command failed because cluster is empty.");
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.task.ExecuteTask;
+import com.aerospike.client.task.Task;
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Handle of a query executed in the background on the server nodes.
+ * The status is polled from all nodes of the cluster on every call, the task is complete once every node finished it.
+ */
+public class BackgroundTask {
+
+    public enum Status {
+        /**
+         * The task is not known to the nodes, either it has not started yet or it finished long ago.
+         */
+        NOT_FOUND,
+        IN_PROGRESS,
+        COMPLETE
+    }
+
+    private final ExecuteTask task;
+    private final AerospikeExceptionTranslator exceptionTranslator;
+
+    BackgroundTask(ExecuteTask task, AerospikeExceptionTranslator exceptionTranslator) {
+        this.task = task;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    public long getTaskId() {
+        return task.getTaskId();
+    }
+
+    /**
+     * @return current status of the task on the cluster.
+     */
+    public Status getStatus() {
+        try {
+            switch (task.queryStatus()) {
+                case Task.COMPLETE:
+                    return Status.COMPLETE;
+                case Task.IN_PROGRESS:
+                    return Status.IN_PROGRESS;
+                default:
+                    return Status.NOT_FOUND;
+            }
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
+    public boolean isDone() {
+        try {
+            return task.isDone();
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
+    /**
+     * Blocks until the task is complete, polling its status every second.
+     */
+    public void waitTillComplete() {
+        waitTillComplete(Duration.ofSeconds(1), Duration.ZERO);
+    }
+
+    /**
+     * Blocks until the task is complete.
+     *
+     * @param pollInterval interval between polls of the status
+     * @param timeout      maximum time to wait or {@link Duration#ZERO} to wait without a limit
+     * @throws org.springframework.dao.QueryTimeoutException if the task is not complete within the timeout
+     */
+    public void waitTillComplete(Duration pollInterval, Duration timeout) {
+        Assert.notNull(pollInterval, "Poll interval must not be null!");
+        Assert.notNull(timeout, "Timeout must not be null!");
+        try {
+            task.waitTillComplete((int) pollInterval.toMillis(), (int) timeout.toMillis());
+        } catch (AerospikeException e) {
+            throw translateError(e);
+        }
+    }
+
+    /**
+     * Polls the status on a bounded elastic scheduler, as polling is a blocking call to every node.
+     *
+     * @param pollInterval interval between polls of the status
+     * @return a Mono that completes once the task is complete.
+     */
+    public Mono<Void> whenComplete(Duration pollInterval) {
+        Assert.notNull(pollInterval, "Poll interval must not be null!");
+        return Mono.fromCallable(this::isDone)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(done -> done)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(pollInterval))
+                .then();
+    }
+
+    private RuntimeException translateError(AerospikeException e) {
+        DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+        return translated == null ? e : translated;
+    }
+
+    @Override
+    public String toString() {
+        return "BackgroundTask{taskId=" + getTaskId() + "}";
+    }
+}
@@ -18,14 +18,19 @@ package org.springframework.data.aerospike.core;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
 import com.aerospike.client.Log;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
+import com.aerospike.client.Value;
 import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.task.ExecuteTask;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.support.PropertyComparator;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -38,16 +43,36 @@ import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+import org.springframework.data.aerospike.metrics.MetricsSupport;
+import org.springframework.data.aerospike.query.Update;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
+import java.beans.PropertyDescriptor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base class for creation Aerospike templates
@@ -58,11 +83,18 @@ import java.util.Comparator;
 @Slf4j
 abstract class BaseAerospikeTemplate {
 
+    private static final Duration BACKGROUND_TASK_POLL_INTERVAL = Duration.ofSeconds(1);
+
     protected final MappingContext<BasicAerospikePersistentEntity<?>, AerospikePersistentProperty> mappingContext;
     protected final MappingAerospikeConverter converter;
     protected final String namespace;
     protected final AerospikeExceptionTranslator exceptionTranslator;
     protected final WritePolicy writePolicyDefault;
+    protected int batchWriteConcurrency = 8;
+    protected AerospikeMetrics metrics = AerospikeMetrics.NOOP;
+    final NearCaches nearCaches = new NearCaches();
+    final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+    private final Map<List<Class<?>>, Map<String, String>> dtoBinNames = new ConcurrentHashMap<>();
 
     BaseAerospikeTemplate(String namespace,
                           MappingAerospikeConverter converter,
@@ -135,6 +167,22 @@ abstract class BaseAerospikeTemplate {
         return namespace;
     }
 
+    /**
+     * Sets maximum amount of single-record writes in flight per batch write operation.
+     */
+    public void setBatchWriteConcurrency(int batchWriteConcurrency) {
+        Assert.isTrue(batchWriteConcurrency > 0, "Batch write concurrency must be greater than zero");
+        this.batchWriteConcurrency = batchWriteConcurrency;
+    }
+
+    /**
+     * Sets metrics that receive latency, record counts, conversion and network time of template operations.
+     */
+    public void setMetrics(AerospikeMetrics metrics) {
+        Assert.notNull(metrics, "Metrics must not be null!");
+        this.metrics = metrics;
+    }
+
     @SuppressWarnings("unchecked")
     <T> Class<T> getEntityClass(T entity) {
         return (Class<T>) entity.getClass();
@@ -145,7 +193,217 @@ abstract class BaseAerospikeTemplate {
             return null;
         }
         AerospikeReadData data = AerospikeReadData.forRead(key, record);
-        return converter.read(type, data);
+        if (!metrics.isEnabled()) {
+            return converter.read(type, data);
+        }
+        long start = System.nanoTime();
+        T entity = converter.read(type, data);
+        metrics.recordConversion(AerospikeMetrics.READ, key.setName, System.nanoTime() - start,
+                MetricsSupport.estimateSize(record.bins));
+        return entity;
+    }
+
+    /**
+     * Maps a record read for the projection returned by {@link #getBinNames(Class, Class)}.
+     * Interface projections are backed by the partially read entity, DTO projections are read directly from the record
+     * with the bins of the entity renamed to the bins of the DTO, see {@link #getDtoBinNames(Class, Class)}.
+     */
+    @SuppressWarnings("unchecked")
+    <T, S> S mapToTarget(Key key, Class<T> entityClass, Class<S> targetClass, Record record) {
+        if (targetClass.isAssignableFrom(entityClass)) {
+            return (S) mapToEntity(key, entityClass, record);
+        }
+        if (targetClass.isInterface()) {
+            T entity = mapToEntity(key, entityClass, record);
+            return entity == null ? null : projectionFactory.createProjection(targetClass, entity);
+        }
+        return mapToDto(key, entityClass, targetClass, record);
+    }
+
+    private <S> S mapToDto(Key key, Class<?> entityClass, Class<S> targetClass, Record record) {
+        if (record == null || record.bins == null) {
+            return mapToEntity(key, targetClass, record);
+        }
+        Map<String, String> binNames = getDtoBinNames(entityClass, targetClass);
+        if (binNames.entrySet().stream().allMatch(bin -> bin.getKey().equals(bin.getValue()))) {
+            return mapToEntity(key, targetClass, record);
+        }
+        Map<String, Object> bins = new HashMap<>(record.bins);
+        binNames.keySet().forEach(bins::remove);
+        binNames.forEach((entityBin, dtoBin) -> {
+            if (record.bins.containsKey(entityBin)) {
+                bins.put(dtoBin, record.bins.get(entityBin));
+            }
+        });
+        return mapToEntity(key, targetClass, new Record(bins, record.generation, record.expiration));
+    }
+
+    /**
+     * @return bins of the DTO keyed by the bins of the entity they are read from. A property of the DTO is read from
+     * the bin of the entity property of the same name, so that the DTO does not need to repeat the bin names of the entity.
+     */
+    private Map<String, String> getDtoBinNames(Class<?> entityClass, Class<?> targetClass) {
+        return dtoBinNames.computeIfAbsent(Arrays.asList(entityClass, targetClass), classes -> {
+            AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+            AerospikePersistentEntity<?> target = mappingContext.getRequiredPersistentEntity(targetClass);
+            Map<String, String> binNames = new LinkedHashMap<>();
+            target.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+                if (isStoredInBin(property)) {
+                    AerospikePersistentProperty source = entity.getPersistentProperty(property.getName());
+                    String entityBin = source != null && isStoredInBin(source) ? source.getFieldName() : property.getFieldName();
+                    binNames.put(entityBin, property.getFieldName());
+                }
+            });
+            return binNames;
+        });
+    }
+
+    /**
+     * @return names of the bins needed to map a record of the entity to the target type
+     * or null if all bins have to be read.
+     */
+    String[] getBinNames(Class<?> entityClass, Class<?> targetClass) {
+        if (targetClass.isAssignableFrom(entityClass)) {
+            return null;
+        }
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        List<String> binNames = new ArrayList<>();
+        if (targetClass.isInterface()) {
+            ProjectionInformation projection = projectionFactory.getProjectionInformation(targetClass);
+            if (!projection.isClosed()) {
+                return null;
+            }
+            for (PropertyDescriptor descriptor : projection.getInputProperties()) {
+                AerospikePersistentProperty property = entity.getPersistentProperty(descriptor.getName());
+                if (property != null && isStoredInBin(property)) {
+                    binNames.add(property.getFieldName());
+                }
+            }
+        } else {
+            binNames.addAll(getDtoBinNames(entityClass, targetClass).keySet());
+        }
+        // reading no bins at all would read the whole record
+        return binNames.isEmpty() ? null : binNames.toArray(new String[0]);
+    }
+
+    /**
+     * @return names of the bins needed to map a record of the entity to the target type and to sort it by the given sort
+     * or null if all bins have to be read.
+     */
+    String[] getBinNames(Class<?> entityClass, Class<?> targetClass, Sort sort) {
+        String[] binNames = getBinNames(entityClass, targetClass);
+        if (binNames == null || sort == null || sort.isUnsorted()) {
+            return binNames;
+        }
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Set<String> result = new LinkedHashSet<>(Arrays.asList(binNames));
+        for (Sort.Order order : sort) {
+            String path = order.getProperty();
+            int nested = path.indexOf('.');
+            AerospikePersistentProperty property = entity.getPersistentProperty(nested < 0 ? path : path.substring(0, nested));
+            if (property != null && isStoredInBin(property)) {
+                result.add(property.getFieldName());
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    /**
+     * @return whether results of the query have to be sorted on the entity before they are mapped to the target type,
+     * since the target type may not have the properties the query is sorted by.
+     */
+    static boolean isSortedProjection(Query query, Class<?> entityClass, Class<?> targetClass) {
+        return query.getSort() != null && query.getSort().isSorted() && !targetClass.isAssignableFrom(entityClass);
+    }
+
+    /**
+     * Maps a record read for a sorted projection to the entity it is sorted by, see {@link #project(ProjectedRecord, Class, Class)}.
+     */
+    <T> ProjectedRecord<T> mapToProjected(KeyRecord keyRecord, Class<T> entityClass) {
+        return new ProjectedRecord<>(keyRecord, mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+    }
+
+    /**
+     * Maps a sorted record to the target type: interface projections are backed by the already read entity,
+     * DTO projections are read from the record.
+     */
+    <T, S> S project(ProjectedRecord<T> projected, Class<T> entityClass, Class<S> targetClass) {
+        if (targetClass.isInterface()) {
+            return projectionFactory.createProjection(targetClass, projected.entity);
+        }
+        return mapToDto(projected.keyRecord.key, entityClass, targetClass, projected.keyRecord.record);
+    }
+
+    <T> Comparator<ProjectedRecord<T>> getProjectedComparator(Query query) {
+        return Comparator.comparing(projected -> projected.entity, getComparator(query));
+    }
+
+    /**
+     * Record read for a projection together with the entity it is sorted by.
+     */
+    static final class ProjectedRecord<T> {
+
+        private final KeyRecord keyRecord;
+        private final T entity;
+
+        ProjectedRecord(KeyRecord keyRecord, T entity) {
+            this.keyRecord = keyRecord;
+            this.entity = entity;
+        }
+    }
+
+    /**
+     * Maps a value returned by an aggregation: a map is read by the converter unless a map is requested,
+     * other values are converted by the conversion service.
+     */
+    @SuppressWarnings("unchecked")
+    <R> R mapAggregationResult(Object result, Class<R> resultType) {
+        if (result == null || resultType.isInstance(result)) {
+            return (R) result;
+        }
+        if (result instanceof Map && !BeanUtils.isSimpleValueType(resultType)) {
+            return converter.read(resultType, AerospikeReadData.forAggregationResult((Map<String, Object>) result));
+        }
+        return converter.getConversionService().convert(result, resultType);
+    }
+
+    /**
+     * @return name of the bin the property is stored in or the given name if the entity has no such property.
+     */
+    String getBinName(AerospikePersistentEntity<?> entity, String propertyName) {
+        AerospikePersistentProperty property = entity.getPersistentProperty(propertyName);
+        return property == null ? propertyName : property.getFieldName();
+    }
+
+    /**
+     * @return operations that touch the record and read the given bins or all bins if bin names are null.
+     */
+    static Operation[] touchAndGet(String[] binNames) {
+        if (binNames == null) {
+            return new Operation[]{Operation.touch(), Operation.get()};
+        }
+        Operation[] operations = new Operation[binNames.length + 1];
+        operations[0] = Operation.touch();
+        for (int i = 0; i < binNames.length; i++) {
+            operations[i + 1] = Operation.get(binNames[i]);
+        }
+        return operations;
+    }
+
+    private static boolean isStoredInBin(AerospikePersistentProperty property) {
+        return !property.isIdProperty() && !property.isExpirationProperty() && !property.isVersionProperty();
+    }
+
+    /**
+     * @return amount of leading elements of the sorted result needed to answer the query
+     * or -1 if the whole sorted result is needed.
+     */
+    protected static int topKSize(Query query) {
+        if (!query.hasRows()) {
+            return -1;
+        }
+        long size = Math.max(query.getOffset(), 0) + query.getRows();
+        return size <= Integer.MAX_VALUE ? (int) size : -1;
     }
 
     protected <T> Comparator<T> getComparator(Query query) {
@@ -189,7 +447,15 @@ abstract class BaseAerospikeTemplate {
 
     <T> AerospikeWriteData writeData(T document) {
         AerospikeWriteData data = AerospikeWriteData.forWrite();
+        if (!metrics.isEnabled()) {
+            converter.write(document, data);
+            return data;
+        }
+        long start = System.nanoTime();
         converter.write(document, data);
+        String set = data.getKey() == null ? null : data.getKey().setName;
+        metrics.recordConversion(AerospikeMetrics.WRITE, set, System.nanoTime() - start,
+                MetricsSupport.estimateSize(data.getBins()));
         return data;
     }
 
@@ -226,6 +492,66 @@ abstract class BaseAerospikeTemplate {
                 .build();
     }
 
+    /**
+     * Expiration -2 keeps the expiration of records updated by a background query.
+     */
+    WritePolicy backgroundUpdatePolicy() {
+        return WritePolicyBuilder.builder(this.writePolicyDefault)
+                .generationPolicy(GenerationPolicy.NONE)
+                .expiration(-2)
+                .build();
+    }
+
+    Operation[] updateOperations(Update update, Class<?> entityClass) {
+        Assert.isTrue(!update.isEmpty(), "Update must not be empty!");
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        return update.getOperations(field -> getBinName(entity, field), (field, value) -> {
+            AerospikePersistentProperty property = entity.getPersistentProperty(field);
+            TypeInformation<?> type = property == null ? ClassTypeInformation.from(value.getClass()) : property.getTypeInformation();
+            Object converted = converter.convertToWritableValue(value, type);
+            if (converted == null || converted instanceof Value || isWritableValue(converted)) {
+                return converted;
+            }
+            throw new IllegalArgumentException("Update of field " + field + " with a value of type "
+                    + value.getClass().getName() + " can not be stored, register a custom converter for it");
+        });
+    }
+
+    /**
+     * @return whether the value is written as a native Aerospike type instead of being serialized by the client.
+     */
+    private static boolean isWritableValue(Object value) {
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).values().stream().allMatch(element -> element == null || isWritableValue(element));
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream().allMatch(element -> element == null || isWritableValue(element));
+        }
+        return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof byte[]
+                || value instanceof Value;
+    }
+
+    /**
+     * @param onComplete callback run once the task is complete or its status can not be polled
+     */
+    BackgroundTask backgroundTask(ExecuteTask task, Runnable onComplete) {
+        BackgroundTask backgroundTask = new BackgroundTask(task, exceptionTranslator);
+        backgroundTask.whenComplete(BACKGROUND_TASK_POLL_INTERVAL)
+                .doFinally(signal -> onComplete.run())
+                .subscribe(null, e -> log.debug("Failed to poll status of {}", backgroundTask, e));
+        return backgroundTask;
+    }
+
+    /**
+     * Background queries apply to every document matching the criteria, so sort and paging can not be honoured.
+     */
+    static void assertBackgroundQuery(Query query) {
+        if (query.hasOffset() || query.hasRows() || (query.getSort() != null && query.getSort().isSorted())) {
+            throw new IllegalArgumentException("Background query must not have sort, offset or rows, " +
+                    "it applies to every document matching the criteria.");
+        }
+    }
+
     Key getKey(Object id, AerospikePersistentEntity<?> entity) {
         Assert.notNull(id, "Id must not be null!");
         String userKey = convertIfNecessary(id, String.class);
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch write: documents that were written and per-document failures.
+ * A failure of one document does not abort writing of the rest of the batch.
+ *
+ * @param <T> type of the written documents
+ */
+public class BatchWriteResult<T> {
+
+    private final List<T> written;
+    private final List<Failure<T>> failures;
+
+    BatchWriteResult(List<T> written, List<Failure<T>> failures) {
+        this.written = Collections.unmodifiableList(written);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    static <T> BatchWriteResult<T> written(T document) {
+        return new BatchWriteResult<>(Collections.singletonList(document), Collections.emptyList());
+    }
+
+    static <T> BatchWriteResult<T> failed(T document, RuntimeException exception) {
+        return new BatchWriteResult<>(Collections.emptyList(), Collections.singletonList(new Failure<>(document, exception)));
+    }
+
+    static <T> BatchWriteResult<T> merge(List<BatchWriteResult<T>> results) {
+        List<T> written = new ArrayList<>();
+        List<Failure<T>> failures = new ArrayList<>();
+        for (BatchWriteResult<T> result : results) {
+            written.addAll(result.written);
+            failures.addAll(result.failures);
+        }
+        return new BatchWriteResult<>(written, failures);
+    }
+
+    /**
+     * @return documents that were successfully written, with version property updated if present.
+     */
+    public List<T> getWritten() {
+        return written;
+    }
+
+    public List<Failure<T>> getFailures() {
+        return failures;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * Throws exception of the first failed document, if any.
+     */
+    public void throwIfFailed() {
+        if (hasFailures()) {
+            throw failures.get(0).getException();
+        }
+    }
+
+    /**
+     * Failed document together with the already translated exception.
+     */
+    public static class Failure<T> {
+
+        private final T document;
+        private final RuntimeException exception;
+
+        Failure(T document, RuntimeException exception) {
+            this.document = document;
+            this.exception = exception;
+        }
+
+        public T getDocument() {
+            return document;
+        }
+
+        public RuntimeException getException() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" +
+                    "document=" + document +
+                    ", exception=" + exception +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local cache of records of a single set, bounded by size (least recently used records are evicted) and time to live.
+ * <p>
+ * Records read from the cluster are cached only if no record of the set was invalidated while they were read,
+ * see {@link #stamp()}, and never replace a cached record of a newer generation. This way a read that races
+ * with a local write can not put the overwritten record back into the cache.
+ * <p>
+ * Reads take no lock, they only record the access time of the entry. Once the cache outgrows its size a single
+ * writer evicts the least recently accessed entries in a batch, so the order is approximate under concurrent
+ * access and the size may briefly exceed the bound.
+ */
+class NearCache {
+
+    private final int maxSize;
+    private final int evictionBatch;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong stamp = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    NearCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.evictionBatch = Math.max(1, maxSize / 16);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * @return cached record or null if the record is not cached or expired.
+     */
+    Record get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (entry.expiresAt - now <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.accessedAt = now;
+        return entry.record;
+    }
+
+    /**
+     * @return stamp to be passed to {@link #put(Key, Record, long)} for a record that is going to be read.
+     */
+    long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * Caches the record unless the cache was invalidated since the stamp was taken.
+     */
+    void put(Key key, Record record, long stamp) {
+        if (stamp != this.stamp.get() || ttlNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long ttl = ttlNanos;
+        int recordTtl = record.getTimeToLive();
+        if (record.expiration != 0 && recordTtl > 0) {
+            ttl = Math.min(ttl, TimeUnit.SECONDS.toNanos(recordTtl));
+        }
+        Entry entry = new Entry(record, now + ttl, now);
+        Entry cached = entries.compute(key, (k, existing) ->
+                existing != null && existing.record.generation > record.generation ? existing : entry);
+        // an invalidation between the stamp check and the put increments the stamp before removing the key
+        if (cached == entry && stamp != this.stamp.get()) {
+            entries.remove(key, entry);
+            return;
+        }
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    void invalidate(Key key) {
+        stamp.incrementAndGet();
+        entries.remove(key);
+    }
+
+    void clear() {
+        stamp.incrementAndGet();
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+            int excess = entries.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            // access times change concurrently, evict by a threshold taken from a snapshot of them
+            long[] accessed = entries.values().stream().mapToLong(entry -> entry.accessedAt - now).sorted().toArray();
+            int count = Math.min(accessed.length, excess + evictionBatch - 1);
+            if (count == 0) {
+                return;
+            }
+            long threshold = accessed[count - 1];
+            entries.values().removeIf(entry -> entry.accessedAt - now <= threshold);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static class Entry {
+
+        private final Record record;
+        private final long expiresAt;
+        private volatile long accessedAt;
+
+        Entry(Record record, long expiresAt, long accessedAt) {
+            this.record = record;
+            this.expiresAt = expiresAt;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Near caches of a template, one per set of entities that enable it via
+ * {@link org.springframework.data.aerospike.mapping.Document#nearCacheSize()}.
+ * Caches are keyed by set, so that a write of any entity stored in the set invalidates the cached record.
+ */
+class NearCaches {
+
+    private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Integer> suspended = new ConcurrentHashMap<>();
+
+    /**
+     * @return near cache of the entity or null if the entity does not enable it or its set is suspended.
+     */
+    NearCache forEntity(AerospikePersistentEntity<?> entity) {
+        int size = entity.getNearCacheSize();
+        if (size <= 0 || (!suspended.isEmpty() && suspended.containsKey(entity.getSetName()))) {
+            return null;
+        }
+        return caches.computeIfAbsent(entity.getSetName(), set -> new NearCache(size, entity.getNearCacheTtlMillis()));
+    }
+
+    void invalidate(Key key) {
+        if (caches.isEmpty() || key == null) {
+            return;
+        }
+        NearCache cache = caches.get(key.setName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Bypasses the near cache of the set until the returned callback is run, e.g. while a background query
+     * modifies records of the set on the server. The cache is cleared when suspended and when resumed.
+     *
+     * @return callback resuming the near cache, runs only once.
+     */
+    Runnable suspend(String set) {
+        suspended.merge(set, 1, Integer::sum);
+        clear(set);
+        AtomicBoolean resumed = new AtomicBoolean();
+        return () -> {
+            if (resumed.compareAndSet(false, true)) {
+                suspended.computeIfPresent(set, (name, count) -> count > 1 ? count - 1 : null);
+                clear(set);
+            }
+        };
+    }
+
+    void clear(String set) {
+        NearCache cache = caches.get(set);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
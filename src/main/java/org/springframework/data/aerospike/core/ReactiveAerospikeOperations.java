@@ -15,8 +15,13 @@
  */
 package org.springframework.data.aerospike.core;
 
+import com.aerospike.client.Value;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryPlan;
+import org.springframework.data.aerospike.query.Update;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
@@ -38,6 +43,12 @@ public interface ReactiveAerospikeOperations {
 
     <T> Flux<T> insertAll(Collection<? extends T> documents);
 
+    <T> Flux<T> saveAll(Collection<? extends T> documents);
+
+    <T> Mono<BatchWriteResult<T>> batchInsert(Collection<? extends T> documents);
+
+    <T> Mono<BatchWriteResult<T>> batchSave(Collection<? extends T> documents);
+
     <T> Mono<T> insert(T document);
 
     <T> Mono<T> update(T document);
@@ -60,16 +71,81 @@ public interface ReactiveAerospikeOperations {
 
     <T> Flux<T> findByIds(Iterable<?> ids, Class<T> entityClass);
 
+    /**
+     * Find a document by id if it matches the qualifier, see {@link AerospikeOperations#findById(Object, Class, Qualifier)}.
+     */
+    <T> Mono<T> findById(Object id, Class<T> entityClass, Qualifier qualifier);
+
+    /**
+     * Find documents by ids that match the qualifier, see {@link AerospikeOperations#findByIds(Iterable, Class, Qualifier)}.
+     */
+    <T> Flux<T> findByIds(Iterable<?> ids, Class<T> entityClass, Qualifier qualifier);
+
+    /**
+     * Find a document by id, reading only the bins needed by the target type,
+     * see {@link AerospikeOperations#findById(Object, Class, Class)}.
+     */
+    <T, S> Mono<S> findById(Object id, Class<T> entityClass, Class<S> targetClass);
+
+    /**
+     * Find documents by ids, reading only the bins needed by the target type,
+     * see {@link AerospikeOperations#findByIds(Iterable, Class, Class)}.
+     */
+    <T, S> Flux<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass);
+
     <T> Flux<T> find(Query query, Class<T> entityClass);
 
+    /**
+     * Find documents by query, reading only the bins needed by the target type,
+     * see {@link AerospikeOperations#find(Query, Class, Class)}.
+     */
+    <T, S> Flux<S> find(Query query, Class<T> entityClass, Class<S> targetClass);
+
     <T> Flux<T> findInRange(long offset, long limit, Sort sort, Class<T> entityClass);
 
     <T> Mono<Long> count(Query query, Class<T> entityClass);
 
+    /**
+     * Explains how the query is executed, see {@link AerospikeOperations#explain(Query, Class)}.
+     * Nothing is sent to the server.
+     */
+    <T> QueryPlan explain(Query query, Class<T> entityClass);
+
+    /**
+     * Runs a stream UDF over documents matching the query, see {@link AerospikeOperations#aggregate(Query, Class, Class, String, String, Value...)}.
+     * Values are pulled from the server as they are requested, cancelling the subscription stops the query on the server.
+     */
+    <T, R> Flux<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType,
+                             String module, String function, Value... arguments);
+
+    /**
+     * Runs a built-in aggregation over documents matching the query, see {@link AerospikeOperations#aggregate(Query, Class, Class, Aggregation)}.
+     */
+    <T, R> Mono<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType, Aggregation aggregation);
+
     <T> Mono<T> execute(Supplier<T> supplier);
 
     <T> Mono<Boolean> exists(Object id, Class<T> entityClass);
 
+    /**
+     * Checks whether the document exists and matches the qualifier, see {@link AerospikeOperations#exists(Object, Class, Qualifier)}.
+     */
+    <T> Mono<Boolean> exists(Object id, Class<T> entityClass, Qualifier qualifier);
+
+    /**
+     * Applies the update to every document matching the query in a background query on the server,
+     * see {@link AerospikeOperations#updateAll(Query, Update, Class)}.
+     * The returned task completes as soon as the background query is started, use {@link BackgroundTask#whenComplete(java.time.Duration)}
+     * to wait for the documents to be updated.
+     */
+    <T> Mono<BackgroundTask> updateAll(Query query, Update update, Class<T> entityClass);
+
+    /**
+     * Deletes every document matching the query in a background query on the server,
+     * see {@link AerospikeOperations#deleteAll(Query, Class)}.
+     */
+    <T> Mono<BackgroundTask> deleteAll(Query query, Class<T> entityClass);
+
     <T> Mono<Boolean> delete(Object id, Class<T> entityClass);
 
     <T> Mono<Boolean> delete(T objectToDelete);
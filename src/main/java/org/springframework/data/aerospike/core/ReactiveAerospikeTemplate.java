@@ -17,6 +17,8 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.Record;
 import com.aerospike.client.*;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
@@ -24,13 +26,18 @@ import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.AerospikeReactorClient;
+import com.aerospike.client.reactor.dto.KeysRecords;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.query.FilterExpression;
 import org.springframework.data.aerospike.query.Qualifier;
+import org.springframework.data.aerospike.query.QueryPlan;
 import org.springframework.data.aerospike.query.ReactorQueryEngine;
+import org.springframework.data.aerospike.query.Update;
 import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
@@ -38,15 +45,21 @@ import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.aerospike.client.ResultCode.KEY_NOT_FOUND_ERROR;
-import static java.util.Objects.nonNull;
 import static org.springframework.data.aerospike.core.OperationUtils.operations;
+import static org.springframework.data.aerospike.metrics.ReactiveMetricsSupport.network;
+import static org.springframework.data.aerospike.metrics.ReactiveMetricsSupport.observe;
 
 /**
  * Primary implementation of {@link ReactiveAerospikeOperations}.
@@ -61,6 +74,9 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     private final AerospikeReactorClient reactorClient;
     private final ReactorQueryEngine queryEngine;
     private final ReactorIndexRefresher reactorIndexRefresher;
+    private int batchReadSize = 1000;
+    private int batchReadConcurrency = 8;
+    private boolean batchReadOrdered = false;
 
     public ReactiveAerospikeTemplate(AerospikeReactorClient reactorClient,
                                      String namespace,
@@ -75,6 +91,30 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         this.reactorIndexRefresher = reactorIndexRefresher;
     }
 
+    /**
+     * Sets amount of ids read per batch request by {@link #findByIds(Iterable, Class)}.
+     */
+    public void setBatchReadSize(int batchReadSize) {
+        Assert.isTrue(batchReadSize > 0, "Batch read size must be greater than zero");
+        this.batchReadSize = batchReadSize;
+    }
+
+    /**
+     * Sets maximum amount of batch requests in flight per {@link #findByIds(Iterable, Class)}.
+     */
+    public void setBatchReadConcurrency(int batchReadConcurrency) {
+        Assert.isTrue(batchReadConcurrency > 0, "Batch read concurrency must be greater than zero");
+        this.batchReadConcurrency = batchReadConcurrency;
+    }
+
+    /**
+     * Sets whether {@link #findByIds(Iterable, Class)} emits documents in the order of the given ids.
+     * If not set, documents of a batch are emitted as soon as the batch is read, regardless of preceding batches.
+     */
+    public void setBatchReadOrdered(boolean batchReadOrdered) {
+        this.batchReadOrdered = batchReadOrdered;
+    }
+
     @Override
     public <T> Mono<T> save(T document) {
         Assert.notNull(document, "Object to save must not be null!");
@@ -84,18 +124,34 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         if (entity.hasVersionProperty()) {
             WritePolicy policy = expectGenerationCasAwareSavePolicy(data);
 
-            return doPersistWithVersionAndHandleCasError(document, data, policy);
+            return observe(metrics, "save", entity.getSetName(), saved -> 1,
+                    doPersistWithVersionAndHandleCasError(document, data, policy));
         } else {
             WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.REPLACE);
 
-            return doPersistAndHandleError(document, data, policy);
+            return observe(metrics, "save", entity.getSetName(), saved -> 1,
+                    doPersistAndHandleError(document, data, policy));
         }
     }
 
     @Override
     public <T> Flux<T> insertAll(Collection<? extends T> documents) {
-        return Flux.fromIterable(documents)
-                .flatMap(this::insert);
+        return writeConcurrently(documents, this::insert);
+    }
+
+    @Override
+    public <T> Flux<T> saveAll(Collection<? extends T> documents) {
+        return writeConcurrently(documents, this::save);
+    }
+
+    @Override
+    public <T> Mono<BatchWriteResult<T>> batchInsert(Collection<? extends T> documents) {
+        return writeConcurrentlyCollectingFailures(documents, this::insert);
+    }
+
+    @Override
+    public <T> Mono<BatchWriteResult<T>> batchSave(Collection<? extends T> documents) {
+        return writeConcurrentlyCollectingFailures(documents, this::save);
     }
 
     @Override
@@ -110,9 +166,11 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
             // we are ignoring generation here as insert operation should fail with DuplicateKeyException if key already exists
             // and we do not mind which initial version is set in the document, BUT we need to update the version value in the original document
             // also we do not want to handle aerospike error codes as cas aware error codes as we are ignoring generation
-            return doPersistWithVersionAndHandleError(document, data, policy);
+            return observe(metrics, "insert", entity.getSetName(), inserted -> 1,
+                    doPersistWithVersionAndHandleError(document, data, policy));
         } else {
-            return doPersistAndHandleError(document, data, policy);
+            return observe(metrics, "insert", entity.getSetName(), inserted -> 1,
+                    doPersistAndHandleError(document, data, policy));
         }
     }
 
@@ -125,11 +183,13 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         if (entity.hasVersionProperty()) {
             WritePolicy policy = expectGenerationSavePolicy(data, RecordExistsAction.REPLACE_ONLY);
 
-            return doPersistWithVersionAndHandleCasError(document, data, policy);
+            return observe(metrics, "update", entity.getSetName(), updated -> 1,
+                    doPersistWithVersionAndHandleCasError(document, data, policy));
         } else {
             WritePolicy policy = ignoreGenerationSavePolicy(data, RecordExistsAction.REPLACE_ONLY);
 
-            return doPersistAndHandleError(document, data, policy);
+            return observe(metrics, "update", entity.getSetName(), updated -> 1,
+                    doPersistAndHandleError(document, data, policy));
         }
     }
 
@@ -156,7 +216,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         WritePolicy writePolicy = new WritePolicy(this.writePolicyDefault);
         writePolicy.expiration = data.getExpiration();
 
-        return executeOperationsOnValue(objectToAddTo, data, operations, writePolicy);
+        return executeOperationsOnValue("add", objectToAddTo, data, operations, writePolicy);
     }
 
 
@@ -171,7 +231,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         writePolicy.expiration = data.getExpiration();
 
         Operation[] operations = {Operation.add(new Bin(binName, value)), Operation.get(binName)};
-        return executeOperationsOnValue(objectToAddTo, data, operations, writePolicy);
+        return executeOperationsOnValue("add", objectToAddTo, data, operations, writePolicy);
     }
 
     @Override
@@ -181,7 +241,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(objectToAppendTo);
         Operation[] operations = operations(values, Operation.Type.APPEND, Operation.get());
-        return executeOperationsOnValue(objectToAppendTo, data, operations, null);
+        return executeOperationsOnValue("append", objectToAppendTo, data, operations, null);
     }
 
     @Override
@@ -190,7 +250,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(objectToAppendTo);
         Operation[] operations = {Operation.append(new Bin(binName, value)), Operation.get(binName)};
-        return executeOperationsOnValue(objectToAppendTo, data, operations, null);
+        return executeOperationsOnValue("append", objectToAppendTo, data, operations, null);
     }
 
     @Override
@@ -200,7 +260,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(objectToPrependTo);
         Operation[] operations = operations(values, Operation.Type.PREPEND, Operation.get());
-        return executeOperationsOnValue(objectToPrependTo, data, operations, null);
+        return executeOperationsOnValue("prepend", objectToPrependTo, data, operations, null);
     }
 
     @Override
@@ -209,51 +269,140 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(objectToPrependTo);
         Operation[] operations = {Operation.prepend(new Bin(binName, value)), Operation.get(binName)};
-        return executeOperationsOnValue(objectToPrependTo, data, operations, null);
+        return executeOperationsOnValue("prepend", objectToPrependTo, data, operations, null);
     }
 
-    private <T> Mono<T> executeOperationsOnValue(T entity, AerospikeWriteData data, Operation[] operations, WritePolicy writePolicy) {
-        return reactorClient.operate(writePolicy, data.getKey(), operations)
-                .filter(keyRecord -> Objects.nonNull(keyRecord.record))
-                .map(keyRecord -> mapToEntity(keyRecord.key, getEntityClass(entity), keyRecord.record))
-                .onErrorMap(this::translateError);
+    private <T> Mono<T> executeOperationsOnValue(String operation, T entity, AerospikeWriteData data,
+                                                 Operation[] operations, WritePolicy writePolicy) {
+        String setName = data.getKey().setName;
+        return observe(metrics, operation, setName, updated -> 1,
+                invalidating(data.getKey(), network(metrics, "operate", setName,
+                        reactorClient.operate(writePolicy, data.getKey(), operations)))
+                        .filter(keyRecord -> Objects.nonNull(keyRecord.record))
+                        .map(keyRecord -> mapToEntity(keyRecord.key, getEntityClass(entity), keyRecord.record))
+                        .onErrorMap(this::translateError));
     }
 
     @Override
     public <T> Mono<T> findById(Object id, Class<T> entityClass) {
+        return findByIdInternal(id, entityClass, entityClass, FilterExpression.empty());
+    }
+
+    @Override
+    public <T> Mono<T> findById(Object id, Class<T> entityClass, Qualifier qualifier) {
+        Assert.notNull(qualifier, "Qualifier must not be null!");
+
+        return findByIdInternal(id, entityClass, entityClass, FilterExpression.of(qualifier));
+    }
+
+    @Override
+    public <T, S> Mono<S> findById(Object id, Class<T> entityClass, Class<S> targetClass) {
+        Assert.notNull(targetClass, "Target type must not be null!");
+
+        return findByIdInternal(id, entityClass, targetClass, FilterExpression.empty());
+    }
+
+    private <T, S> Mono<S> findByIdInternal(Object id, Class<T> entityClass, Class<S> targetClass,
+                                            FilterExpression expression) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         Key key = getKey(id, entity);
+        String[] binNames = getBinNames(entityClass, targetClass);
 
         if (entity.isTouchOnRead()) {
             Assert.state(!entity.hasExpirationProperty(), "Touch on read is not supported for entity without expiration property");
-            return getAndTouch(key, entity.getExpiration())
+            return observe(metrics, "findById", entity.getSetName(), found -> 1, getAndTouch(key, entity.getExpiration(), expression, binNames)
                     .filter(keyRecord -> Objects.nonNull(keyRecord.record))
-                    .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record))
+                    .map(keyRecord -> mapToTarget(keyRecord.key, entityClass, targetClass, keyRecord.record))
                     .onErrorResume(
                             th -> th instanceof AerospikeException && ((AerospikeException) th).getResultCode() == KEY_NOT_FOUND_ERROR,
                             th -> Mono.empty()
                     )
-                    .onErrorMap(this::translateError);
+                    .onErrorMap(this::translateError));
         } else {
-            return reactorClient.get(key)
-                    .filter(keyRecord -> Objects.nonNull(keyRecord.record))
-                    .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record))
-                    .onErrorMap(this::translateError);
+            Mono<KeyRecord> record = expression.isEmpty() && binNames == null
+                    ? get(key, nearCaches.forEntity(entity))
+                    : network(metrics, "get", key.setName, get(expression, key, binNames));
+            return observe(metrics, "findById", entity.getSetName(), found -> 1, record
+                            .filter(keyRecord -> Objects.nonNull(keyRecord.record))
+                            .map(keyRecord -> mapToTarget(keyRecord.key, entityClass, targetClass, keyRecord.record))
+                            .onErrorMap(this::translateError));
         }
     }
 
+    /**
+     * Reads the record bypassing the near cache, which holds whole records only.
+     */
+    private Mono<KeyRecord> get(FilterExpression expression, Key key, String[] binNames) {
+        Policy policy = expression.applyTo(new Policy(reactorClient.getReadPolicyDefault()));
+        return binNames == null ? reactorClient.get(policy, key) : reactorClient.get(policy, key, binNames);
+    }
+
     @Override
     public <T> Flux<T> findByIds(Iterable<?> ids, Class<T> entityClass) {
         Assert.notNull(ids, "List of ids must not be null!");
         Assert.notNull(entityClass, "Type must not be null!");
 
+        return findByIdsInternal(ids, entityClass, entityClass, FilterExpression.empty());
+    }
+
+    @Override
+    public <T> Flux<T> findByIds(Iterable<?> ids, Class<T> entityClass, Qualifier qualifier) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(qualifier, "Qualifier must not be null!");
+
+        return findByIdsInternal(ids, entityClass, entityClass, FilterExpression.of(qualifier));
+    }
+
+    @Override
+    public <T, S> Flux<S> findByIds(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass) {
+        Assert.notNull(ids, "List of ids must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(targetClass, "Target type must not be null!");
+
+        return findByIdsInternal(ids, entityClass, targetClass, FilterExpression.empty());
+    }
+
+    private <T, S> Flux<S> findByIdsInternal(Iterable<?> ids, Class<T> entityClass, Class<S> targetClass,
+                                             FilterExpression expression) {
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        String[] binNames = getBinNames(entityClass, targetClass);
 
-        return Flux.fromIterable(ids)
+        Flux<Key[]> chunks = Flux.fromIterable(ids)
                 .map(id -> getKey(id, entity))
-                .flatMap(reactorClient::get)
-                .filter(keyRecord -> nonNull(keyRecord.record))
-                .map(keyRecord -> mapToEntity(keyRecord.key, entityClass, keyRecord.record));
+                .buffer(batchReadSize)
+                .map(keys -> keys.toArray(new Key[0]));
+        BatchPolicy policy = expression.isEmpty() ? null
+                : expression.applyTo(new BatchPolicy(reactorClient.getBatchPolicyDefault()));
+        Function<Key[], Mono<KeysRecords>> batchGet = keys ->
+                network(metrics, "batchGet", entity.getSetName(), get(policy, keys, binNames));
+        Flux<KeysRecords> results = batchReadOrdered
+                ? chunks.flatMapSequential(batchGet, batchReadConcurrency)
+                : chunks.flatMap(batchGet, batchReadConcurrency);
+
+        return observe(metrics, "findByIds", entity.getSetName(), results
+                .flatMapIterable(keysRecords -> toEntities(keysRecords, entityClass, targetClass))
+                .onErrorMap(this::translateError));
+    }
+
+    private Mono<KeysRecords> get(BatchPolicy policy, Key[] keys, String[] binNames) {
+        if (binNames == null) {
+            return reactorClient.get(policy, keys);
+        }
+        List<BatchRead> reads = Arrays.stream(keys)
+                .map(key -> new BatchRead(key, binNames))
+                .collect(Collectors.toList());
+        return reactorClient.get(policy, reads)
+                .map(results -> new KeysRecords(keys, results.stream()
+                        .map(read -> read.record)
+                        .toArray(Record[]::new)));
+    }
+
+    private <T, S> List<S> toEntities(KeysRecords keysRecords, Class<T> entityClass, Class<S> targetClass) {
+        return IntStream.range(0, keysRecords.keys.length)
+                .filter(index -> keysRecords.records[index] != null)
+                .mapToObj(index -> mapToTarget(keysRecords.keys[index], entityClass, targetClass, keysRecords.records[index]))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -264,6 +413,23 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return findAllUsingQuery(entityClass, query);
     }
 
+    @Override
+    public <T, S> Flux<S> find(Query query, Class<T> entityClass, Class<S> targetClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(targetClass, "Target type must not be null!");
+
+        String[] binNames = getBinNames(entityClass, targetClass, query.getSort());
+        String setName = getSetName(entityClass);
+        if (isSortedProjection(query, entityClass, targetClass)) {
+            return applyQueryModifiers(query, qualifier -> queryEngine.select(namespace, setName, binNames, null, qualifier)
+                            .map(keyRecord -> mapToProjected(keyRecord, entityClass)), this::getProjectedComparator)
+                    .map(projected -> project(projected, entityClass, targetClass));
+        }
+        return applyQueryModifiers(query, qualifier -> queryEngine.select(namespace, setName, binNames, null, qualifier)
+                .map(keyRecord -> mapToTarget(keyRecord.key, entityClass, targetClass, keyRecord.record)));
+    }
+
     @Override
     public <T> Flux<T> findInRange(long offset, long limit, Sort sort, Class<T> entityClass) {
         Assert.notNull(entityClass, "Type for count must not be null!");
@@ -279,7 +445,45 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(query, "Query must not be null!");
         Assert.notNull(entityClass, "Type must not be null!");
 
-        return findAllRecordsUsingQuery(entityClass, query).count();
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        String setName = getSetName(entityClass);
+        return observe(metrics, "count", setName, count -> count,
+                queryEngine.count(namespace, setName, qualifier)
+                        .onErrorMap(this::translateError));
+    }
+
+    @Override
+    public <T> QueryPlan explain(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+
+        return queryEngine.explain(getNamespace(), getSetName(entityClass), query.getCriteria().getCriteriaObject());
+    }
+
+    @Override
+    public <T, R> Flux<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType,
+                                    String module, String function, Value... arguments) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(resultType, "Result type must not be null!");
+        Assert.notNull(module, "Module must not be null!");
+        Assert.notNull(function, "Function must not be null!");
+
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        return queryEngine.aggregate(namespace, getSetName(entityClass), module, function, arguments, qualifier)
+                .map(result -> mapAggregationResult(result, resultType))
+                .onErrorMap(this::translateError);
+    }
+
+    @Override
+    public <T, R> Mono<R> aggregate(Query query, Class<T> entityClass, Class<R> resultType, Aggregation aggregation) {
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(aggregation, "Aggregation must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Value[] arguments = aggregation.getArguments(property -> getBinName(entity, property));
+        return aggregate(query, entityClass, resultType, Aggregation.MODULE, aggregation.getFunction(), arguments)
+                .next();
     }
 
     @Override
@@ -297,10 +501,63 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
         Key key = getKey(id, entity);
-        return reactorClient.exists(key)
-                .map(Objects::nonNull)
-                .defaultIfEmpty(false)
-                .onErrorMap(this::translateError);
+        return observe(metrics, "exists", entity.getSetName(), ReactiveAerospikeTemplate::records,
+                network(metrics, "exists", key.setName, reactorClient.exists(key))
+                        .map(Objects::nonNull)
+                        .defaultIfEmpty(false)
+                        .onErrorMap(this::translateError));
+    }
+
+    @Override
+    public <T> Mono<Boolean> exists(Object id, Class<T> entityClass, Qualifier qualifier) {
+        Assert.notNull(id, "Id must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        Assert.notNull(qualifier, "Qualifier must not be null!");
+
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
+        Key key = getKey(id, entity);
+        // exists command reports filtered out records as existing, header read returns no record for them
+        Policy policy = FilterExpression.of(qualifier).applyTo(new Policy(reactorClient.getReadPolicyDefault()));
+        return observe(metrics, "exists", entity.getSetName(), ReactiveAerospikeTemplate::records,
+                network(metrics, "getHeader", key.setName, reactorClient.getHeader(policy, key))
+                        .map(keyRecord -> keyRecord.record != null)
+                        .defaultIfEmpty(false)
+                        .onErrorMap(this::translateError));
+    }
+
+    @Override
+    public <T> Mono<BackgroundTask> updateAll(Query query, Update update, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(update, "Update must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        assertBackgroundQuery(query);
+
+        return executeInBackground("updateByQuery", query, entityClass, backgroundUpdatePolicy(),
+                updateOperations(update, entityClass));
+    }
+
+    @Override
+    public <T> Mono<BackgroundTask> deleteAll(Query query, Class<T> entityClass) {
+        Assert.notNull(query, "Query must not be null!");
+        Assert.notNull(entityClass, "Type must not be null!");
+        assertBackgroundQuery(query);
+
+        return executeInBackground("deleteByQuery", query, entityClass, ignoreGenerationDeletePolicy(),
+                new Operation[]{Operation.delete()});
+    }
+
+    private <T> Mono<BackgroundTask> executeInBackground(String operation, Query query, Class<T> entityClass,
+                                                         WritePolicy policy, Operation[] operations) {
+        Qualifier qualifier = query.getCriteria().getCriteriaObject();
+        String set = getSetName(entityClass);
+        return observe(metrics, operation, set, task -> 0, Mono.defer(() -> {
+            Runnable resumeNearCache = nearCaches.suspend(set);
+            return queryEngine.execute(namespace, set, policy, operations, qualifier)
+                    .map(task -> backgroundTask(task, resumeNearCache))
+                    .doOnError(e -> resumeNearCache.run())
+                    .doOnCancel(resumeNearCache)
+                    .onErrorMap(this::translateError);
+        }));
     }
 
     @Override
@@ -310,10 +567,10 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
 
-        return reactorClient
-                .delete(ignoreGenerationDeletePolicy(), getKey(id, entity))
-                .map(k -> true)
-                .onErrorMap(this::translateError);
+        return observe(metrics, "delete", entity.getSetName(), ReactiveAerospikeTemplate::records,
+                deleteRecord(getKey(id, entity))
+                        .map(k -> true)
+                        .onErrorMap(this::translateError));
     }
 
     @Override
@@ -322,10 +579,11 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
         AerospikeWriteData data = writeData(objectToDelete);
 
-        return this.reactorClient
-                .delete(ignoreGenerationDeletePolicy(), data.getKey())
-                .map(key -> true)
-                .onErrorMap(this::translateError);
+        String setName = data.getKey().setName;
+        return observe(metrics, "delete", setName, ReactiveAerospikeTemplate::records,
+                deleteRecord(data.getKey())
+                        .map(key -> true)
+                        .onErrorMap(this::translateError));
     }
 
     @Override
@@ -362,8 +620,8 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     }
 
     private <T> Mono<T> doPersistAndHandleError(T document, AerospikeWriteData data, WritePolicy policy) {
-        return reactorClient
-                .put(policy, data.getKey(), data.getBinsAsArray())
+        return invalidating(data.getKey(), network(metrics, "put", data.getKey().setName,
+                reactorClient.put(policy, data.getKey(), data.getBinsAsArray())))
                 .map(docKey -> document)
                 .onErrorMap(this::translateError);
     }
@@ -383,14 +641,79 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     private <T> Mono<Record> putAndGetHeader(AerospikeWriteData data, WritePolicy policy) {
         Operation[] operations = operations(data.getBinsAsArray(), Operation::put, Operation.getHeader());
 
-        return reactorClient.operate(policy, data.getKey(), operations)
+        return invalidating(data.getKey(), network(metrics, "operate", data.getKey().setName,
+                reactorClient.operate(policy, data.getKey(), operations)))
                 .map(keyRecord -> keyRecord.record);
     }
 
-    private Mono<KeyRecord> getAndTouch(Key key, int expiration) {
-        WritePolicy policy = new WritePolicy(writePolicyDefault);
+    private Mono<Key> deleteRecord(Key key) {
+        return invalidating(key, network(metrics, "delete", key.setName,
+                reactorClient.delete(ignoreGenerationDeletePolicy(), key)));
+    }
+
+    private Mono<KeyRecord> get(Key key, NearCache nearCache) {
+        if (nearCache == null) {
+            return network(metrics, "get", key.setName, reactorClient.get(key));
+        }
+
+        return Mono.defer(() -> {
+            Record cached = nearCache.get(key);
+            if (cached != null) {
+                return Mono.just(new KeyRecord(key, cached));
+            }
+            long stamp = nearCache.stamp();
+            return network(metrics, "get", key.setName, reactorClient.get(key))
+                    .doOnNext(keyRecord -> {
+                        if (keyRecord.record != null) {
+                            nearCache.put(key, keyRecord.record, stamp);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Invalidates near cached record once the write completes, fails or is cancelled, so that a read chained
+     * after the write does not observe the overwritten record.
+     */
+    private <R> Mono<R> invalidating(Key key, Mono<R> write) {
+        return write
+                .doOnTerminate(() -> nearCaches.invalidate(key))
+                .doOnCancel(() -> nearCaches.invalidate(key));
+    }
+
+    private Mono<KeyRecord> getAndTouch(Key key, int expiration, FilterExpression expression, String[] binNames) {
+        WritePolicy policy = expression.applyTo(new WritePolicy(writePolicyDefault));
         policy.expiration = expiration;
-        return reactorClient.operate(policy, key, Operation.touch(), Operation.get());
+        return network(metrics, "operate", key.setName, reactorClient.operate(policy, key, touchAndGet(binNames)));
+    }
+
+    /**
+     * Writes documents keeping at most {@link #batchWriteConcurrency} single-record writes in flight,
+     * the next write starts as soon as any write in flight completes.
+     */
+    private <T, R> Flux<R> writeConcurrently(Collection<? extends T> documents, Function<T, Mono<R>> writer) {
+        Assert.notNull(documents, "Documents must not be null!");
+
+        return Flux.<T>fromIterable(documents)
+                .flatMap(writer, batchWriteConcurrency);
+    }
+
+    private <T> Mono<BatchWriteResult<T>> writeConcurrentlyCollectingFailures(Collection<? extends T> documents,
+                                                                          Function<T, Mono<T>> writer) {
+        Assert.notNull(documents, "Documents must not be null!");
+
+        List<T> toWrite = documents.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return writeConcurrently(toWrite, (T document) -> Mono.defer(() -> writer.apply(document))
+                .map(BatchWriteResult::written)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(BatchWriteResult.failed(document, e))))
+                .collectList()
+                .map(BatchWriteResult::merge);
+    }
+
+    private static long records(Boolean result) {
+        return result ? 1 : 0;
     }
 
     private Throwable translateError(Throwable e) {
@@ -401,6 +724,15 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     }
 
     <T> Flux<T> findAllUsingQuery(Class<T> type, Query query) {
+        return applyQueryModifiers(query, qualifier -> findAllUsingQuery(type, null, qualifier));
+    }
+
+    private <T> Flux<T> applyQueryModifiers(Query query, Function<Qualifier, Flux<T>> select) {
+        return applyQueryModifiers(query, select, this::getComparator);
+    }
+
+    private <T> Flux<T> applyQueryModifiers(Query query, Function<Qualifier, Flux<T>> select,
+                                            Function<Query, Comparator<T>> comparatorFactory) {
         if ((query.getSort() == null || query.getSort().isUnsorted())
                 && query.getOffset() > 0) {
             throw new IllegalArgumentException("Unsorted query must not have offset value. " +
@@ -408,11 +740,14 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         }
 
         Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        Flux<T> results = findAllUsingQuery(type, null, qualifier);
+        Flux<T> results = select.apply(qualifier);
 
         if (query.getSort() != null && query.getSort().isSorted()) {
-            Comparator<T> comparator = getComparator(query);
-            results = results.sort(comparator);
+            Comparator<T> comparator = comparatorFactory.apply(query);
+            int topKSize = topKSize(query);
+            results = topKSize >= 0
+                    ? results.collect(() -> new TopK<T>(comparator, topKSize), TopK::add).flatMapIterable(TopK::toSortedList)
+                    : results.sort(comparator);
         }
 
         if (query.hasOffset()) {
@@ -429,14 +764,6 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
                 .map(keyRecord -> mapToEntity(keyRecord.key, type, keyRecord.record));
     }
 
-    <T> Flux<KeyRecord> findAllRecordsUsingQuery(Class<T> type, Query query) {
-        Assert.notNull(query, "Query must not be null!");
-        Assert.notNull(type, "Type must not be null!");
-
-        Qualifier qualifier = query.getCriteria().getCriteriaObject();
-        return findAllRecordsUsingQuery(type, null, qualifier);
-    }
-
     <T> Flux<KeyRecord> findAllRecordsUsingQuery(Class<T> type, Filter filter, Qualifier... qualifiers) {
         String setName = getSetName(type);
         return this.queryEngine.select(this.namespace, setName, filter, qualifiers);
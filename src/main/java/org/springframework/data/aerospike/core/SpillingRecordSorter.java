@@ -0,0 +1,321 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.query.KeyRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts query results that do not fit into memory: records are sorted in chunks of {@code maxRecordsInMemory},
+ * each chunk is written to a temporary file and the files are merged while the result is consumed.
+ * Records are written instead of the documents, so documents do not need to be serializable.
+ */
+@Slf4j
+class SpillingRecordSorter {
+
+    private final int maxRecordsInMemory;
+
+    SpillingRecordSorter(int maxRecordsInMemory) {
+        this.maxRecordsInMemory = maxRecordsInMemory;
+    }
+
+    /**
+     * Consumes all the records and returns the documents in the given order.
+     * Temporary files are removed once the result is consumed completely or fails, the returned stream
+     * must be closed to remove them if it is not consumed completely.
+     */
+    <T> Stream<T> sort(Iterator<KeyRecord> records, Function<KeyRecord, T> mapper, Comparator<? super T> comparator) {
+        Comparator<Mapped<T>> byDocument = (a, b) -> comparator.compare(a.document, b.document);
+        List<Mapped<T>> chunk = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+        try {
+            while (records.hasNext()) {
+                KeyRecord keyRecord = records.next();
+                chunk.add(new Mapped<>(keyRecord, mapper.apply(keyRecord)));
+                if (chunk.size() >= maxRecordsInMemory) {
+                    chunk.sort(byDocument);
+                    runs.add(writeRun(chunk));
+                    chunk.clear();
+                }
+            }
+            chunk.sort(byDocument);
+            if (runs.isEmpty()) {
+                return chunk.stream().map(mapped -> mapped.document);
+            }
+            if (!chunk.isEmpty()) {
+                runs.add(writeRun(chunk));
+            }
+            log.debug("Merging {} sorted runs of up to {} records", runs.size(), maxRecordsInMemory);
+            return merge(runs, mapper, comparator);
+        } catch (IOException | RuntimeException e) {
+            deleteRuns(runs);
+            if (e instanceof IOException) {
+                throw new DataAccessResourceFailureException("Failed to spill sorted records to disk", e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+
+    private static Path writeRun(List<? extends Mapped<?>> sorted) throws IOException {
+        Path run = Files.createTempFile("aerospike-sort-", ".run");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+            for (Mapped<?> mapped : sorted) {
+                out.writeBoolean(true);
+                writeRecord(out, mapped.keyRecord);
+                // records are independent, do not keep references to the already written objects
+                out.reset();
+            }
+            out.writeBoolean(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private <T> Stream<T> merge(List<Path> runs, Function<KeyRecord, T> mapper, Comparator<? super T> comparator) throws IOException {
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        // equal documents are taken from the earlier run first to keep the sort stable
+        PriorityQueue<RunHead<T>> heads = new PriorityQueue<>(runs.size(), Comparator
+                .<RunHead<T>, T>comparing(head -> head.document, comparator)
+                .thenComparingInt(head -> head.run));
+        // runs on exhaustion, on failure and on close of the stream, whichever comes first
+        AtomicBoolean cleaned = new AtomicBoolean();
+        Runnable cleanup = () -> {
+            if (cleaned.compareAndSet(false, true)) {
+                readers.forEach(SpillingRecordSorter::closeQuietly);
+                deleteRuns(runs);
+            }
+        };
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i));
+                readers.add(reader);
+                KeyRecord first = reader.next();
+                if (first != null) {
+                    heads.add(new RunHead<>(i, reader, mapper.apply(first)));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            cleanup.run();
+            throw e;
+        }
+
+        Iterator<T> merged = new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                RunHead<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    KeyRecord nextRecord = head.reader.next();
+                    if (nextRecord != null) {
+                        heads.add(new RunHead<>(head.run, head.reader, mapper.apply(nextRecord)));
+                    }
+                } catch (IOException | RuntimeException e) {
+                    heads.clear();
+                    cleanup.run();
+                    if (e instanceof IOException) {
+                        throw new DataAccessResourceFailureException("Failed to read sorted records from disk", e);
+                    }
+                    throw (RuntimeException) e;
+                }
+                if (heads.isEmpty()) {
+                    // the merge is exhausted, do not rely on the consumer closing the stream
+                    cleanup.run();
+                }
+                return head.document;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(cleanup);
+    }
+
+    private static void writeRecord(ObjectOutputStream out, KeyRecord keyRecord) throws IOException {
+        Key key = keyRecord.key;
+        Record record = keyRecord.record;
+        out.writeUTF(key.namespace);
+        out.writeObject(key.setName);
+        out.writeObject(key.digest);
+        out.writeObject(key.userKey == null ? null : key.userKey.getObject());
+        out.writeInt(record.generation);
+        out.writeInt(record.expiration);
+        out.writeObject(record.bins == null ? null : toSerializableBins(record.bins));
+    }
+
+    private static KeyRecord readRecord(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        String namespace = in.readUTF();
+        String setName = (String) in.readObject();
+        byte[] digest = (byte[]) in.readObject();
+        Object userKey = in.readObject();
+        int generation = in.readInt();
+        int expiration = in.readInt();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> bins = (Map<String, Object>) in.readObject();
+        Key key = new Key(namespace, digest, setName, userKey == null ? null : Value.get(userKey));
+        return new KeyRecord(key, new Record(bins == null ? null : fromSerializableBins(bins), generation, expiration));
+    }
+
+    private static HashMap<String, Object> toSerializableBins(Map<String, Object> bins) {
+        HashMap<String, Object> result = new HashMap<>(bins.size() * 2);
+        bins.forEach((name, value) -> result.put(name, ValueHolder.wrap(value)));
+        return result;
+    }
+
+    private static Map<String, Object> fromSerializableBins(Map<String, Object> bins) {
+        bins.replaceAll((name, value) -> ValueHolder.unwrap(value));
+        return bins;
+    }
+
+    private static void deleteRuns(List<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary file {}", run, e);
+            }
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.warn("Failed to close temporary file", e);
+        }
+    }
+
+    private static class Mapped<T> {
+
+        private final KeyRecord keyRecord;
+        private final T document;
+
+        private Mapped(KeyRecord keyRecord, T document) {
+            this.keyRecord = keyRecord;
+            this.document = document;
+        }
+    }
+
+    private static class RunHead<T> {
+
+        private final int run;
+        private final RunReader reader;
+        private final T document;
+
+        private RunHead(int run, RunReader reader, T document) {
+            this.run = run;
+            this.reader = reader;
+            this.document = document;
+        }
+    }
+
+    private static class RunReader implements Closeable {
+
+        private final ObjectInputStream in;
+        private boolean exhausted;
+
+        private RunReader(Path run) throws IOException {
+            this.in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(run)));
+        }
+
+        private KeyRecord next() throws IOException {
+            if (exhausted || !in.readBoolean()) {
+                exhausted = true;
+                return null;
+            }
+            try {
+                return readRecord(in);
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Serializable form of bin values the client returns as {@link Value} instances.
+     */
+    private static class ValueHolder implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean geoJson;
+        private final Object object;
+
+        private ValueHolder(boolean geoJson, Object object) {
+            this.geoJson = geoJson;
+            this.object = object;
+        }
+
+        private static Object wrap(Object value) {
+            if (value instanceof Value.GeoJSONValue) {
+                return new ValueHolder(true, ((Value) value).getObject());
+            }
+            if (value instanceof Value.HLLValue) {
+                return new ValueHolder(false, ((Value) value).getObject());
+            }
+            return value;
+        }
+
+        private static Object unwrap(Object value) {
+            if (value instanceof ValueHolder) {
+                ValueHolder holder = (ValueHolder) value;
+                return holder.geoJson
+                        ? new Value.GeoJSONValue((String) holder.object)
+                        : new Value.HLLValue((byte[]) holder.object);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Keeps the first {@code k} elements of the given order without holding the whole input in memory.
+ *
+ * @param <T> type of the elements
+ */
+final class TopK<T> {
+
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final Comparator<? super T> comparator;
+    private final int k;
+    // head of the queue is the greatest of the kept elements
+    private final PriorityQueue<T> heap;
+
+    TopK(Comparator<? super T> comparator, int k) {
+        this.comparator = comparator;
+        this.k = k;
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, MAX_INITIAL_CAPACITY)), Collections.reverseOrder(comparator));
+    }
+
+    static <T> Collector<T, ?, List<T>> collector(Comparator<? super T> comparator, int k) {
+        return Collector.of(() -> new TopK<T>(comparator, k), TopK::add, TopK::merge, TopK::toSortedList);
+    }
+
+    void add(T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+        } else if (k > 0 && comparator.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    TopK<T> merge(TopK<T> other) {
+        other.heap.forEach(this::add);
+        return this;
+    }
+
+    List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return result;
+    }
+}
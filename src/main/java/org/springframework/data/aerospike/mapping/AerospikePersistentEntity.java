@@ -42,6 +42,16 @@ public interface AerospikePersistentEntity<T> extends PersistentEntity<T, Aerosp
 
 	boolean isTouchOnRead();
 
+	/**
+	 * @return maximum amount of records kept in the near cache, 0 if the near cache is disabled.
+	 */
+	int getNearCacheSize();
+
+	/**
+	 * @return time a record is kept in the near cache, in milliseconds.
+	 */
+	long getNearCacheTtlMillis();
+
 	AerospikePersistentProperty getExpirationProperty();
 
 	boolean hasExpirationProperty();
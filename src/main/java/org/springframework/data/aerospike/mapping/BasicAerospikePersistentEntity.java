@@ -35,6 +35,9 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 	static final int DEFAULT_EXPIRATION = 0;
 
 	private final String defaultNameSpace;
+	private final boolean touchOnRead;
+	private final int nearCacheSize;
+	private final long nearCacheTtlMillis;
 
 	private AerospikePersistentProperty expirationProperty;
 	private Environment environment;
@@ -49,6 +52,16 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 
 		super(information);
 		this.defaultNameSpace = defaultNameSpace;
+
+		Document annotation = getType().getAnnotation(Document.class);
+		this.touchOnRead = annotation != null && annotation.touchOnRead();
+		if (annotation == null || annotation.touchOnRead()) {
+			this.nearCacheSize = 0;
+		} else {
+			Assert.state(annotation.nearCacheSize() >= 0, "Near cache size must not be negative");
+			this.nearCacheSize = annotation.nearCacheSize();
+		}
+		this.nearCacheTtlMillis = annotation == null ? 0 : annotation.nearCacheTtlUnit().toMillis(annotation.nearCacheTtl());
 	}
 
 	@Override
@@ -106,8 +119,17 @@ public class BasicAerospikePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	@Override
 	public boolean isTouchOnRead() {
-		Document annotation = getType().getAnnotation(Document.class);
-		return annotation != null && annotation.touchOnRead();
+		return touchOnRead;
+	}
+
+	@Override
+	public int getNearCacheSize() {
+		return nearCacheSize;
+	}
+
+	@Override
+	public long getNearCacheTtlMillis() {
+		return nearCacheTtlMillis;
 	}
 
 	@Override
@@ -86,4 +86,25 @@ public @interface Document {
 	 * An optional flag associated indicating whether the expiration timer should be reset whenever the document is directly read
 	 */
 	boolean touchOnRead() default false;
+
+	/**
+	 * An optional maximum amount of records kept in a local near cache in front of reads by id.
+	 * Records are evicted in least recently used order once the size is reached.
+	 * Default is 0, which disables the near cache. Ignored if {@link #touchOnRead()} is set.
+	 * <br/>
+	 * The near cache is invalidated by writes done through the same template only,
+	 * so it should be enabled for documents that are rarely modified by other applications.
+	 */
+	int nearCacheSize() default 0;
+
+	/**
+	 * An optional time a record is kept in the near cache, in {@link #nearCacheTtlUnit()}. Default is 60 seconds.
+	 * A record is never kept longer than its own expiration.
+	 */
+	int nearCacheTtl() default 60;
+
+	/**
+	 * An optional time unit for the {@link #nearCacheTtl()}. Default is {@link TimeUnit#SECONDS}.
+	 */
+	TimeUnit nearCacheTtlUnit() default TimeUnit.SECONDS;
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+/**
+ * Receives measurements of operations executed by templates and query engines.
+ * <p>
+ * Every operation is reported with its latency, the amount of records it returned or wrote
+ * and the error it failed with (already translated into a {@link org.springframework.dao.DataAccessException}
+ * when thrown by a template). Time spent waiting for the server and time spent mapping documents
+ * are reported separately, so that it is possible to tell which of them is the bottleneck.
+ * <p>
+ * Implementations must be thread safe and must not block. {@link #NOOP} is used by default,
+ * see {@link MicrometerAerospikeMetrics} for an implementation that publishes Micrometer meters.
+ */
+public interface AerospikeMetrics {
+
+    /**
+     * Ignores all measurements, templates skip measuring when it is used.
+     */
+    AerospikeMetrics NOOP = new AerospikeMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    String READ = "read";
+    String WRITE = "write";
+
+    /**
+     * @return false if measurements are ignored, so that callers can skip measuring completely.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records execution of a template or query engine operation.
+     *
+     * @param operation     name of the operation, for example {@code findById} or {@code query}
+     * @param set           set the operation was executed on
+     * @param durationNanos latency of the operation including conversion
+     * @param records       amount of records returned or written by the operation
+     * @param error         error the operation failed with or null if it succeeded
+     */
+    default void recordOperation(String operation, String set, long durationNanos, long records, Throwable error) {
+    }
+
+    /**
+     * Records time spent waiting for the cluster to execute a client command.
+     *
+     * @param command       client command, for example {@code get}, {@code put} or {@code query}
+     * @param set           set the command was executed on
+     * @param durationNanos time spent waiting for the command
+     */
+    default void recordNetwork(String command, String set, long durationNanos) {
+    }
+
+    /**
+     * Records conversion of a document to bins or of bins to a document.
+     *
+     * @param direction     {@link #READ} or {@link #WRITE}
+     * @param set           set of the converted document
+     * @param durationNanos time spent converting
+     * @param bytes         estimated serialized size of the converted bins
+     */
+    default void recordConversion(String direction, String set, long durationNanos, long bytes) {
+    }
+}
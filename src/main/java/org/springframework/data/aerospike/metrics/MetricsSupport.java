@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Value;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Measures blocking operations and reports them to {@link AerospikeMetrics}.
+ * Nothing is measured when metrics are disabled.
+ */
+public final class MetricsSupport {
+
+    private MetricsSupport() {
+    }
+
+    /**
+     * Executes the action and records it as an operation, the error is recorded as thrown by the action.
+     */
+    public static <R> R observe(AerospikeMetrics metrics, String operation, String set,
+                                ToLongFunction<? super R> records, Supplier<R> action) {
+        if (!metrics.isEnabled()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            R result = action.get();
+            metrics.recordOperation(operation, set, System.nanoTime() - start, records.applyAsLong(result), null);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordOperation(operation, set, System.nanoTime() - start, 0, e);
+            throw e;
+        }
+    }
+
+    public static void observe(AerospikeMetrics metrics, String operation, String set, long records, Runnable action) {
+        observe(metrics, operation, set, result -> records, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executes a client command and records time spent waiting for it.
+     */
+    public static <R> R network(AerospikeMetrics metrics, String command, String set, Supplier<R> action) {
+        if (!metrics.isEnabled()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            metrics.recordNetwork(command, set, System.nanoTime() - start);
+        }
+    }
+
+    public static void network(AerospikeMetrics metrics, String command, String set, Runnable action) {
+        network(metrics, command, set, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return estimated size of the bins as they are sent to the server.
+     */
+    public static long estimateSize(Collection<Bin> bins) {
+        long size = 0;
+        for (Bin bin : bins) {
+            size += estimateSize(bin.value);
+        }
+        return size;
+    }
+
+    /**
+     * @return estimated size of the bins as they are received from the server.
+     */
+    public static long estimateSize(Map<String, Object> bins) {
+        if (bins == null) {
+            return 0;
+        }
+        long size = 0;
+        for (Object value : bins.values()) {
+            size += estimateSize(Value.get(value));
+        }
+        return size;
+    }
+
+    private static int estimateSize(Value value) {
+        try {
+            return value.estimateSize();
+        } catch (AerospikeException e) {
+            // value that can not be serialized is reported by the client when it is written
+            return 0;
+        }
+    }
+}
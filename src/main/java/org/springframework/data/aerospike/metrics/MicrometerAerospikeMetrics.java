@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Publishes measurements as Micrometer meters:
+ * <ul>
+ * <li>{@code aerospike.operation} - timer of template and query engine operations,
+ * tagged by {@code operation}, {@code set} and {@code exception}</li>
+ * <li>{@code aerospike.operation.records} - amount of records returned or written by successful operations,
+ * tagged by {@code operation} and {@code set}</li>
+ * <li>{@code aerospike.operation.errors} - counter of failed operations,
+ * tagged by {@code operation}, {@code set} and {@code exception}</li>
+ * <li>{@code aerospike.network} - timer of time spent waiting for the cluster, tagged by {@code command} and {@code set}</li>
+ * <li>{@code aerospike.conversion} - timer of document conversion, tagged by {@code direction} and {@code set}</li>
+ * <li>{@code aerospike.conversion.bytes} - estimated size of converted bins, tagged by {@code direction} and {@code set}</li>
+ * </ul>
+ * Timers publish percentile histograms unless disabled by the constructor argument.
+ * Meters are registered once per combination of tags and reused for following measurements.
+ */
+public class MicrometerAerospikeMetrics implements AerospikeMetrics {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final boolean percentileHistogram;
+    private final Map<MeterTags, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<MeterTags, DistributionSummary> operationRecords = new ConcurrentHashMap<>();
+    private final Map<MeterTags, Counter> operationErrors = new ConcurrentHashMap<>();
+    private final Map<MeterTags, Timer> networkTimers = new ConcurrentHashMap<>();
+    private final Map<MeterTags, Timer> conversionTimers = new ConcurrentHashMap<>();
+    private final Map<MeterTags, DistributionSummary> conversionBytes = new ConcurrentHashMap<>();
+
+    public MicrometerAerospikeMetrics(MeterRegistry registry) {
+        this(registry, true);
+    }
+
+    public MicrometerAerospikeMetrics(MeterRegistry registry, boolean percentileHistogram) {
+        Assert.notNull(registry, "Meter registry must not be null!");
+        this.registry = registry;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public void recordOperation(String operation, String set, long durationNanos, long records, Throwable error) {
+        String exception = error == null ? NONE : error.getClass().getSimpleName();
+        MeterTags tags = new MeterTags(operation, set, exception);
+        meter(operationTimers, tags, this::operationTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (error == null) {
+            meter(operationRecords, tags, this::operationRecords).record(records);
+        } else {
+            meter(operationErrors, tags, this::operationErrors).increment();
+        }
+    }
+
+    @Override
+    public void recordNetwork(String command, String set, long durationNanos) {
+        meter(networkTimers, new MeterTags(command, set, NONE), this::networkTimer)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordConversion(String direction, String set, long durationNanos, long bytes) {
+        MeterTags tags = new MeterTags(direction, set, NONE);
+        meter(conversionTimers, tags, this::conversionTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+        meter(conversionBytes, tags, this::conversionBytes).record(bytes);
+    }
+
+    private Timer operationTimer(MeterTags tags) {
+        return Timer.builder("aerospike.operation")
+                .description("Latency of Aerospike operations")
+                .tag("operation", tags.name)
+                .tag("set", tags.set)
+                .tag("exception", tags.exception)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private DistributionSummary operationRecords(MeterTags tags) {
+        return DistributionSummary.builder("aerospike.operation.records")
+                .description("Amount of records returned or written by Aerospike operations")
+                .tag("operation", tags.name)
+                .tag("set", tags.set)
+                .register(registry);
+    }
+
+    private Counter operationErrors(MeterTags tags) {
+        return Counter.builder("aerospike.operation.errors")
+                .description("Failed Aerospike operations")
+                .tag("operation", tags.name)
+                .tag("set", tags.set)
+                .tag("exception", tags.exception)
+                .register(registry);
+    }
+
+    private Timer networkTimer(MeterTags tags) {
+        return Timer.builder("aerospike.network")
+                .description("Time spent waiting for the Aerospike cluster")
+                .tag("command", tags.name)
+                .tag("set", tags.set)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private Timer conversionTimer(MeterTags tags) {
+        return Timer.builder("aerospike.conversion")
+                .description("Time spent converting documents")
+                .tag("direction", tags.name)
+                .tag("set", tags.set)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private DistributionSummary conversionBytes(MeterTags tags) {
+        return DistributionSummary.builder("aerospike.conversion.bytes")
+                .description("Estimated size of converted bins")
+                .baseUnit("bytes")
+                .tag("direction", tags.name)
+                .tag("set", tags.set)
+                .register(registry);
+    }
+
+    private static <M> M meter(Map<MeterTags, M> meters, MeterTags tags, Function<MeterTags, M> register) {
+        // ConcurrentHashMap.computeIfAbsent locks the bin even if the meter is present
+        M meter = meters.get(tags);
+        return meter != null ? meter : meters.computeIfAbsent(tags, register);
+    }
+
+    /**
+     * Tags of a meter: operation, command or direction, set and exception.
+     */
+    private static final class MeterTags {
+
+        private final String name;
+        private final String set;
+        private final String exception;
+
+        MeterTags(String name, String set, String exception) {
+            this.name = name;
+            this.set = set == null ? NONE : set;
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MeterTags that = (MeterTags) o;
+            return name.equals(that.name) && set.equals(that.set) && exception.equals(that.exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, set, exception);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+
+/**
+ * Measures reactive operations and reports them to {@link AerospikeMetrics}.
+ * Measuring starts on subscription and ends on completion, error or cancellation.
+ * Nothing is measured when metrics are disabled.
+ */
+public final class ReactiveMetricsSupport {
+
+    private ReactiveMetricsSupport() {
+    }
+
+    public static <R> Mono<R> observe(AerospikeMetrics metrics, String operation, String set,
+                                      ToLongFunction<? super R> records, Mono<R> mono) {
+        if (!metrics.isEnabled()) {
+            return mono;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono
+                    .doOnSuccess(result -> metrics.recordOperation(operation, set, System.nanoTime() - start,
+                            result == null ? 0 : records.applyAsLong(result), null))
+                    .doOnError(e -> metrics.recordOperation(operation, set, System.nanoTime() - start, 0, e));
+        });
+    }
+
+    public static <R> Flux<R> observe(AerospikeMetrics metrics, String operation, String set, Flux<R> flux) {
+        if (!metrics.isEnabled()) {
+            return flux;
+        }
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong records = new AtomicLong();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            return flux
+                    .doOnNext(record -> records.incrementAndGet())
+                    .doOnError(error::set)
+                    .doFinally(signal -> metrics.recordOperation(operation, set, System.nanoTime() - start,
+                            records.get(), error.get()));
+        });
+    }
+
+    public static <R> Mono<R> network(AerospikeMetrics metrics, String command, String set, Mono<R> mono) {
+        if (!metrics.isEnabled()) {
+            return mono;
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> metrics.recordNetwork(command, set, System.nanoTime() - start));
+        });
+    }
+}
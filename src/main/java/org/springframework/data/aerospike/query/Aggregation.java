@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import org.springframework.util.Assert;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Built-in aggregation over entity fields, executed as a stream UDF of the {@value #MODULE} module.
+ * Records are reduced on the server nodes and only the partial results are transferred to the client.
+ * The module is registered on the cluster on first use.
+ * Records without the aggregated field are skipped, an aggregation over no records has no result.
+ */
+public final class Aggregation {
+
+	public static final String MODULE = "spring_data_aerospike";
+
+	private final String function;
+	private final String field;
+	private final String groupField;
+
+	private Aggregation(String function, String field, String groupField) {
+		this.function = function;
+		this.field = field;
+		this.groupField = groupField;
+	}
+
+	/**
+	 * @return aggregation counting records.
+	 */
+	public static Aggregation count() {
+		return new Aggregation("count", null, null);
+	}
+
+	/**
+	 * @return aggregation summing numeric values of the field.
+	 */
+	public static Aggregation sum(String field) {
+		Assert.hasLength(field, "Field must not be empty!");
+		return new Aggregation("sum", field, null);
+	}
+
+	/**
+	 * @return aggregation finding the smallest value of the field.
+	 */
+	public static Aggregation min(String field) {
+		Assert.hasLength(field, "Field must not be empty!");
+		return new Aggregation("min", field, null);
+	}
+
+	/**
+	 * @return aggregation finding the greatest value of the field.
+	 */
+	public static Aggregation max(String field) {
+		Assert.hasLength(field, "Field must not be empty!");
+		return new Aggregation("max", field, null);
+	}
+
+	/**
+	 * @return aggregation applying the given aggregation to each group of records with the same value of the field.
+	 * The result is a map from value of the field to result of the aggregation for the group.
+	 */
+	public static Aggregation groupBy(String field, Aggregation aggregation) {
+		Assert.hasLength(field, "Field must not be empty!");
+		Assert.notNull(aggregation, "Aggregation must not be null!");
+		Assert.isTrue(!aggregation.isGrouped(), "Nested grouping is not supported");
+		return new Aggregation(aggregation.function, aggregation.field, field);
+	}
+
+	public boolean isGrouped() {
+		return groupField != null;
+	}
+
+	/**
+	 * @return name of the function in the {@value #MODULE} module.
+	 */
+	public String getFunction() {
+		return isGrouped() ? "group_by" : function;
+	}
+
+	/**
+	 * @param binNames maps a field to the name of the bin it is stored in
+	 * @return arguments of the function.
+	 */
+	public Value[] getArguments(UnaryOperator<String> binNames) {
+		Value value = field == null ? Value.getAsNull() : Value.get(binNames.apply(field));
+		if (isGrouped()) {
+			return new Value[]{Value.get(binNames.apply(groupField)), Value.get(function), value};
+		}
+		return field == null ? new Value[0] : new Value[]{value};
+	}
+
+	@Override
+	public String toString() {
+		String aggregation = field == null ? function + "()" : function + "(" + field + ")";
+		return isGrouped() ? "groupBy(" + groupField + ", " + aggregation + ")" : aggregation;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Language;
+import com.aerospike.client.lua.LuaCache;
+
+/**
+ * Registers the {@value Aggregation#MODULE} module on the cluster and loads it for the reduce phase
+ * that the client runs locally.
+ */
+final class AggregationModule {
+
+	private static final String RESOURCE = "org/springframework/data/aerospike/query/" + Aggregation.MODULE + ".lua";
+
+	private volatile boolean registered;
+
+	void register(IAerospikeClient client) {
+		if (registered) {
+			return;
+		}
+		synchronized (this) {
+			if (!registered) {
+				ClassLoader classLoader = AggregationModule.class.getClassLoader();
+				client.register(null, classLoader, RESOURCE, Aggregation.MODULE + ".lua", Language.LUA)
+						.waitTillComplete();
+				LuaCache.loadPackageFromResource(classLoader, RESOURCE, Aggregation.MODULE);
+				registered = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Single page of a cursor based scan together with the cursor to continue from.
+ *
+ * @param <T> type of the page elements
+ */
+public class CursorResult<T> {
+
+	private final List<T> content;
+	@Nullable
+	private final PartitionCursor nextCursor;
+
+	public CursorResult(List<T> content, @Nullable PartitionCursor nextCursor) {
+		this.content = Collections.unmodifiableList(content);
+		this.nextCursor = nextCursor;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return cursor of the next page or {@literal null} if the scan is complete.
+	 */
+	@Nullable
+	public PartitionCursor getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	public <R> CursorResult<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = content.stream()
+				.map(mapper)
+				.collect(Collectors.toList());
+		return new CursorResult<>(mapped, nextCursor);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.query.PredExp;
+import com.aerospike.client.query.Statement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Qualifiers compiled into a predicate expression that the server evaluates for each record.
+ * The same expression can filter a query, a scan, a single-record read or a batch read:
+ * it is set on the {@link Statement} for queries and on the {@link Policy} for record reads.
+ * Qualifiers served by a secondary index filter, see {@link Qualifier#queryAsFilter()}, are skipped.
+ */
+public final class FilterExpression {
+
+	private static final FilterExpression EMPTY = new FilterExpression(new PredExp[0]);
+
+	private final PredExp[] predExp;
+
+	private FilterExpression(PredExp[] predExp) {
+		this.predExp = predExp;
+	}
+
+	public static FilterExpression empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Compiles qualifiers into an expression that matches records satisfying all of them.
+	 */
+	public static FilterExpression of(Qualifier... qualifiers) {
+		return of(qualifiers, null);
+	}
+
+	/**
+	 * Compiles qualifiers into an expression, leaving out the one already served by the statement's index filter.
+	 */
+	static FilterExpression of(Qualifier[] qualifiers, Qualifier servedByFilter) {
+		if (qualifiers == null) {
+			return EMPTY;
+		}
+		List<PredExp> predExp = new ArrayList<>();
+		int count = 0;
+		for (Qualifier qualifier : qualifiers) {
+			if (qualifier != null && qualifier != servedByFilter && !qualifier.queryAsFilter()) {
+				List<PredExp> qualifierPredExp = qualifier.toPredExp();
+				if (!qualifierPredExp.isEmpty()) {
+					predExp.addAll(qualifierPredExp);
+					count++;
+				}
+			}
+		}
+		if (count == 0) {
+			return EMPTY;
+		}
+		if (count > 1) {
+			predExp.add(PredExp.and(count));
+		}
+		return new FilterExpression(predExp.toArray(new PredExp[0]));
+	}
+
+	public boolean isEmpty() {
+		return predExp.length == 0;
+	}
+
+	/**
+	 * @return expression matching records that satisfy both this and the other expression.
+	 */
+	public FilterExpression and(FilterExpression other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		PredExp[] combined = Arrays.copyOf(predExp, predExp.length + other.predExp.length + 1);
+		System.arraycopy(other.predExp, 0, combined, predExp.length, other.predExp.length);
+		combined[combined.length - 1] = PredExp.and(2);
+		return new FilterExpression(combined);
+	}
+
+	/**
+	 * @return predicate expression in postfix notation, empty if the expression matches all records.
+	 */
+	public PredExp[] toPredExp() {
+		return predExp.clone();
+	}
+
+	/**
+	 * Sets the expression on the statement, so that it filters query or scan results.
+	 */
+	public Statement applyTo(Statement statement) {
+		if (!isEmpty()) {
+			statement.setPredExp(toPredExp());
+		}
+		return statement;
+	}
+
+	/**
+	 * Adds the expression to the policy, so that a single-record or batch read skips records that do not match it.
+	 * An expression already set on the policy is kept and combined with this one.
+	 * The given policy is modified, so it must not be a shared default policy.
+	 */
+	public <P extends Policy> P applyTo(P policy) {
+		if (!isEmpty()) {
+			FilterExpression existing = policy.predExp == null || policy.predExp.length == 0
+					? EMPTY : new FilterExpression(policy.predExp);
+			policy.predExp = existing.and(this).predExp;
+		}
+		return policy;
+	}
+}
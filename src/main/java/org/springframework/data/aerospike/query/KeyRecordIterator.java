@@ -66,6 +66,11 @@ public class KeyRecordIterator implements Iterator<KeyRecord>, Closeable {
 		this.recordSetIterator = recordSet.iterator();
 	}
 
+	/**
+	 * @deprecated aggregation results are not records, use
+	 * {@link org.springframework.data.aerospike.core.AerospikeOperations#aggregate(org.springframework.data.aerospike.repository.query.Query, Class, Class, String, String, com.aerospike.client.Value...)}.
+	 */
+	@Deprecated
 	public KeyRecordIterator(String namespace, ResultSet resultSet) {
 		this(namespace);
 		this.resultSet = resultSet;
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+
+/**
+ * Iterator over a query that reports the query to {@link AerospikeMetrics} once it is exhausted, failed or closed.
+ * Time spent in {@link #hasNext()} waiting for records is reported as network time.
+ */
+class MeasuredKeyRecordIterator extends KeyRecordIterator {
+
+	private final AerospikeMetrics metrics;
+	private final String operation;
+	private final String set;
+	private final long start;
+	private long waitingNanos;
+	private long records;
+	private boolean finished;
+
+	MeasuredKeyRecordIterator(String namespace, RecordSet recordSet, AerospikeMetrics metrics,
+							  String operation, String set, long start) {
+		super(namespace, recordSet);
+		this.metrics = metrics;
+		this.operation = operation;
+		this.set = set;
+		this.start = start;
+	}
+
+	@Override
+	public boolean hasNext() {
+		long waitStart = System.nanoTime();
+		try {
+			boolean hasNext = super.hasNext();
+			waitingNanos += System.nanoTime() - waitStart;
+			if (!hasNext) {
+				finish(null);
+			}
+			return hasNext;
+		} catch (RuntimeException e) {
+			waitingNanos += System.nanoTime() - waitStart;
+			finish(e);
+			throw e;
+		}
+	}
+
+	@Override
+	public KeyRecord next() {
+		KeyRecord keyRecord = super.next();
+		records++;
+		return keyRecord;
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		finish(null);
+	}
+
+	private synchronized void finish(Throwable error) {
+		if (finished) {
+			return;
+		}
+		finished = true;
+		metrics.recordNetwork(operation, set, waitingNanos);
+		metrics.recordOperation(operation, set, System.nanoTime() - start, records, error);
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.cluster.Node;
+import com.aerospike.client.cluster.Partition;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position of a paged query: partition to continue from and, within that partition, digest of the last record read.
+ * The position does not depend on the amount of records read, so records inserted or deleted between pages
+ * do not shift it. Can be passed between requests as an opaque token, see {@link #toToken()} and {@link #fromToken(String)}.
+ */
+public final class PartitionCursor {
+
+	/**
+	 * Cursor pointing to the beginning of a set.
+	 */
+	public static final PartitionCursor START = new PartitionCursor(0);
+
+	/**
+	 * Orders digests by partition, then by unsigned bytes of the digest.
+	 */
+	static final Comparator<byte[]> DIGEST_ORDER = Comparator.<byte[]>comparingInt(Partition::getPartitionId)
+			.thenComparing(PartitionCursor::compareUnsigned);
+
+	private static final int DIGEST_LENGTH = 20;
+
+	private final int partition;
+	@Nullable
+	private final byte[] digest;
+
+	/**
+	 * @param partition partition to continue from, from its first record
+	 */
+	public PartitionCursor(int partition) {
+		this(partition, null);
+	}
+
+	private PartitionCursor(int partition, @Nullable byte[] digest) {
+		if (partition < 0 || partition >= Node.PARTITIONS) {
+			throw new IllegalArgumentException("Invalid partition cursor: partition=" + partition);
+		}
+		if (digest != null && (digest.length != DIGEST_LENGTH || Partition.getPartitionId(digest) != partition)) {
+			throw new IllegalArgumentException("Invalid partition cursor: digest does not belong to partition " + partition);
+		}
+		this.partition = partition;
+		this.digest = digest;
+	}
+
+	/**
+	 * @return cursor continuing after the record with the given digest, within the partition of the digest.
+	 */
+	public static PartitionCursor after(byte[] digest) {
+		if (digest == null || digest.length != DIGEST_LENGTH) {
+			throw new IllegalArgumentException("Invalid partition cursor: digest must have " + DIGEST_LENGTH + " bytes");
+		}
+		return new PartitionCursor(Partition.getPartitionId(digest), digest.clone());
+	}
+
+	public static PartitionCursor fromToken(String token) {
+		byte[] decoded;
+		try {
+			decoded = Base64.getUrlDecoder().decode(token);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid partition cursor token: " + token, e);
+		}
+		if (decoded.length != Short.BYTES && decoded.length != Short.BYTES + DIGEST_LENGTH) {
+			throw new IllegalArgumentException("Invalid partition cursor token: " + token);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(decoded);
+		int partition = buffer.getShort();
+		byte[] digest = null;
+		if (buffer.hasRemaining()) {
+			digest = new byte[DIGEST_LENGTH];
+			buffer.get(digest);
+		}
+		return new PartitionCursor(partition, digest);
+	}
+
+	public String toToken() {
+		ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES + (digest == null ? 0 : DIGEST_LENGTH));
+		buffer.putShort((short) partition);
+		if (digest != null) {
+			buffer.put(digest);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+
+	public int getPartition() {
+		return partition;
+	}
+
+	/**
+	 * @return digest of the last record read in the partition or {@literal null} to continue from the first record.
+	 */
+	@Nullable
+	public byte[] getDigest() {
+		return digest == null ? null : digest.clone();
+	}
+
+	/**
+	 * @return whether the record with the given digest is positioned after this cursor in {@link #DIGEST_ORDER}.
+	 */
+	boolean precedes(byte[] recordDigest) {
+		int recordPartition = Partition.getPartitionId(recordDigest);
+		if (recordPartition != partition) {
+			return recordPartition > partition;
+		}
+		return digest == null || compareUnsigned(recordDigest, digest) > 0;
+	}
+
+	private static int compareUnsigned(byte[] left, byte[] right) {
+		for (int i = 0; i < Math.min(left.length, right.length); i++) {
+			int compared = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+			if (compared != 0) {
+				return compared;
+			}
+		}
+		return Integer.compare(left.length, right.length);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		PartitionCursor that = (PartitionCursor) o;
+		return partition == that.partition &&
+				Arrays.equals(digest, that.digest);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * partition + Arrays.hashCode(digest);
+	}
+
+	@Override
+	public String toString() {
+		return "PartitionCursor{partition=" + partition + ", digest=" +
+				(digest == null ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(digest)) + '}';
+	}
+}
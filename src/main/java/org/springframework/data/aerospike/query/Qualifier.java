@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -278,10 +279,13 @@ public class Qualifier implements Map<String, Object>, Serializable {
 				int valType = val.getType();
 				if (valType != ParticleType.LIST)
 					throw new IllegalArgumentException("FilterOperation.IN expects List argument with type: " + ParticleType.LIST + ", but got: " + valType);
-				List<?> inList = (List<?>) val.getObject();
-				for (Object value : inList)
-					rs.addAll(new Qualifier(this.getField(), FilterOperation.EQ, Value.get(value)).toPredExp());
-				rs.add(PredExp.or(inList.size()));
+				Set<?> inValues = new LinkedHashSet<>((List<?>) val.getObject());
+				if (inValues.isEmpty())
+					throw new QualifierException("FilterOperation.IN expects non empty List argument");
+				for (Object value : inValues)
+					rs.addAll(new Qualifier(this.getField(), FilterOperation.EQ, ignoreCase(), Value.get(value)).toPredExp());
+				if (inValues.size() > 1)
+					rs.add(PredExp.or(inValues.size()));
 				break;
 			case EQ:
 				val = getValue1();
@@ -309,6 +313,11 @@ public class Qualifier implements Map<String, Object>, Serializable {
 				}
 				break;
 			case NOTEQ:
+				if (ignoreCase() && getValue1().getType() == ParticleType.STRING) {
+					rs.addAll(new Qualifier(getField(), FilterOperation.EQ, true, getValue1()).toPredExp());
+					rs.add(PredExp.not());
+					break;
+				}
 				rs.addAll(Arrays.asList(valToPredExp(getValue1())));
 				rs.add(getValue1().getType() == ParticleType.INTEGER ? PredExp.integerUnequal() : PredExp.stringUnequal());
 				break;
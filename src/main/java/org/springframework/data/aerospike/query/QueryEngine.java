@@ -18,12 +18,42 @@ package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.RecordSet;
+import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+import org.springframework.data.aerospike.utility.ThreadPools;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.springframework.data.aerospike.metrics.MetricsSupport.network;
+import static org.springframework.data.aerospike.metrics.MetricsSupport.observe;
 
 /**
  * This class provides a multi-filter query engine that
@@ -44,9 +74,26 @@ public class QueryEngine {
 	 */
 	private boolean scansEnabled = false;
 
+	/**
+	 * Amount of partition ranges a scan is split into by {@link #selectParallel(String, String, Filter, Qualifier...)}.
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Runs the concurrent queries of {@link #selectParallel(String, String, Filter, Qualifier...)}, sized by {@link #parallelism}.
+	 */
+	private final ThreadPoolExecutor executor = ThreadPools.newBoundedPool("aerospike-query-", parallelism);
+	/**
+	 * Runs the concurrent queries of {@link #count(String, String, Qualifier...)}, separate from {@link #executor}
+	 * so that counting while a parallel stream is consumed does not wait for its readers.
+	 */
+	private final ThreadPoolExecutor countExecutor = ThreadPools.newBoundedPool("aerospike-count-", parallelism);
+
 	private final AerospikeClient client;
 	private final StatementBuilder statementBuilder;
+	private final AggregationModule aggregationModule = new AggregationModule();
 	private final QueryPolicy queryPolicy;
+	private AerospikeMetrics metrics = AerospikeMetrics.NOOP;
 
 	public enum Meta {
 		KEY,
@@ -86,6 +133,20 @@ public class QueryEngine {
 	 * @return A KeyRecordIterator to iterate over the results
 	 */
 	public KeyRecordIterator select(String namespace, String set, Filter filter, Qualifier... qualifiers) {
+		return select(namespace, set, null, filter, qualifiers);
+	}
+
+	/**
+	 * Select records filtered by a Filter and Qualifiers, reading only the given bins
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param binNames   Bins to read or null to read all bins
+	 * @param filter     Aerospike Filter to be used
+	 * @param qualifiers Zero or more Qualifiers for the update query
+	 * @return A KeyRecordIterator to iterate over the results
+	 */
+	public KeyRecordIterator select(String namespace, String set, String[] binNames, Filter filter, Qualifier... qualifiers) {
 		/*
 		 * singleton using primary key
 		 */
@@ -93,7 +154,10 @@ public class QueryEngine {
 		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
 			KeyQualifier kq = (KeyQualifier) qualifiers[0];
 			Key key = kq.makeKey(namespace, set);
-			Record record = this.client.get(null, key);
+			Record record = observe(metrics, "get", set, found -> found == null ? 0 : 1,
+					() -> network(metrics, "get", set, () -> binNames == null
+							? this.client.get(null, key)
+							: this.client.get(null, key, binNames)));
 			if (record == null) {
 				return new KeyRecordIterator(namespace);
 			} else {
@@ -106,11 +170,343 @@ public class QueryEngine {
 		 *  query with filters
 		 */
 		Statement statement = statementBuilder.build(namespace, set, filter, qualifiers);
+		statement.setBinNames(binNames);
 		if(!scansEnabled && statement.getFilter() == null) {
 			throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
 		}
+		if (!metrics.isEnabled()) {
+			return new KeyRecordIterator(namespace, client.query(queryPolicy, statement));
+		}
+		long start = System.nanoTime();
 		RecordSet rs = client.query(queryPolicy, statement);
-		return new KeyRecordIterator(namespace, rs);
+		return new MeasuredKeyRecordIterator(namespace, rs, metrics, operationName(statement), set, start);
+	}
+
+	/**
+	 * Select records filtered by a Filter and Qualifiers, running several queries concurrently.
+	 * A scan is split into partition ranges, a secondary index query is split into one query per cluster node.
+	 * The queries are read on a bounded executor of {@link #setParallelism(int) parallelism} threads,
+	 * the threads of the resulting parallel stream only process records already read.
+	 * The resulting parallel stream must be closed after use, a stream whose consumer takes no record
+	 * for a minute fails and stops its queries.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param filter     Aerospike Filter to be used
+	 * @param qualifiers Zero or more Qualifiers for the update query
+	 * @return A parallel stream of the results
+	 */
+	public Stream<KeyRecord> selectParallel(String namespace, String set, Filter filter, Qualifier... qualifiers) {
+		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
+			KeyRecordIterator iterator = select(namespace, set, filter, qualifiers);
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+					.onClose(iterator::close);
+		}
+
+		Statement statement = statementBuilder.build(namespace, set, filter, qualifiers);
+		List<Supplier<RecordSet>> queries = parallelQueries(queryPolicy, statement);
+
+		Stream<KeyRecord> records = RecordSetsReader.read(queries, executor);
+		return measured(records, "parallel" + StringUtils.capitalize(operationName(statement)), set);
+	}
+
+	/**
+	 * Counts records filtered by Qualifiers without transferring their bins.
+	 * Like {@link #selectParallel(String, String, Filter, Qualifier...)} a scan is split into partition ranges
+	 * and a secondary index query into one query per cluster node, which are counted concurrently.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return Amount of matching records
+	 */
+	public long count(String namespace, String set, Qualifier... qualifiers) {
+		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
+			Key key = ((KeyQualifier) qualifiers[0]).makeKey(namespace, set);
+			Record header = network(metrics, "getHeader", set, () -> client.getHeader(null, key));
+			return header == null ? 0 : 1;
+		}
+
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		QueryPolicy policy = queryPolicy == null ? new QueryPolicy() : new QueryPolicy(queryPolicy);
+		policy.includeBinData = false;
+		List<Supplier<RecordSet>> queries = parallelQueries(policy, statement);
+		return network(metrics, "count" + StringUtils.capitalize(operationName(statement)), set,
+				() -> count(queries));
+	}
+
+	private long count(List<Supplier<RecordSet>> queries) {
+		List<Future<Long>> counts = queries.stream()
+				.map(query -> countExecutor.submit(() -> count(query)))
+				.collect(Collectors.toList());
+		try {
+			long count = 0;
+			for (Future<Long> partial : counts) {
+				count += partial.get();
+			}
+			return count;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while counting records", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Failed to count records", e.getCause());
+		} finally {
+			counts.forEach(partial -> partial.cancel(true));
+		}
+	}
+
+	private static long count(Supplier<RecordSet> query) {
+		long count = 0;
+		try (RecordSet rs = query.get()) {
+			while (rs.next()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private List<Supplier<RecordSet>> parallelQueries(QueryPolicy policy, Statement statement) {
+		if (statement.getFilter() == null) {
+			if (!scansEnabled) {
+				throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+			}
+			return partitionRanges(parallelism).stream()
+					.map(range -> (Supplier<RecordSet>) () -> client.queryPartitions(policy, statement, range))
+					.collect(Collectors.toList());
+		}
+		// secondary index queries can not be limited to partitions, so nodes are queried separately instead
+		return Arrays.stream(client.getNodes())
+				.map(node -> (Supplier<RecordSet>) () -> client.queryNode(policy, statement, node))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Runs a stream UDF over records filtered by Qualifiers.
+	 * The {@value Aggregation#MODULE} module is registered on the cluster on first use.
+	 * The ResultSet must be closed after use, closing it before it is exhausted stops the query on the server.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param module     Lua module of the stream UDF
+	 * @param function   Function of the stream UDF
+	 * @param arguments  Arguments of the function
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return A ResultSet of the values returned by the function
+	 */
+	public ResultSet aggregate(String namespace, String set, String module, String function, Value[] arguments,
+							   Qualifier... qualifiers) {
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		if (!scansEnabled && statement.getFilter() == null) {
+			throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+		}
+		if (Aggregation.MODULE.equals(module)) {
+			aggregationModule.register(client);
+		}
+		return client.queryAggregate(queryPolicy, statement, module, function, arguments);
+	}
+
+	/**
+	 * Applies operations to every record filtered by Qualifiers as a background query on the server.
+	 * Records are modified by the server nodes without being transferred to the client.
+	 *
+	 * @param namespace   Namespace to storing the data
+	 * @param set         Set storing the data
+	 * @param writePolicy Write policy of the modifications, may be null
+	 * @param operations  Write operations applied to each record
+	 * @param qualifiers  Zero or more Qualifiers for the query
+	 * @return A task of the background query
+	 */
+	public ExecuteTask execute(String namespace, String set, WritePolicy writePolicy, Operation[] operations,
+							   Qualifier... qualifiers) {
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		if (!scansEnabled && statement.getFilter() == null) {
+			throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+		}
+		return network(metrics, "execute" + StringUtils.capitalize(operationName(statement)), set,
+				() -> client.execute(writePolicy, statement, operations));
+	}
+
+	/**
+	 * Reports the stream to metrics when it is closed, parallel streams are not exhausted by a single thread.
+	 */
+	private Stream<KeyRecord> measured(Stream<KeyRecord> records, String operation, String set) {
+		if (!metrics.isEnabled()) {
+			return records;
+		}
+		long start = System.nanoTime();
+		LongAdder count = new LongAdder();
+		return records
+				.peek(keyRecord -> count.increment())
+				.onClose(() -> metrics.recordOperation(operation, set, System.nanoTime() - start, count.sum(), null));
+	}
+
+	/**
+	 * Explains how a query with the given Qualifiers is executed: which Qualifier is served by a secondary index
+	 * and which are evaluated as predicate expressions.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return Plan of the query
+	 */
+	public QueryPlan explain(String namespace, String set, Qualifier... qualifiers) {
+		return statementBuilder.explain(namespace, set, qualifiers);
+	}
+
+	private static String operationName(Statement statement) {
+		return statement.getFilter() == null ? "scan" : "query";
+	}
+
+	/**
+	 * Select a page of records filtered by Qualifiers, continuing from the given cursor.
+	 * Records are returned ordered by partition and digest, so the cursor stays valid when records are
+	 * inserted or deleted between pages. A query served by a secondary index is executed on the index once per page,
+	 * since the server can not limit a secondary index query to partitions. Other queries read only the partitions
+	 * not returned yet, in windows sized by the density of the partitions read so far.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param cursor     Position to continue from, {@link PartitionCursor#START} for the first page
+	 * @param limit      Maximum amount of records in the page
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return Records of the page and the cursor of the next page
+	 */
+	public CursorResult<KeyRecord> selectPage(String namespace, String set, PartitionCursor cursor, int limit,
+											  Qualifier... qualifiers) {
+		Assert.isTrue(limit > 0, "Limit must be greater than zero");
+		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
+			List<KeyRecord> records = new ArrayList<>();
+			select(namespace, set, null, qualifiers).forEachRemaining(records::add);
+			return new CursorResult<>(records, null);
+		}
+
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		if (statement.getFilter() != null) {
+			return observe(metrics, "queryPage", set, page -> page.getContent().size(),
+					() -> network(metrics, "queryPage", set, () -> selectIndexPage(statement, cursor, limit)));
+		}
+		if (!scansEnabled) {
+			throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+		}
+		return observe(metrics, "scanPage", set, page -> page.getContent().size(),
+				() -> network(metrics, "scanPage", set, () -> selectScanPage(statement, cursor, limit)));
+	}
+
+	private CursorResult<KeyRecord> selectIndexPage(Statement statement, PartitionCursor cursor, int limit) {
+		Comparator<KeyRecord> order = Comparator.comparing(keyRecord -> keyRecord.key.digest, PartitionCursor.DIGEST_ORDER);
+		PriorityQueue<KeyRecord> smallest = new PriorityQueue<>(limit + 1, order.reversed());
+		boolean more = false;
+		try (RecordSet rs = client.query(queryPolicy, statement)) {
+			while (rs.next()) {
+				Key key = rs.getKey();
+				if (!cursor.precedes(key.digest)) {
+					continue;
+				}
+				smallest.add(new KeyRecord(key, rs.getRecord()));
+				if (smallest.size() > limit) {
+					smallest.poll();
+					more = true;
+				}
+			}
+		}
+		List<KeyRecord> records = new ArrayList<>(smallest);
+		records.sort(order);
+		PartitionCursor next = more ? PartitionCursor.after(records.get(records.size() - 1).key.digest) : null;
+		return new CursorResult<>(records, next);
+	}
+
+	private CursorResult<KeyRecord> selectScanPage(Statement statement, PartitionCursor cursor, int limit) {
+		List<KeyRecord> records = new ArrayList<>(limit);
+		int partition = cursor.getPartition();
+		byte[] digest = cursor.getDigest();
+		if (digest != null) {
+			// A single partition is returned in digest order, so it can be streamed up to the limit
+			Key after = new Key(statement.getNamespace(), digest, statement.getSetName(), null);
+			try (RecordSet rs = client.queryPartitions(queryPolicy, statement, PartitionFilter.after(after))) {
+				while (rs.next()) {
+					records.add(new KeyRecord(rs.getKey(), rs.getRecord()));
+					if (records.size() == limit) {
+						return new CursorResult<>(records, PartitionCursor.after(rs.getKey().digest));
+					}
+				}
+			}
+			partition++;
+		}
+
+		int partitionsRead = 0;
+		int window = 1;
+		while (partition < Node.PARTITIONS && records.size() < limit) {
+			window = Math.min(window, Node.PARTITIONS - partition);
+			// Nodes return their partitions concurrently, so the window is sorted before it is cut at the limit
+			List<KeyRecord> windowRecords = new ArrayList<>();
+			try (RecordSet rs = client.queryPartitions(queryPolicy, statement, PartitionFilter.range(partition, window))) {
+				while (rs.next()) {
+					windowRecords.add(new KeyRecord(rs.getKey(), rs.getRecord()));
+				}
+			}
+			int remaining = limit - records.size();
+			if (windowRecords.size() > remaining) {
+				windowRecords.sort(Comparator.comparing(keyRecord -> keyRecord.key.digest, PartitionCursor.DIGEST_ORDER));
+				records.addAll(windowRecords.subList(0, remaining));
+				return new CursorResult<>(records, PartitionCursor.after(records.get(limit - 1).key.digest));
+			}
+			records.addAll(windowRecords);
+			partition += window;
+			partitionsRead += window;
+			window = nextWindow(window, partitionsRead, records.size(), limit);
+		}
+		return new CursorResult<>(records, partition < Node.PARTITIONS ? new PartitionCursor(partition) : null);
+	}
+
+	/**
+	 * Doubles the window while no records are found, otherwise sizes it to the partitions expected to fill the page.
+	 */
+	private static int nextWindow(int window, int partitionsRead, int recordsRead, int limit) {
+		if (recordsRead == 0) {
+			return Math.min(window * 2, Node.PARTITIONS);
+		}
+		long expected = (long) (limit - recordsRead) * partitionsRead / recordsRead + 1;
+		return (int) Math.min(expected, Node.PARTITIONS);
+	}
+
+	static List<PartitionFilter> partitionRanges(int count) {
+		int ranges = Math.min(count, Node.PARTITIONS);
+		int rangeSize = Node.PARTITIONS / ranges;
+		int remainder = Node.PARTITIONS % ranges;
+		List<PartitionFilter> result = new ArrayList<>(ranges);
+		int begin = 0;
+		for (int i = 0; i < ranges; i++) {
+			int size = i < remainder ? rangeSize + 1 : rangeSize;
+			result.add(PartitionFilter.range(begin, size));
+			begin += size;
+		}
+		return result;
+	}
+
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+		this.parallelism = parallelism;
+		ThreadPools.resize(executor, parallelism);
+		ThreadPools.resize(countExecutor, parallelism);
+	}
+
+	/**
+	 * Stops the executor of concurrent queries, concurrent queries started afterwards fail.
+	 */
+	public void destroy() {
+		executor.shutdownNow();
+		countExecutor.shutdownNow();
+	}
+
+	/**
+	 * Sets metrics that receive latency, record counts and network time of queries.
+	 */
+	public void setMetrics(AerospikeMetrics metrics) {
+		Assert.notNull(metrics, "Metrics must not be null!");
+		this.metrics = metrics;
 	}
 
 	public void setScansEnabled(boolean scansEnabled) {
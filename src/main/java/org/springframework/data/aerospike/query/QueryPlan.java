@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.Filter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Plan of a query built by {@link StatementBuilder}: qualifiers that can be served by a secondary index,
+ * ordered from the cheapest to the most expensive one. The cheapest candidate is used as the query filter,
+ * all other qualifiers are evaluated on the server as predicate expressions.
+ * If there are no candidates, the query is executed as a scan.
+ */
+public class QueryPlan {
+
+	private final String namespace;
+	private final String set;
+	private final List<Candidate> candidates;
+
+	QueryPlan(String namespace, String set, List<Candidate> candidates) {
+		this.namespace = namespace;
+		this.set = set;
+		this.candidates = Collections.unmodifiableList(candidates);
+	}
+
+	public String getNamespace() {
+		return namespace;
+	}
+
+	public String getSet() {
+		return set;
+	}
+
+	/**
+	 * @return index backed qualifiers ordered by estimated cost, the first one is used as the query filter.
+	 */
+	public List<Candidate> getCandidates() {
+		return candidates;
+	}
+
+	/**
+	 * @return candidate used as the query filter, empty if the query is executed as a scan.
+	 */
+	public Optional<Candidate> getFilter() {
+		return candidates.stream().findFirst();
+	}
+
+	public boolean isScan() {
+		return candidates.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryPlan{" +
+				"namespace='" + namespace + '\'' +
+				", set='" + set + '\'' +
+				", filter=" + getFilter().map(Candidate::toString).orElse("<scan>") +
+				", candidates=" + candidates +
+				'}';
+	}
+
+	/**
+	 * Qualifier that can be served by a secondary index together with its estimated cost.
+	 */
+	public static class Candidate {
+
+		private final Qualifier qualifier;
+		private final int position;
+		private final Filter filter;
+		private final String indexName;
+		private final boolean equality;
+		private final double estimatedRecords;
+
+		Candidate(Qualifier qualifier, int position, Filter filter, String indexName, boolean equality,
+				  double estimatedRecords) {
+			this.qualifier = qualifier;
+			this.position = position;
+			this.filter = filter;
+			this.indexName = indexName;
+			this.equality = equality;
+			this.estimatedRecords = estimatedRecords;
+		}
+
+		Qualifier getQualifier() {
+			return qualifier;
+		}
+
+		/**
+		 * @return position of the qualifier in the given qualifiers or -1 if the qualifier is a part of an AND qualifier.
+		 */
+		int getPosition() {
+			return position;
+		}
+
+		Filter getFilter() {
+			return filter;
+		}
+
+		public String getField() {
+			return qualifier.getField();
+		}
+
+		public Qualifier.FilterOperation getOperation() {
+			return qualifier.getOperation();
+		}
+
+		/**
+		 * @return name of the index serving the qualifier.
+		 */
+		public String getIndexName() {
+			return indexName;
+		}
+
+		/**
+		 * @return whether the qualifier matches a single value of the indexed bin.
+		 */
+		public boolean isEquality() {
+			return equality;
+		}
+
+		/**
+		 * @return estimated amount of records per node read using the index, empty if index statistics are not loaded.
+		 */
+		public OptionalDouble getEstimatedRecords() {
+			return Double.isNaN(estimatedRecords) ? OptionalDouble.empty() : OptionalDouble.of(estimatedRecords);
+		}
+
+		@Override
+		public String toString() {
+			return "Candidate{" +
+					"field='" + getField() + '\'' +
+					", operation=" + getOperation() +
+					", index='" + indexName + '\'' +
+					", equality=" + equality +
+					", estimatedRecords=" + (Double.isNaN(estimatedRecords) ? "unknown" : String.valueOf(estimatedRecords)) +
+					'}';
+		}
+	}
+}
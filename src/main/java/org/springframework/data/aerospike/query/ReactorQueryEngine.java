@@ -16,16 +16,29 @@
  */
 package org.springframework.data.aerospike.query;
 
+import com.aerospike.client.IAerospikeClient;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.task.ExecuteTask;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Objects;
 
+import static org.springframework.data.aerospike.metrics.ReactiveMetricsSupport.network;
+import static org.springframework.data.aerospike.metrics.ReactiveMetricsSupport.observe;
+
 /**
  * This class provides a multi-filter reactive query engine that
  * augments the query capability in Aerospike.
@@ -44,6 +57,9 @@ public class ReactorQueryEngine {
 	private final IAerospikeReactorClient client;
 	private final StatementBuilder statementBuilder;
 	private final QueryPolicy queryPolicy;
+	private final AggregationModule aggregationModule = new AggregationModule();
+	private IAerospikeClient blockingClient;
+	private AerospikeMetrics metrics = AerospikeMetrics.NOOP;
 
 	public ReactorQueryEngine(IAerospikeReactorClient client, StatementBuilder statementBuilder,
 							  QueryPolicy queryPolicy) {
@@ -62,6 +78,20 @@ public class ReactorQueryEngine {
 	 * @return A Flux<KeyRecord> to iterate over the results
 	 */
 	public Flux<KeyRecord> select(String namespace, String set, Filter filter, Qualifier... qualifiers) {
+		return select(namespace, set, null, filter, qualifiers);
+	}
+
+	/**
+	 * Select records filtered by a Filter and Qualifiers, reading only the given bins
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param binNames   Bins to read or null to read all bins
+	 * @param filter     Aerospike Filter to be used
+	 * @param qualifiers Zero or more Qualifiers for the update query
+	 * @return A Flux<KeyRecord> to iterate over the results
+	 */
+	public Flux<KeyRecord> select(String namespace, String set, String[] binNames, Filter filter, Qualifier... qualifiers) {
 		/*
 		 * singleton using primary key
 		 */
@@ -69,17 +99,132 @@ public class ReactorQueryEngine {
 		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
 			KeyQualifier kq = (KeyQualifier) qualifiers[0];
 			Key key = kq.makeKey(namespace, set);
-			return Flux.from(this.client.get(null, key))
-					.filter(keyRecord -> Objects.nonNull(keyRecord.record));
+			return observe(metrics, "get", set, Flux.from(network(metrics, "get", set, binNames == null
+					? this.client.get(null, key)
+					: this.client.get(null, key, binNames)))
+					.filter(keyRecord -> Objects.nonNull(keyRecord.record)));
 		}
 		/*
 		 *  query with filters
 		 */
 		Statement statement = statementBuilder.build(namespace, set, filter, qualifiers);
+		statement.setBinNames(binNames);
+		if(!scansEnabled && statement.getFilter() == null) {
+			return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+		}
+		return observe(metrics, statement.getFilter() == null ? "scan" : "query", set,
+				client.query(queryPolicy, statement));
+	}
+
+	/**
+	 * Counts records filtered by Qualifiers without transferring their bins,
+	 * see {@link QueryEngine#count(String, String, Qualifier...)}. Cluster nodes are queried concurrently.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return A Mono of the amount of matching records
+	 */
+	public Mono<Long> count(String namespace, String set, Qualifier... qualifiers) {
+		if (qualifiers != null && qualifiers.length == 1 && qualifiers[0] instanceof KeyQualifier) {
+			Key key = ((KeyQualifier) qualifiers[0]).makeKey(namespace, set);
+			return network(metrics, "getHeader", set, this.client.getHeader(null, key))
+					.map(keyRecord -> keyRecord.record == null ? 0L : 1L)
+					.defaultIfEmpty(0L);
+		}
+
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		if(!scansEnabled && statement.getFilter() == null) {
+			return Mono.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+		}
+		QueryPolicy policy = queryPolicy == null ? new QueryPolicy() : new QueryPolicy(queryPolicy);
+		policy.includeBinData = false;
+		return network(metrics, statement.getFilter() == null ? "countScan" : "countQuery", set,
+				client.query(policy, statement).count());
+	}
+
+	/**
+	 * Runs a stream UDF over records filtered by Qualifiers, see {@link QueryEngine#aggregate(String, String, String, String, Value[], Qualifier...)}.
+	 * The reactor client has no aggregation support, so the blocking client set by {@link #setBlockingClient(IAerospikeClient)}
+	 * is used on a bounded elastic scheduler. Values are pulled from the server as they are requested,
+	 * cancelling the subscription stops the query on the server.
+	 *
+	 * @param namespace  Namespace to storing the data
+	 * @param set        Set storing the data
+	 * @param module     Lua module of the stream UDF
+	 * @param function   Function of the stream UDF
+	 * @param arguments  Arguments of the function
+	 * @param qualifiers Zero or more Qualifiers for the query
+	 * @return A Flux of the values returned by the function
+	 */
+	public Flux<Object> aggregate(String namespace, String set, String module, String function, Value[] arguments,
+								  Qualifier... qualifiers) {
+		if (blockingClient == null) {
+			return Flux.error(new IllegalStateException("Aggregation requires a blocking client, see setBlockingClient"));
+		}
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
 		if(!scansEnabled && statement.getFilter() == null) {
 			return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
 		}
-		return client.query(queryPolicy, statement);
+		return Flux.using(() -> {
+					if (Aggregation.MODULE.equals(module)) {
+						aggregationModule.register(blockingClient);
+					}
+					return blockingClient.queryAggregate(queryPolicy, statement, module, function, arguments);
+				},
+				Flux::fromIterable,
+				ResultSet::close)
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Applies operations to every record filtered by Qualifiers as a background query on the server,
+	 * see {@link QueryEngine#execute(String, String, WritePolicy, Operation[], Qualifier...)}.
+	 * The reactor client has no background query support, so the blocking client set by {@link #setBlockingClient(IAerospikeClient)}
+	 * is used on a bounded elastic scheduler.
+	 *
+	 * @param namespace   Namespace to storing the data
+	 * @param set         Set storing the data
+	 * @param writePolicy Write policy of the modifications, may be null
+	 * @param operations  Write operations applied to each record
+	 * @param qualifiers  Zero or more Qualifiers for the query
+	 * @return A Mono of the task of the background query
+	 */
+	public Mono<ExecuteTask> execute(String namespace, String set, WritePolicy writePolicy, Operation[] operations,
+									 Qualifier... qualifiers) {
+		if (blockingClient == null) {
+			return Mono.error(new IllegalStateException("Background queries require a blocking client, see setBlockingClient"));
+		}
+		Statement statement = statementBuilder.build(namespace, set, null, qualifiers);
+		if(!scansEnabled && statement.getFilter() == null) {
+			return Mono.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+		}
+		return network(metrics, statement.getFilter() == null ? "executeScan" : "executeQuery", set,
+				Mono.fromCallable(() -> blockingClient.execute(writePolicy, statement, operations))
+						.subscribeOn(Schedulers.boundedElastic()));
+	}
+
+	/**
+	 * Explains how a query with the given Qualifiers is executed, see {@link QueryEngine#explain(String, String, Qualifier...)}.
+	 */
+	public QueryPlan explain(String namespace, String set, Qualifier... qualifiers) {
+		return statementBuilder.explain(namespace, set, qualifiers);
+	}
+
+	/**
+	 * Sets metrics that receive latency and record counts of queries.
+	 */
+	public void setMetrics(AerospikeMetrics metrics) {
+		Assert.notNull(metrics, "Metrics must not be null!");
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Sets the blocking client used by {@link #aggregate(String, String, String, String, Value[], Qualifier...)}
+	 * and {@link #execute(String, String, WritePolicy, Operation[], Qualifier...)}.
+	 */
+	public void setBlockingClient(IAerospikeClient blockingClient) {
+		this.blockingClient = blockingClient;
 	}
 
 	public void setScansEnabled(boolean scansEnabled) {
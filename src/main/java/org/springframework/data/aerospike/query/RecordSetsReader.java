@@ -0,0 +1,261 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads several independent queries (e.g. one per partition range) on an executor and hands the records over
+ * through a bounded queue, so that the network reads do not block the threads consuming the records.
+ * The consuming stream is parallel: batches of received records are split off to other threads of the stream,
+ * and waiting for records is a managed block of the fork join pool.
+ * <p>
+ * A reader finding the queue full does not hold its thread: it gives the thread back to the executor and is
+ * resubmitted, so that queries started while the stream is consumed (e.g. a nested parallel query) still run.
+ * If the consumer takes no record for {@link #CONSUMER_TIMEOUT_NANOS} the readers stop and the stream fails.
+ */
+class RecordSetsReader {
+
+    private static final int CAPACITY = 4096;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long CONSUMER_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final Object END = new Object();
+
+    private final BlockingQueue<KeyRecord> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final List<Reader> readers = new ArrayList<>();
+    private final AtomicInteger running;
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final ExecutorService executor;
+    private volatile boolean closed;
+
+    private RecordSetsReader(int queries, ExecutorService executor) {
+        this.running = new AtomicInteger(queries);
+        this.executor = executor;
+    }
+
+    /**
+     * Starts reading the queries, the returned stream must be closed to stop reading before all records are read.
+     */
+    static Stream<KeyRecord> read(List<Supplier<RecordSet>> queries, ExecutorService executor) {
+        RecordSetsReader reader = new RecordSetsReader(queries.size(), executor);
+        for (Supplier<RecordSet> query : queries) {
+            reader.readers.add(reader.new Reader(query));
+        }
+        reader.readers.forEach(Reader::submit);
+        return StreamSupport.stream(reader.new RecordSpliterator(), true)
+                .onClose(reader::close);
+    }
+
+    private boolean isStopped() {
+        return closed || failure.get() != null;
+    }
+
+    private void fail(RuntimeException e) {
+        failure.compareAndSet(null, e);
+    }
+
+    private Object take() {
+        Taker taker = new Taker();
+        try {
+            ForkJoinPool.managedBlock(taker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for query results", e);
+        }
+        return taker.item;
+    }
+
+    private void close() {
+        closed = true;
+        readers.forEach(Reader::interrupt);
+        queue.clear();
+    }
+
+    /**
+     * Reads a single query until the queue is full, then yields its thread and continues once resubmitted.
+     */
+    private class Reader implements Runnable {
+
+        private final Supplier<RecordSet> query;
+        private RecordSet recordSet;
+        private KeyRecord pending;
+        private long waitingSince;
+        private Future<?> future;
+        private boolean active;
+
+        private Reader(Supplier<RecordSet> query) {
+            this.query = query;
+        }
+
+        private synchronized void submit() {
+            try {
+                future = executor.submit(this);
+            } catch (RuntimeException e) {
+                fail(e);
+                finish();
+            }
+        }
+
+        /**
+         * Interrupts a running read, a queued one is not cancelled but stops once it runs to close its record set.
+         */
+        private synchronized void interrupt() {
+            if (active) {
+                future.cancel(true);
+            }
+        }
+
+        private synchronized void setActive(boolean active) {
+            this.active = active;
+        }
+
+        @Override
+        public void run() {
+            boolean yielded = false;
+            setActive(true);
+            try {
+                if (recordSet == null && !isStopped()) {
+                    recordSet = query.get();
+                }
+                while (!isStopped()) {
+                    if (pending == null) {
+                        if (!recordSet.next()) {
+                            break;
+                        }
+                        pending = new KeyRecord(recordSet.getKey(), recordSet.getRecord());
+                    }
+                    if (!queue.offer(pending, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        long now = System.nanoTime();
+                        if (waitingSince == 0) {
+                            waitingSince = now;
+                        } else if (now - waitingSince > CONSUMER_TIMEOUT_NANOS) {
+                            fail(new IllegalStateException("Query results were not consumed for "
+                                    + TimeUnit.NANOSECONDS.toSeconds(CONSUMER_TIMEOUT_NANOS) + " s, stopped reading"));
+                            break;
+                        }
+                        // let other queued tasks run instead of holding the thread while the consumer is busy
+                        yielded = true;
+                        return;
+                    }
+                    waitingSince = 0;
+                    pending = null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                fail(e);
+            } finally {
+                setActive(false);
+                if (yielded) {
+                    submit();
+                } else {
+                    finish();
+                }
+            }
+        }
+
+        private void finish() {
+            if (recordSet != null) {
+                recordSet.close();
+                recordSet = null;
+            }
+            running.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for the next record, the end of all queries or a failure of a query.
+     */
+    private class Taker implements ForkJoinPool.ManagedBlocker {
+
+        private Object item;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            while (!isReleasable()) {
+                item = queue.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (item != null) {
+                return true;
+            }
+            RuntimeException e = failure.get();
+            if (e != null) {
+                item = e;
+                return true;
+            }
+            boolean finished = running.get() == 0;
+            // records are queued before their reader finishes, so an empty queue after all finished is the end
+            item = queue.poll();
+            if (item == null && finished) {
+                item = END;
+            }
+            return item != null;
+        }
+    }
+
+    /**
+     * Splitting is done by {@link Spliterators.AbstractSpliterator} in batches of records already taken from the queue.
+     */
+    private class RecordSpliterator extends Spliterators.AbstractSpliterator<KeyRecord> {
+
+        private boolean done;
+
+        private RecordSpliterator() {
+            super(Long.MAX_VALUE, Spliterator.NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KeyRecord> action) {
+            if (done) {
+                return false;
+            }
+            Object item = take();
+            if (item == END) {
+                done = true;
+                return false;
+            }
+            if (item instanceof RuntimeException) {
+                done = true;
+                throw (RuntimeException) item;
+            }
+            action.accept((KeyRecord) item);
+            return true;
+        }
+    }
+}
@@ -15,14 +15,19 @@
  */
 package org.springframework.data.aerospike.query;
 
+import com.aerospike.client.command.ParticleType;
 import com.aerospike.client.query.Filter;
-import com.aerospike.client.query.PredExp;
+import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.Statement;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
-import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author peter
@@ -30,6 +35,16 @@ import java.util.List;
  */
 public class StatementBuilder {
 
+	private static final double RANGE_SELECTIVITY = 1.0 / 3;
+	/**
+	 * Candidates with estimated cost first, cheapest first, then equality before range,
+	 * otherwise the order of the qualifiers is kept.
+	 */
+	private static final Comparator<QueryPlan.Candidate> CANDIDATE_ORDER =
+			Comparator.comparingDouble((QueryPlan.Candidate candidate) ->
+					candidate.getEstimatedRecords().orElse(Double.POSITIVE_INFINITY))
+					.thenComparing(candidate -> !candidate.isEquality());
+
 	private final IndexesCache indexesCache;
 
 	public StatementBuilder(IndexesCache indexesCache) {
@@ -49,72 +64,128 @@ public class StatementBuilder {
 		return stmt;
 	}
 
+	/**
+	 * Builds statement for a scan: all qualifiers are applied as predicate expressions and secondary indexes are not used,
+	 * so the statement can be limited to partitions.
+	 */
+	public Statement buildScan(String namespace, String set, Qualifier[] qualifiers) {
+		Statement stmt = new Statement();
+		stmt.setNamespace(namespace);
+		stmt.setSetName(set);
+		if (qualifiers != null && qualifiers.length != 0) {
+			FilterExpression.of(qualifiers).applyTo(stmt);
+		}
+		return stmt;
+	}
+
+	/**
+	 * Explains how a query with the given qualifiers is executed, without building the statement.
+	 */
+	public QueryPlan explain(String namespace, String set, Qualifier[] qualifiers) {
+		List<QueryPlan.Candidate> candidates = new ArrayList<>();
+		if (qualifiers != null) {
+			for (int i = 0; i < qualifiers.length; i++) {
+				Qualifier qualifier = qualifiers[i];
+
+				if (qualifier == null) continue;
+				if (qualifier.getOperation() == Qualifier.FilterOperation.AND) {
+					for (Qualifier q : qualifier.getQualifiers()) {
+						addCandidate(candidates, namespace, set, q, -1);
+					}
+				} else {
+					addCandidate(candidates, namespace, set, qualifier, i);
+				}
+			}
+		}
+		candidates.sort(CANDIDATE_ORDER);
+		return new QueryPlan(namespace, set, candidates);
+	}
+
 	private void updateStatement(Statement stmt, Qualifier[] qualifiers) {
 		/*
 		 *  query with filters
 		 */
-		for (int i = 0; i < qualifiers.length; i++) {
-			Qualifier qualifier = qualifiers[i];
-
-			if (qualifier == null) continue;
-			if (qualifier.getOperation() == Qualifier.FilterOperation.AND) {
-				for (Qualifier q : qualifier.getQualifiers()) {
-					if(q != null && isIndexedBin(stmt, q)) {
-						Filter filter = q.asFilter();
-						if (filter != null) {
-							stmt.setFilter(filter);
-							q.asFilter(true);
-							break;
-						}
-					}
-				}
-			} else if (isIndexedBin(stmt, qualifier)) {
-				Filter filter = qualifier.asFilter();
-				if (filter != null) {
-					stmt.setFilter(filter);
-					qualifier.asFilter(true);
-					qualifiers[i] = null;
-					/* If this was the only qualifier, we do not need to do anymore work, just return
-					 * the query iterator.
-					 */
-					if (qualifiers.length == 1) {
-						return;
-					}
-					break;
+		QueryPlan plan = explain(stmt.getNamespace(), stmt.getSetName(), qualifiers);
+		Optional<QueryPlan.Candidate> chosen = plan.getFilter();
+		// the qualifiers belong to the caller and may be reused, so the one served by the filter is not marked
+		Qualifier servedByFilter = null;
+		if (chosen.isPresent()) {
+			QueryPlan.Candidate candidate = chosen.get();
+			stmt.setFilter(candidate.getFilter());
+			if (candidate.getPosition() >= 0) {
+				servedByFilter = candidate.getQualifier();
+				/* If this was the only qualifier, we do not need to do anymore work, just return
+				 * the query iterator.
+				 */
+				if (qualifiers.length == 1) {
+					return;
 				}
 			}
 		}
 
-		PredExp[] predexps = buildPredExp(qualifiers).toArray(new PredExp[0]);
-		if (predexps.length > 0) {
-			stmt.setPredExp(predexps);
-		} else {
+		FilterExpression expression = FilterExpression.of(qualifiers, servedByFilter);
+		if (expression.isEmpty()) {
 			throw new QualifierException("Failed to build Query");
 		}
+		expression.applyTo(stmt);
 	}
 
-	private boolean isIndexedBin(Statement stmt, Qualifier qualifier) {
-		if (qualifier.getField() == null) return false;
+	private void addCandidate(List<QueryPlan.Candidate> candidates, String namespace, String set,
+							  Qualifier qualifier, int position) {
+		if (qualifier == null || qualifier.getField() == null) return;
+
+		Filter filter = qualifier.asFilter();
+		if (filter == null) return;
+
+		IndexKey indexKey = new IndexKey(namespace, set, qualifier.getField(), getIndexType(qualifier),
+				filter.getCollectionType());
+		Optional<Index> index = indexesCache.getIndex(indexKey);
+		// without an index of matching type the qualifier is evaluated as a predicate expression
+		if (!index.isPresent()) return;
 
-		//TODO: skips check on index-type and index-collection-type
-		return indexesCache.hasIndexFor(new IndexedField(stmt.getNamespace(), stmt.getSetName(), qualifier.getField()));
+		boolean equality = isEquality(qualifier.getOperation());
+		String indexName = index.get().getName();
+		double estimatedRecords = indexesCache.getIndexStatistics(indexKey)
+				.map(statistics -> estimateRecords(statistics, equality))
+				.orElse(Double.NaN);
+		candidates.add(new QueryPlan.Candidate(qualifier, position, filter, indexName, equality, estimatedRecords));
 	}
 
-	private static List<PredExp> buildPredExp(Qualifier[] qualifiers) {
-		List<PredExp> pes = new ArrayList<PredExp>();
-		int qCount = 0;
-		for (Qualifier q : qualifiers) {
-			if (null != q && !q.queryAsFilter()) {
-				List<PredExp> tpes = q.toPredExp();
-				if (tpes.size() > 0) {
-					pes.addAll(tpes);
-					qCount++;
-					q = null;
-				}
-			}
+	/**
+	 * Estimates amount of records read using the index. There are no histograms of indexed values,
+	 * so a range is assumed to match a fixed fraction of the index.
+	 */
+	private static double estimateRecords(IndexStatistics statistics, boolean equality) {
+		return equality ? statistics.getEntriesPerKey() : statistics.getEntries() * RANGE_SELECTIVITY;
+	}
+
+	/**
+	 * @return type of the index able to serve the filter built by {@link Qualifier#asFilter()}.
+	 */
+	private static IndexType getIndexType(Qualifier qualifier) {
+		switch (qualifier.getOperation()) {
+			case EQ:
+			case LIST_CONTAINS:
+			case MAP_KEYS_CONTAINS:
+			case MAP_VALUES_CONTAINS:
+				return qualifier.getValue1().getType() == ParticleType.INTEGER ? IndexType.NUMERIC : IndexType.STRING;
+			case GEO_WITHIN:
+				return IndexType.GEO2DSPHERE;
+			default:
+				// range filters are numeric only
+				return IndexType.NUMERIC;
 		}
+	}
 
-		if (qCount > 1) pes.add(PredExp.and(qCount));
-		return pes;
+	private static boolean isEquality(Qualifier.FilterOperation operation) {
+		switch (operation) {
+			case EQ:
+			case LIST_CONTAINS:
+			case MAP_KEYS_CONTAINS:
+			case MAP_VALUES_CONTAINS:
+				return true;
+			default:
+				return false;
+		}
 	}
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Modifications of entity fields applied on the server to every record matched by a query.
+ * Values are converted by the template the same way the fields of an entity are written, so that updated documents
+ * can be read back. Modifications are applied in the order they were added.
+ */
+public final class Update {
+
+	private final List<Modifier> modifiers = new ArrayList<>();
+
+	/**
+	 * @return update setting the field to the given value.
+	 */
+	public static Update update(String field, Object value) {
+		return new Update().set(field, value);
+	}
+
+	/**
+	 * Sets the field to the given value.
+	 */
+	public Update set(String field, Object value) {
+		Assert.notNull(value, "Value must not be null!");
+		return add(Type.SET, field, value);
+	}
+
+	/**
+	 * Adds the given number to a numeric field, a missing field is treated as zero.
+	 */
+	public Update increment(String field, Number delta) {
+		Assert.notNull(delta, "Delta must not be null!");
+		return add(Type.INCREMENT, field, delta);
+	}
+
+	/**
+	 * Appends the given string to a string field.
+	 */
+	public Update append(String field, String value) {
+		Assert.notNull(value, "Value must not be null!");
+		return add(Type.APPEND, field, value);
+	}
+
+	/**
+	 * Prepends the given string to a string field.
+	 */
+	public Update prepend(String field, String value) {
+		Assert.notNull(value, "Value must not be null!");
+		return add(Type.PREPEND, field, value);
+	}
+
+	/**
+	 * Removes the field.
+	 */
+	public Update unset(String field) {
+		return add(Type.UNSET, field, null);
+	}
+
+	private Update add(Type type, String field, Object value) {
+		Assert.hasLength(field, "Field must not be empty!");
+		modifiers.add(new Modifier(type, field, value));
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return modifiers.isEmpty();
+	}
+
+	/**
+	 * @param binNames maps a field to the name of the bin it is stored in
+	 * @param values converts the value of a field to the value stored in its bin
+	 * @return operations applying the modifications.
+	 */
+	public Operation[] getOperations(UnaryOperator<String> binNames, BiFunction<String, Object, Object> values) {
+		return modifiers.stream()
+				.map(modifier -> modifier.toOperation(binNames.apply(modifier.field),
+						modifier.value == null ? null : values.apply(modifier.field, modifier.value)))
+				.toArray(Operation[]::new);
+	}
+
+	@Override
+	public String toString() {
+		return modifiers.stream()
+				.map(Modifier::toString)
+				.collect(Collectors.joining(", ", "Update{", "}"));
+	}
+
+	private enum Type {
+		SET, INCREMENT, APPEND, PREPEND, UNSET
+	}
+
+	private static class Modifier {
+
+		private final Type type;
+		private final String field;
+		private final Object value;
+
+		private Modifier(Type type, String field, Object value) {
+			this.type = type;
+			this.field = field;
+			this.value = value;
+		}
+
+		private Operation toOperation(String binName, Object value) {
+			switch (type) {
+				case SET:
+					return Operation.put(new Bin(binName, toValue(value)));
+				case INCREMENT:
+					return Operation.add(new Bin(binName, toValue(value)));
+				case APPEND:
+					return Operation.append(new Bin(binName, toValue(value)));
+				case PREPEND:
+					return Operation.prepend(new Bin(binName, toValue(value)));
+				case UNSET:
+					return Operation.put(Bin.asNull(binName));
+				default:
+					throw new IllegalStateException("Unsupported modifier " + type);
+			}
+		}
+
+		private static Value toValue(Object value) {
+			return value instanceof Value ? (Value) value : Value.get(value);
+		}
+
+		@Override
+		public String toString() {
+			return type == Type.UNSET ? "unset(" + field + ")" : type.name().toLowerCase() + "(" + field + ", " + value + ")";
+		}
+	}
+}
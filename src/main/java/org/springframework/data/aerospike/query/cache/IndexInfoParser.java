@@ -19,12 +19,9 @@ import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.query.model.Index;
 
-import java.util.AbstractMap;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * @author Peter Milne
@@ -46,6 +43,10 @@ public class IndexInfoParser {
 	private static final String LIST = "LIST";
 	private static final String MAPKEYS = "MAPKEYS";
 	private static final String MAPVALUES = "MAPVALUES";
+	private static final String STATE = "state";
+	private static final String READ_WRITE_STATE = "RW";
+	private static final String SYNC_STATE = "sync_state";
+	private static final String SYNCED = "synced";
 
 	public Index parse(String infoString) {
 		Map<String, String> values = getIndexInfo(infoString);
@@ -65,6 +66,21 @@ public class IndexInfoParser {
 				.build();
 	}
 
+	/**
+	 * An index is ready for queries once it is readable and, on servers reporting it, synchronized.
+	 * Indexes that are still being built are reported as write-only.
+	 *
+	 * @param infoString Info string of a single index from a node
+	 * @return whether the index can be used by queries on the node.
+	 */
+	public boolean isReady(String infoString) {
+		Map<String, String> values = getIndexInfo(infoString);
+		String state = values.get(STATE);
+		String syncState = values.get(SYNC_STATE);
+		return (state == null || state.equalsIgnoreCase(READ_WRITE_STATE))
+				&& (syncState == null || syncState.equalsIgnoreCase(SYNCED));
+	}
+
 	/**
 	 * Populates the Index object from an "info" message from Aerospike
 	 *
@@ -76,19 +92,21 @@ public class IndexInfoParser {
 		if (info.isEmpty()) {
 			return Collections.emptyMap();
 		}
-		return Arrays.stream(info.split(":"))
-				.map(part -> {
-					String[] kvParts = part.split("=");
-					if (kvParts.length == 0) {
-						throw new IllegalStateException("Failed to parse info string part: " + part);
-					}
-					if (kvParts.length == 1) {
-						return null;
-					}
-					return new AbstractMap.SimpleEntry<>(kvParts[0], kvParts[1]);
-				})
-				.filter(Objects::nonNull)
-				.collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+		Map<String, String> values = new HashMap<>();
+		int start = 0;
+		while (start <= info.length()) {
+			int end = info.indexOf(':', start);
+			if (end < 0) {
+				end = info.length();
+			}
+			int separator = info.indexOf('=', start);
+			// parts without a value are skipped
+			if (separator >= 0 && separator < end - 1) {
+				values.put(info.substring(start, separator), info.substring(separator + 1, end));
+			}
+			start = end + 1;
+		}
+		return values;
 	}
 
 	private String getRequiredName(Map<String, String> values) {
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.cache;
+
+import org.springframework.data.aerospike.query.model.Index;
+
+/**
+ * Receives changes of the secondary indexes found on the cluster by an index refresh.
+ * Listeners are notified on the refreshing thread, after the new indexes are visible to queries.
+ */
+public interface IndexListener {
+
+	default void onIndexAdded(Index index) {
+	}
+
+	default void onIndexRemoved(Index index) {
+	}
+}
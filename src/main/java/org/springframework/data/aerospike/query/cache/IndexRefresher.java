@@ -22,8 +22,23 @@ import com.aerospike.client.policy.InfoPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import org.springframework.data.aerospike.utility.ThreadPools;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Anastasiia Smirnova
@@ -36,6 +51,9 @@ public class IndexRefresher {
 	private final InfoPolicy infoPolicy;
 	private final InternalIndexOperations indexOperations;
 	private final IndexesCacheUpdater indexesCacheUpdater;
+	private ScheduledExecutorService scheduler;
+	private final ThreadPoolExecutor infoExecutor =
+			ThreadPools.newBoundedPool("aerospike-index-info-", Runtime.getRuntime().availableProcessors());
 
 	public IndexRefresher(IAerospikeClient client, InfoPolicy infoPolicy,
 						  InternalIndexOperations indexOperations, IndexesCacheUpdater indexesCacheUpdater) {
@@ -45,15 +63,110 @@ public class IndexRefresher {
 		this.indexesCacheUpdater = indexesCacheUpdater;
 	}
 
+	/**
+	 * Loads indexes from all active nodes in parallel, only indexes ready on every node are used by queries.
+	 */
 	public void refreshIndexes() {
 		log.trace("Loading indexes");
-		IndexesInfo cache = Arrays.stream(client.getNodes())
+		Node[] nodes = Arrays.stream(client.getNodes())
 				.filter(Node::isActive)
-				.findAny() // we do want to send info request to the random node (sending request to the first node may lead to uneven request distribution)
-				.map(node -> Info.request(infoPolicy, node, indexOperations.buildGetIndexesCommand()))
-				.map(response -> indexOperations.parseIndexesInfo(response))
-				.orElse(IndexesInfo.empty());
+				.toArray(Node[]::new);
+		IndexesInfo cache = nodes.length == 0 ? IndexesInfo.empty() : loadIndexes(nodes);
 		log.debug("Loaded indexes: {}", cache.indexes);
 		this.indexesCacheUpdater.update(cache);
 	}
+
+	/**
+	 * Refreshes indexes periodically on a background thread, so that indexes created or removed outside of this
+	 * application are used by queries. A failed refresh is logged and retried with a backoff.
+	 *
+	 * @param interval   interval between refreshes
+	 * @param jitter     maximum random delay added to the interval
+	 * @param maxBackoff maximum interval after consecutive failures
+	 */
+	public synchronized void startRefreshing(Duration interval, Duration jitter, Duration maxBackoff) {
+		Assert.state(scheduler == null, "Indexes are already refreshed periodically");
+		RefreshSchedule schedule = new RefreshSchedule(interval, jitter, maxBackoff);
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("aerospike-index-refresher-");
+		threadFactory.setDaemon(true);
+		scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		scheduleRefresh(scheduler, schedule);
+	}
+
+	public synchronized void stopRefreshing() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	/**
+	 * Stops periodic refreshes and the executor of info requests, refreshes started afterwards fail.
+	 */
+	public void destroy() {
+		stopRefreshing();
+		infoExecutor.shutdownNow();
+	}
+
+	private void scheduleRefresh(ScheduledExecutorService scheduler, RefreshSchedule schedule) {
+		try {
+			scheduler.schedule(() -> {
+				try {
+					refreshIndexes();
+					schedule.succeeded();
+				} catch (RuntimeException e) {
+					schedule.failed();
+					log.warn("Failed to refresh indexes", e);
+				}
+				scheduleRefresh(scheduler, schedule);
+			}, schedule.nextDelay().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			log.trace("Periodic index refresh stopped");
+		}
+	}
+
+	private IndexesInfo loadIndexes(Node[] nodes) {
+		String command = indexOperations.buildGetIndexesCommand();
+		List<String> responses = requestAll(nodes, command);
+		IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(responses);
+		if (indexesInfo.indexes.isEmpty()) {
+			return indexesInfo;
+		}
+		// statistics are only used to compare indexes, so statistics of a single node are sufficient
+		// we do want to send info request to the random node (sending request to the first node may lead to uneven request distribution)
+		Node node = nodes[ThreadLocalRandom.current().nextInt(nodes.length)];
+		String[] commands = indexOperations.buildGetIndexStatisticsCommands(indexesInfo).toArray(new String[0]);
+		return indexOperations.withStatistics(indexesInfo, Info.request(infoPolicy, node, commands));
+	}
+
+	private List<String> requestAll(Node[] nodes, String command) {
+		List<Future<String>> responses = Arrays.stream(nodes)
+				.map(node -> infoExecutor.submit(() -> Info.request(infoPolicy, node, command)))
+				.collect(Collectors.toList());
+		try {
+			List<String> result = new ArrayList<>(responses.size());
+			for (Future<String> response : responses) {
+				result.add(response.get());
+			}
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while loading indexes", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Failed to load indexes", e.getCause());
+		} finally {
+			responses.forEach(response -> response.cancel(true));
+		}
+	}
+
+	/**
+	 * Sets maximum amount of nodes index information is requested from concurrently.
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+		ThreadPools.resize(infoExecutor, parallelism);
+	}
 }
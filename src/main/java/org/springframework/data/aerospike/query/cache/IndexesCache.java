@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.query.cache;
 
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
 import org.springframework.data.aerospike.query.model.IndexedField;
 
 import java.util.Optional;
@@ -26,4 +27,9 @@ public interface IndexesCache {
 	Optional<Index> getIndex(IndexKey indexKey);
 
 	boolean hasIndexFor(IndexedField indexedField);
+
+	/**
+	 * @return cardinality statistics of the index, if they were loaded.
+	 */
+	Optional<IndexStatistics> getIndexStatistics(IndexKey indexKey);
 }
@@ -15,18 +15,30 @@
  */
 package org.springframework.data.aerospike.query.cache;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
 import org.springframework.data.aerospike.query.model.IndexedField;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import org.springframework.util.Assert;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * @author Anastasiia Smirnova
  */
 public class IndexesCacheHolder implements IndexesCache, IndexesCacheUpdater {
 
+	private static final Logger log = LoggerFactory.getLogger(IndexesCacheHolder.class);
+
+	private final List<IndexListener> listeners = new CopyOnWriteArrayList<>();
 	private volatile IndexesInfo cache = IndexesInfo.empty();
 
 	@Override
@@ -40,7 +52,47 @@ public class IndexesCacheHolder implements IndexesCache, IndexesCacheUpdater {
 	}
 
 	@Override
-	public void update(IndexesInfo cache) {
+	public Optional<IndexStatistics> getIndexStatistics(IndexKey indexKey) {
+		return Optional.ofNullable(cache.statistics.get(indexKey));
+	}
+
+	/**
+	 * Replaces the cached indexes if they differ from the given ones and notifies listeners of added and removed indexes.
+	 */
+	@Override
+	public synchronized void update(IndexesInfo cache) {
+		IndexesInfo previous = this.cache;
+		if (previous.indexes.equals(cache.indexes) && previous.statistics.equals(cache.statistics)) {
+			return;
+		}
 		this.cache = cache;
+		difference(previous.indexes, cache.indexes).forEach(index -> notify(listener -> listener.onIndexRemoved(index)));
+		difference(cache.indexes, previous.indexes).forEach(index -> notify(listener -> listener.onIndexAdded(index)));
+	}
+
+	public void addListener(IndexListener listener) {
+		Assert.notNull(listener, "Listener must not be null!");
+		listeners.add(listener);
+	}
+
+	public void removeListener(IndexListener listener) {
+		listeners.remove(listener);
+	}
+
+	private static List<Index> difference(Map<IndexKey, Index> indexes, Map<IndexKey, Index> other) {
+		return indexes.entrySet().stream()
+				.filter(entry -> !entry.getValue().equals(other.get(entry.getKey())))
+				.map(Map.Entry::getValue)
+				.collect(Collectors.toList());
+	}
+
+	private void notify(Consumer<IndexListener> event) {
+		for (IndexListener listener : listeners) {
+			try {
+				event.accept(listener);
+			} catch (RuntimeException e) {
+				log.warn("Index listener {} failed", listener, e);
+			}
+		}
 	}
 }
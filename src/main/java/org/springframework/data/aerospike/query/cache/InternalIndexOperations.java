@@ -17,13 +17,16 @@ package org.springframework.data.aerospike.query.cache;
 
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Internal index related operations used by ReactorIndexRefresher and IndexRefresher.
@@ -33,6 +36,8 @@ import static java.util.stream.Collectors.toMap;
 public class InternalIndexOperations {
 
 	private static final String SINDEX = "sindex";
+	private static final String ENTRIES = "entries";
+	private static final String KEYS = "keys";
 
 	private final IndexInfoParser indexInfoParser;
 
@@ -40,21 +45,104 @@ public class InternalIndexOperations {
 		this.indexInfoParser = indexInfoParser;
 	}
 
+	/**
+	 * Parses the response of the {@code sindex} info command of a single node, see {@link #parseIndexesInfo(Collection)}.
+	 */
 	public IndexesInfo parseIndexesInfo(String infoResponse) {
-		if (infoResponse.isEmpty()) {
+		return parseIndexesInfo(Collections.singletonList(infoResponse));
+	}
+
+	/**
+	 * Merges responses of the {@code sindex} info command of all nodes. An index is queryable only if every node
+	 * reports it as ready, so that queries are not routed to an index that is still being built
+	 * or that exists on some of the nodes only.
+	 */
+	public IndexesInfo parseIndexesInfo(Collection<String> nodeResponses) {
+		Map<IndexKey, Index> indexes = null;
+		for (String response : nodeResponses) {
+			Map<IndexKey, Index> readyIndexes = parseReadyIndexes(response);
+			if (indexes == null) {
+				indexes = readyIndexes;
+			} else {
+				indexes.entrySet().retainAll(readyIndexes.entrySet());
+			}
+		}
+		if (indexes == null || indexes.isEmpty()) {
 			return IndexesInfo.empty();
 		}
-		return IndexesInfo.of(Arrays.stream(infoResponse.split(";"))
-				.map(indexInfoParser::parse)
-				.collect(collectingAndThen(
-						toMap(InternalIndexOperations::getIndexKey, index -> index),
-						Collections::unmodifiableMap)));
+		return IndexesInfo.of(Collections.unmodifiableMap(indexes));
+	}
+
+	private Map<IndexKey, Index> parseReadyIndexes(String infoResponse) {
+		Map<IndexKey, Index> indexes = new HashMap<>();
+		if (infoResponse.isEmpty()) {
+			return indexes;
+		}
+		for (String indexInfo : infoResponse.split(";")) {
+			if (indexInfoParser.isReady(indexInfo)) {
+				Index index = indexInfoParser.parse(indexInfo);
+				indexes.put(getIndexKey(index), index);
+			}
+		}
+		return indexes;
 	}
 
 	public String buildGetIndexesCommand() {
 		return SINDEX;
 	}
 
+	/**
+	 * @return info commands requesting statistics of the given indexes, in the order of the indexes.
+	 */
+	public List<String> buildGetIndexStatisticsCommands(IndexesInfo indexesInfo) {
+		return indexesInfo.indexes.values().stream()
+				.map(InternalIndexOperations::getIndexStatisticsCommand)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Adds statistics to the indexes, statistics are looked up in the responses of
+	 * {@link #buildGetIndexStatisticsCommands(IndexesInfo)} commands.
+	 */
+	public IndexesInfo withStatistics(IndexesInfo indexesInfo, Map<String, String> responses) {
+		Map<IndexKey, IndexStatistics> statistics = new HashMap<>();
+		indexesInfo.indexes.forEach((key, index) -> {
+			String response = responses.get(getIndexStatisticsCommand(index));
+			IndexStatistics indexStatistics = response == null ? null : parseIndexStatistics(response);
+			if (indexStatistics != null) {
+				statistics.put(key, indexStatistics);
+			}
+		});
+		return IndexesInfo.of(indexesInfo.indexes, statistics);
+	}
+
+	/**
+	 * Parses response of the {@code sindex/<namespace>/<index>} info command,
+	 * e.g. {@code keys=2;entries=10;ibtr_memory_used=18688;...}.
+	 *
+	 * @return statistics of the index or null if the response does not contain them.
+	 */
+	public IndexStatistics parseIndexStatistics(String infoResponse) {
+		Map<String, String> values = Arrays.stream(infoResponse.split(";"))
+				.map(part -> part.split("="))
+				.filter(kvParts -> kvParts.length == 2)
+				.collect(Collectors.toMap(kvParts -> kvParts[0], kvParts -> kvParts[1], (first, second) -> first));
+		try {
+			String entries = values.get(ENTRIES);
+			String keys = values.get(KEYS);
+			if (entries == null || keys == null) {
+				return null;
+			}
+			return new IndexStatistics(Long.parseLong(entries), Long.parseLong(keys));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String getIndexStatisticsCommand(Index index) {
+		return SINDEX + "/" + index.getNamespace() + "/" + index.getName();
+	}
+
 	private static IndexKey getIndexKey(Index index) {
 		return new IndexKey(index.getNamespace(), index.getSet(), index.getBin(), index.getType(), index.getCollectionType());
 	}
@@ -15,13 +15,22 @@
  */
 package org.springframework.data.aerospike.query.cache;
 
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.aerospike.query.model.IndexesInfo;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Sergii Karpenko
  */
@@ -33,6 +42,8 @@ public class ReactorIndexRefresher {
 	private final InfoPolicy infoPolicy;
 	private final InternalIndexOperations indexOperations;
 	private final IndexesCacheUpdater indexesCacheUpdater;
+	private IAerospikeClient blockingClient;
+	private Disposable refreshing;
 
 	public ReactorIndexRefresher(IAerospikeReactorClient client, InfoPolicy infoPolicy,
 								 InternalIndexOperations indexOperations, IndexesCacheUpdater indexesCacheUpdater) {
@@ -42,14 +53,71 @@ public class ReactorIndexRefresher {
 		this.indexesCacheUpdater = indexesCacheUpdater;
 	}
 
+	/**
+	 * Loads indexes from all active nodes concurrently, only indexes ready on every node are used by queries.
+	 * Without the blocking client set by {@link #setBlockingClient(IAerospikeClient)} indexes are loaded from a random node.
+	 */
 	public Mono<Void> refreshIndexes() {
-		return client.info(infoPolicy, null, indexOperations.buildGetIndexesCommand())
+		return loadIndexes()
 				.doOnSubscribe(subscription -> log.trace("Loading indexes"))
-				.doOnNext(indexInfo -> {
-					IndexesInfo cache = indexOperations.parseIndexesInfo(indexInfo);
+				.map(indexOperations::parseIndexesInfo)
+				.flatMap(this::loadStatistics)
+				.doOnNext(cache -> {
 					this.indexesCacheUpdater.update(cache);
 					log.debug("Loaded indexes: {}", cache.indexes);
 				}).then();
 	}
 
+	/**
+	 * Refreshes indexes periodically, see {@link IndexRefresher#startRefreshing(Duration, Duration, Duration)}.
+	 * Refreshes are delayed on the parallel scheduler and index information is requested without blocking.
+	 */
+	public synchronized void startRefreshing(Duration interval, Duration jitter, Duration maxBackoff) {
+		Assert.state(refreshing == null, "Indexes are already refreshed periodically");
+		RefreshSchedule schedule = new RefreshSchedule(interval, jitter, maxBackoff);
+		refreshing = Mono.defer(() -> Mono.delay(schedule.nextDelay()))
+				.then(Mono.defer(this::refreshIndexes))
+				.doOnSuccess(ignored -> schedule.succeeded())
+				.onErrorResume(e -> {
+					schedule.failed();
+					log.warn("Failed to refresh indexes", e);
+					return Mono.empty();
+				})
+				.repeat()
+				.subscribe();
+	}
+
+	public synchronized void stopRefreshing() {
+		if (refreshing != null) {
+			refreshing.dispose();
+			refreshing = null;
+		}
+	}
+
+	private Mono<List<String>> loadIndexes() {
+		String command = indexOperations.buildGetIndexesCommand();
+		if (blockingClient == null) {
+			return client.info(infoPolicy, null, command).map(Collections::singletonList);
+		}
+		return Flux.defer(() -> Flux.fromArray(blockingClient.getNodes()))
+				.filter(Node::isActive)
+				.flatMap(node -> client.info(infoPolicy, node, command))
+				.collectList();
+	}
+
+	/**
+	 * Sets the blocking client used to look up the nodes of the cluster, the reactor client does not expose them.
+	 */
+	public void setBlockingClient(IAerospikeClient blockingClient) {
+		this.blockingClient = blockingClient;
+	}
+
+	private Mono<IndexesInfo> loadStatistics(IndexesInfo indexesInfo) {
+		if (indexesInfo.indexes.isEmpty()) {
+			return Mono.just(indexesInfo);
+		}
+		return client.info(infoPolicy, null, indexOperations.buildGetIndexStatisticsCommands(indexesInfo))
+				.map(responses -> indexOperations.withStatistics(indexesInfo, responses));
+	}
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.cache;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delays between periodic index refreshes. A random jitter is added to the interval,
+ * so that clients started together do not refresh at the same time.
+ * Every consecutive failure doubles the interval, up to the maximum backoff.
+ */
+class RefreshSchedule {
+
+	private final long intervalMillis;
+	private final long jitterMillis;
+	private final long maxBackoffMillis;
+	private volatile int failures;
+
+	RefreshSchedule(Duration interval, Duration jitter, Duration maxBackoff) {
+		Assert.isTrue(interval != null && !interval.isNegative() && !interval.isZero(), "Interval must be positive");
+		Assert.isTrue(jitter != null && !jitter.isNegative(), "Jitter must not be negative");
+		Assert.notNull(maxBackoff, "Max backoff must not be null!");
+		this.intervalMillis = interval.toMillis();
+		this.jitterMillis = jitter.toMillis();
+		this.maxBackoffMillis = Math.max(intervalMillis, maxBackoff.toMillis());
+	}
+
+	Duration nextDelay() {
+		long delay = intervalMillis;
+		for (int i = 0; i < failures && delay < maxBackoffMillis; i++) {
+			delay *= 2;
+		}
+		delay = Math.min(delay, maxBackoffMillis);
+		long jitter = jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+		return Duration.ofMillis(delay + jitter);
+	}
+
+	void succeeded() {
+		failures = 0;
+	}
+
+	void failed() {
+		failures++;
+	}
+}
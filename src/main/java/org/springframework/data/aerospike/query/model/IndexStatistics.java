@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.model;
+
+import lombok.Value;
+
+/**
+ * Cardinality statistics of a secondary index as reported by a cluster node.
+ */
+@Value
+public class IndexStatistics {
+
+	/**
+	 * Amount of records referenced by the index.
+	 */
+	long entries;
+	/**
+	 * Amount of distinct values of the indexed bin.
+	 */
+	long keys;
+
+	/**
+	 * @return estimated amount of records matching a single value of the indexed bin.
+	 */
+	public double getEntriesPerKey() {
+		return keys > 0 ? (double) entries / keys : entries;
+	}
+}
@@ -22,17 +22,19 @@ import java.util.stream.Collectors;
 
 public class IndexesInfo {
 
-	private static final IndexesInfo EMPTY = new IndexesInfo(Collections.emptyMap());
+	private static final IndexesInfo EMPTY = new IndexesInfo(Collections.emptyMap(), Collections.emptyMap());
 
 	public final Map<IndexKey, Index> indexes;
 	public final Set<IndexedField> indexedFields;
+	public final Map<IndexKey, IndexStatistics> statistics;
 
-	private IndexesInfo(Map<IndexKey, Index> indexes) {
+	private IndexesInfo(Map<IndexKey, Index> indexes, Map<IndexKey, IndexStatistics> statistics) {
 		this.indexes = Collections.unmodifiableMap(indexes);
 		this.indexedFields = indexes.keySet().stream()
 				.map(key -> new IndexedField(key.getNamespace(), key.getSet(), key.getField()))
-				.distinct() // TODO: since we skip check on index type and index collection type in StatementBuilder
+				.distinct()
 				.collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
+		this.statistics = Collections.unmodifiableMap(statistics);
 	}
 
 	public static IndexesInfo empty() {
@@ -40,6 +42,10 @@ public class IndexesInfo {
 	}
 
 	public static IndexesInfo of(Map<IndexKey, Index> cache) {
-		return new IndexesInfo(cache);
+		return new IndexesInfo(cache, Collections.emptyMap());
+	}
+
+	public static IndexesInfo of(Map<IndexKey, Index> cache, Map<IndexKey, IndexStatistics> statistics) {
+		return new IndexesInfo(cache, statistics);
 	}
 }
@@ -16,12 +16,14 @@
 package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.query.CursorResult;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,23 +52,40 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery {
 		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
 		Query query = prepareQuery(parameters, accessor);
 
-		if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
-			Stream<?> result = findByQuery(query);
+		if ((queryMethod.isPageQuery() || queryMethod.isSliceQuery()) && accessor.getPageable() instanceof CursorPageRequest) {
+			CursorPageRequest request = (CursorPageRequest) accessor.getPageable();
+			Class<?> type = queryMethod.getEntityInformation().getJavaType();
+			CursorResult<?> result = aerospikeOperations.find(query, request.getCursor(), request.getPageSize(), type);
+			long total = queryMethod.isSliceQuery() ? 0
+					: request.getTotal().orElseGet(() -> aerospikeOperations.count(query, type));
+			return new CursorPage(result, request, total);
+		} else if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
+			List<?> content;
+			try (Stream<?> result = findByQuery(query, accessor)) {
+				content = result.collect(Collectors.toList());
+			}
 			long total = queryMethod.isSliceQuery() ? 0 : aerospikeOperations.count(query, queryMethod.getEntityInformation().getJavaType());
 			//TODO: should return SliceImpl for slice query
-			return new PageImpl(result.collect(Collectors.toList()), accessor.getPageable(), total);
+			return new PageImpl(content, accessor.getPageable(), total);
 		} else if (queryMethod.isStreamQuery()) {
-			return findByQuery(query);
+			return findByQuery(query, accessor);
 		} else if (queryMethod.isCollectionQuery()) {
-			return findByQuery(query).collect(Collectors.toList());
+			try (Stream<?> result = findByQuery(query, accessor)) {
+				return result.collect(Collectors.toList());
+			}
 		} else if (queryMethod.isQueryForEntity()) {
-			Stream<?> result = findByQuery(query);
-			return result.findFirst().orElse(null);
+			try (Stream<?> result = findByQuery(query, accessor)) {
+				return result.findFirst().orElse(null);
+			}
 		}
 		throw new UnsupportedOperationException("Query method " + queryMethod.getNamedQueryName() + " not supported.");
 	}
 
-	private Stream<?> findByQuery(Query query) {
-		return this.aerospikeOperations.find(query, queryMethod.getEntityInformation().getJavaType());
+	private Stream<?> findByQuery(Query query, ParametersParameterAccessor accessor) {
+		Class<?> entityClass = queryMethod.getEntityInformation().getJavaType();
+		Class<?> projection = getProjection(accessor);
+		return projection == null
+				? this.aerospikeOperations.find(query, entityClass)
+				: this.aerospikeOperations.find(query, entityClass, projection);
 	}
 }
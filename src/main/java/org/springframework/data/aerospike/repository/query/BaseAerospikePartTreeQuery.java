@@ -52,6 +52,14 @@ public abstract class BaseAerospikePartTreeQuery implements RepositoryQuery {
         return queryMethod;
     }
 
+    /**
+     * @return interface or DTO projection returned by the query method or null if the query method returns entities.
+     */
+    protected Class<?> getProjection(ParametersParameterAccessor accessor) {
+        ReturnedType returnedType = queryMethod.getResultProcessor().withDynamicProjection(accessor).getReturnedType();
+        return returnedType.isProjecting() ? returnedType.getReturnedType() : null;
+    }
+
     protected Query prepareQuery(Object[] parameters, ParametersParameterAccessor accessor) {
         Query query = createQuery(accessor);
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import org.springframework.data.aerospike.query.CursorResult;
+import org.springframework.data.aerospike.query.PartitionCursor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page read with a {@link CursorPageRequest}. Next page is determined by the cursor, not by the page number.
+ *
+ * @param <T> type of the page elements
+ */
+public class CursorPage<T> extends PageImpl<T> {
+
+	@Nullable
+	private final PartitionCursor nextCursor;
+
+	public CursorPage(List<T> content, CursorPageRequest pageable, long total, @Nullable PartitionCursor nextCursor) {
+		super(content, pageable, total);
+		this.nextCursor = nextCursor;
+	}
+
+	public CursorPage(CursorResult<T> result, CursorPageRequest pageable, long total) {
+		this(result.getContent(), pageable, total, result.getNextCursor());
+	}
+
+	/**
+	 * @return cursor of the next page or {@literal null} if this is the last page.
+	 */
+	@Nullable
+	public PartitionCursor getNextCursor() {
+		return nextCursor;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	@Override
+	public boolean isLast() {
+		return !hasNext();
+	}
+
+	@Override
+	public Pageable nextPageable() {
+		return hasNext() ? CursorPageRequest.of(getNumber() + 1, getSize(), nextCursor, getTotalElements()) : Pageable.unpaged();
+	}
+
+	@Override
+	public <U> CursorPage<U> map(Function<? super T, ? extends U> converter) {
+		return new CursorPage<>(getConvertedContent(converter), (CursorPageRequest) getPageable(), getTotalElements(), nextCursor);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import org.springframework.data.aerospike.query.PartitionCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.OptionalLong;
+
+/**
+ * Unsorted page request that continues a query from a {@link PartitionCursor} instead of skipping previous pages.
+ * Pages requested with it are returned as {@link CursorPage}, use {@link CursorPage#nextPageable()} to request the next one:
+ * it carries the total amount of elements of the first page, so the total is counted only once.
+ */
+public class CursorPageRequest extends PageRequest {
+
+	private final PartitionCursor cursor;
+	@Nullable
+	private final Long total;
+
+	protected CursorPageRequest(int page, int size, PartitionCursor cursor, @Nullable Long total) {
+		super(page, size, Sort.unsorted());
+		Assert.notNull(cursor, "Cursor must not be null!");
+		this.cursor = cursor;
+		this.total = total;
+	}
+
+	/**
+	 * @param size the size of the page to be returned, must be greater than 0.
+	 * @return request of the first page.
+	 */
+	public static CursorPageRequest first(int size) {
+		return new CursorPageRequest(0, size, PartitionCursor.START, null);
+	}
+
+	/**
+	 * @param page zero-based page index, used for the page metadata only.
+	 * @param size the size of the page to be returned, must be greater than 0.
+	 * @param cursor position to continue the query from.
+	 * @return request of the page starting at the cursor.
+	 */
+	public static CursorPageRequest of(int page, int size, PartitionCursor cursor) {
+		return new CursorPageRequest(page, size, cursor, null);
+	}
+
+	/**
+	 * @param page zero-based page index, used for the page metadata only.
+	 * @param size the size of the page to be returned, must be greater than 0.
+	 * @param cursor position to continue the query from.
+	 * @param total total amount of elements already counted for a previous page.
+	 * @return request of the page starting at the cursor.
+	 */
+	public static CursorPageRequest of(int page, int size, PartitionCursor cursor, long total) {
+		return new CursorPageRequest(page, size, cursor, total);
+	}
+
+	public PartitionCursor getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * @return total amount of elements counted for a previous page, empty if it has to be counted.
+	 */
+	public OptionalLong getTotal() {
+		return total == null ? OptionalLong.empty() : OptionalLong.of(total);
+	}
+
+	@Override
+	public Pageable first() {
+		return first(getPageSize());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof CursorPageRequest)) return false;
+		return super.equals(obj) && cursor.equals(((CursorPageRequest) obj).cursor);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + cursor.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Cursor page request [number: %d, size %d, cursor: %s]", getPageNumber(), getPageSize(), cursor);
+	}
+}
@@ -43,6 +43,10 @@ public class ReactiveAerospikePartTreeQuery extends BaseAerospikePartTreeQuery {
 	public Object execute(Object[] parameters) {
 		ParametersParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
 		Query query = prepareQuery(parameters, accessor);
-		return aerospikeOperations.find(query, queryMethod.getEntityInformation().getJavaType());
+		Class<?> entityClass = queryMethod.getEntityInformation().getJavaType();
+		Class<?> projection = getProjection(accessor);
+		return projection == null
+				? aerospikeOperations.find(query, entityClass)
+				: aerospikeOperations.find(query, entityClass, projection);
 	}
 }
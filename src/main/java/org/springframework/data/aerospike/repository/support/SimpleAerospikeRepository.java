@@ -17,7 +17,10 @@ package org.springframework.data.aerospike.repository.support;
 
 import com.aerospike.client.query.IndexType;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.query.CursorResult;
 import org.springframework.data.aerospike.repository.AerospikeRepository;
+import org.springframework.data.aerospike.repository.query.CursorPage;
+import org.springframework.data.aerospike.repository.query.CursorPageRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -59,9 +62,7 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
 		Assert.notNull(entities, "The given Iterable of entities not be null!");
 
 		List<S> result = IterableConverter.toList(entities);
-		for (S entity : result) {
-			save(entity);
-		}
+		operations.saveAll(result);
 
 		return result;
 	}
@@ -86,6 +87,12 @@ public class SimpleAerospikeRepository<T, ID> implements AerospikeRepository<T,
 		Class<T> type = entityInformation.getJavaType();
 		String setName = operations.getSetName(type);
 
+		if (pageable instanceof CursorPageRequest) {
+			CursorPageRequest request = (CursorPageRequest) pageable;
+			CursorResult<T> result = operations.findInRange(request.getCursor(), request.getPageSize(), type);
+			return new CursorPage<>(result, request, operations.count(setName));
+		}
+
 		Stream<T> content = operations.findInRange(pageable.getOffset(), pageable.getPageSize(), pageable.getSort(), type);
 		long totalCount = operations.count(setName);
 
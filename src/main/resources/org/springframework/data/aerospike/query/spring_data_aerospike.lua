@@ -0,0 +1,88 @@
+-- Built-in stream UDFs of Spring Data Aerospike, see org.springframework.data.aerospike.query.Aggregation.
+-- Records without the aggregated bin are skipped.
+
+local function bin_value(bin)
+    return function(rec)
+        return rec[bin]
+    end
+end
+
+local function has_bin(bin)
+    return function(rec)
+        return rec[bin] ~= nil
+    end
+end
+
+local function one()
+    return 1
+end
+
+local function add(a, b)
+    return a + b
+end
+
+local function smaller(a, b)
+    if b < a then
+        return b
+    end
+    return a
+end
+
+local function greater(a, b)
+    if b > a then
+        return b
+    end
+    return a
+end
+
+local COMBINERS = {
+    count = add,
+    sum = add,
+    min = smaller,
+    max = greater
+}
+
+function count(stream)
+    return stream : map(one) : reduce(add)
+end
+
+function sum(stream, bin)
+    return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(add)
+end
+
+function min(stream, bin)
+    return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(smaller)
+end
+
+function max(stream, bin)
+    return stream : filter(has_bin(bin)) : map(bin_value(bin)) : reduce(greater)
+end
+
+function group_by(stream, key_bin, operation, value_bin)
+    local combine = COMBINERS[operation]
+
+    local function accumulate(groups, rec)
+        local key = rec[key_bin]
+        local value
+        if operation == 'count' then
+            value = 1
+        else
+            value = rec[value_bin]
+        end
+        if key ~= nil and value ~= nil then
+            local current = groups[key]
+            if current == nil then
+                groups[key] = value
+            else
+                groups[key] = combine(current, value)
+            end
+        end
+        return groups
+    end
+
+    local function merge(left, right)
+        return map.merge(left, right, combine)
+    end
+
+    return stream : aggregate(map(), accumulate) : reduce(merge)
+end
@@ -17,16 +17,23 @@
 package org.springframework.data.aerospike.cache;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.cache.AerospikeCacheManagerIntegrationTests.CachedObject;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * 
@@ -76,4 +83,90 @@ public class AerospikeCacheMangerTests extends BaseBlockingIntegrationTests {
 		assertThat(cache).isNotNull().isInstanceOf(TransactionAwareCacheDecorator.class);
 	}
 
+	@Test
+	public void configuredCacheUsesItsSetAndExpiration() {
+		AerospikeCacheManager manager = new AerospikeCacheManager(client, converter,
+				AerospikeCacheConfiguration.defaultCacheConfiguration(),
+				Collections.singletonMap(getNameSpace(), AerospikeCacheConfiguration.builder()
+						.setName("short-lived")
+						.expiration(30)
+						.build()));
+		manager.afterPropertiesSet();
+
+		Cache cache = manager.getCache(getNameSpace());
+		cache.put("foo", new CachedObject("bar"));
+
+		Record record = client.getHeader(null, new Key(getNameSpace(), "short-lived", "foo"));
+		assertThat(record).isNotNull();
+		assertThat(record.getTimeToLive()).isBetween(1, 30);
+		assertThat(manager.lookupAerospikeCache(getNameSpace())).isSameAs(cache);
+		cache.evict("foo");
+	}
+
+	@Test
+	public void notConfiguredCacheUsesDefaultConfiguration() {
+		AerospikeCacheManager manager = new AerospikeCacheManager(client, converter,
+				AerospikeCacheConfiguration.builder().setName("default-set").expiration(60).build(),
+				Collections.emptyMap());
+		manager.afterPropertiesSet();
+
+		assertThat(manager.getCacheConfiguration("missing-cache").getSetName()).isEqualTo("default-set");
+		assertThat(manager.getCacheConfiguration("missing-cache").getExpiration()).isEqualTo(60);
+		assertThat(manager.getCache("missing-cache").getName()).isEqualTo("missing-cache:default-set");
+	}
+
+	@Test
+	public void touchOnReadCacheReadsValues() {
+		AerospikeCacheManager manager = new AerospikeCacheManager(client, converter,
+				AerospikeCacheConfiguration.builder().expiration(60).touchOnRead(true).build(),
+				Collections.emptyMap());
+		manager.afterPropertiesSet();
+		Cache cache = manager.getCache(getNameSpace());
+
+		assertThat(cache.get("touched")).isNull();
+		cache.put("touched", new CachedObject("value"));
+		assertThat(cache.get("touched", CachedObject.class).getValue()).isEqualTo("value");
+		cache.evict("touched");
+	}
+
+	@Test
+	public void epochClearedCacheReadsOnlyValuesOfCurrentEpoch() {
+		AerospikeCacheManager manager = new AerospikeCacheManager(client, converter,
+				AerospikeCacheConfiguration.builder().expiration(60)
+						.clearMode(AerospikeCacheConfiguration.ClearMode.EPOCH).build(),
+				Collections.emptyMap());
+		manager.afterPropertiesSet();
+		Cache cache = manager.getCache(getNameSpace());
+
+		cache.put("cleared", new CachedObject("value"));
+		assertThat(cache.get("cleared", CachedObject.class).getValue()).isEqualTo("value");
+		cache.clear();
+
+		assertThat(cache.get("cleared")).isNull();
+		assertThat(cache.putIfAbsent("cleared", new CachedObject("new"))).isNull();
+		assertThat(cache.get("cleared", CachedObject.class).getValue()).isEqualTo("new");
+		assertThat(((CachedObject) cache.putIfAbsent("cleared", new CachedObject("newer")).get()).getValue())
+				.isEqualTo("new");
+		cache.evict("cleared");
+	}
+
+	@Test
+	public void codecCacheStoresValueInSingleBin() {
+		AerospikeCacheManager manager = new AerospikeCacheManager(client, converter,
+				AerospikeCacheConfiguration.builder().expiration(60)
+						.valueCodec(new CompressingCacheValueCodec(new JdkSerializationCacheValueCodec(), 64)).build(),
+				Collections.emptyMap());
+		manager.afterPropertiesSet();
+		Cache cache = manager.getCache(getNameSpace());
+
+		cache.put("encoded", new ArrayList<>(Arrays.asList("a", "b")));
+
+		Record record = client.get(null, new Key(getNameSpace(), AerospikeCacheManager.DEFAULT_SET_NAME, "encoded"));
+		assertThat(record.bins).containsOnlyKeys("value");
+		assertThat(record.getValue("value")).isInstanceOf(byte[].class);
+		assertThat(cache.get("encoded").get()).isEqualTo(Arrays.asList("a", "b"));
+		assertThat(cache.get("encoded", List.class)).containsExactly("a", "b");
+		assertThatThrownBy(() -> cache.get("encoded", String.class)).isInstanceOf(IllegalStateException.class);
+		cache.evict("encoded");
+	}
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.data.aerospike.AsyncUtils;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.AwaitilityUtils.awaitTenSecondsUntil;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class AerospikeCacheTests extends BaseBlockingIntegrationTests {
+
+	private static final String SET = "cache-test";
+	private static final String KEY = "foo";
+
+	@Autowired AerospikeClient client;
+
+	@AfterEach
+	public void tearDown() {
+		client.delete(null, new Key(getNameSpace(), SET, KEY));
+		client.delete(null, new Key(getNameSpace(), SET, "other"));
+		client.delete(null, new Key(getNameSpace(), SET + "-epoch", SET));
+	}
+
+	@Test
+	public void getWithValueLoader_loadsAndCachesValue() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+		AtomicInteger loads = new AtomicInteger();
+
+		String first = cache.get(KEY, () -> "bar" + loads.incrementAndGet());
+		String second = cache.get(KEY, () -> "bar" + loads.incrementAndGet());
+
+		assertThat(first).isEqualTo("bar1");
+		assertThat(second).isEqualTo("bar1");
+		assertThat(cache.get(KEY).get()).isEqualTo("bar1");
+	}
+
+	@Test
+	public void getWithValueLoader_loadsOnceForConcurrentCallers() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+		AtomicInteger loads = new AtomicInteger();
+
+		AsyncUtils.executeConcurrently(10, () -> assertThat(cache.get(KEY, () -> slowLoad(loads))).isEqualTo("bar"));
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void getWithValueLoader_loadsOnceForConcurrentCallersOfDifferentInstances() {
+		// every instance has its own in-flight loads, like caches of separate JVMs
+		AerospikeCache[] caches = new AerospikeCache[4];
+		for (int i = 0; i < caches.length; i++) {
+			caches[i] = new AerospikeCache(getNameSpace(), SET, client, -1);
+		}
+		AtomicInteger calls = new AtomicInteger();
+		AtomicInteger loads = new AtomicInteger();
+
+		AsyncUtils.executeConcurrently(8, () -> {
+			AerospikeCache cache = caches[calls.getAndIncrement() % caches.length];
+			assertThat(cache.get(KEY, () -> slowLoad(loads))).isEqualTo("bar");
+		});
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void getWithValueLoader_keepsLockTakenOverByAnotherCaller() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+		Key lockKey = new Key(getNameSpace(), SET + "-lock", KEY);
+		try {
+			cache.get(KEY, () -> {
+				// the lock expired while loading and another caller acquired it
+				client.put(null, lockKey, new Bin("value", "another-owner"));
+				return "bar";
+			});
+
+			assertThat(client.get(null, lockKey).getString("value")).isEqualTo("another-owner");
+		} finally {
+			client.delete(null, lockKey);
+		}
+	}
+
+	@Test
+	public void getWithValueLoader_wrapsLoaderException() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+
+		assertThatThrownBy(() -> cache.get(KEY, () -> {
+			throw new IllegalStateException("unavailable");
+		}))
+				.isInstanceOf(Cache.ValueRetrievalException.class)
+				.hasRootCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.get(KEY, () -> "bar")).isEqualTo("bar");
+	}
+
+	@Test
+	public void clear_truncatesSet() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+		cache.put(KEY, "bar");
+		cache.put("other", "baz");
+
+		cache.clear();
+
+		awaitTenSecondsUntil(() -> {
+			assertThat(cache.get(KEY)).isNull();
+			assertThat(cache.get("other")).isNull();
+		});
+	}
+
+	@Test
+	public void clear_epochInvalidatesEntriesOfAllInstances() {
+		AerospikeCacheConfiguration configuration = AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.clearMode(AerospikeCacheConfiguration.ClearMode.EPOCH)
+				.build();
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, configuration);
+		AerospikeCache otherInstance = new AerospikeCache(getNameSpace(), SET, client, configuration);
+		cache.put(KEY, "bar");
+		assertThat(otherInstance.get(KEY).get()).isEqualTo("bar");
+
+		otherInstance.clear();
+
+		assertThat(cache.get(KEY)).isNull();
+		assertThat(cache.get(KEY, String.class)).isNull();
+		assertThat(otherInstance.get(KEY)).isNull();
+		// the record of the previous epoch is still stored
+		assertThat(client.exists(null, new Key(getNameSpace(), SET, KEY))).isTrue();
+	}
+
+	@Test
+	public void clear_epochAllowsNewEntries() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.touchOnRead(true)
+				.clearMode(AerospikeCacheConfiguration.ClearMode.EPOCH)
+				.build());
+		cache.put(KEY, "bar");
+		cache.clear();
+
+		assertThat(cache.putIfAbsent(KEY, "baz")).isNull();
+		assertThat(cache.get(KEY).get()).isEqualTo("baz");
+		assertThat(cache.putIfAbsent(KEY, "qux").get()).isEqualTo("baz");
+		assertThat(cache.get(KEY, () -> "qux")).isEqualTo("baz");
+	}
+
+	@Test
+	public void putIfAbsent_writesOnceForConcurrentCallers() throws Exception {
+		for (AerospikeCacheConfiguration.ClearMode clearMode : AerospikeCacheConfiguration.ClearMode.values()) {
+			AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+					.expiration(-1)
+					.clearMode(clearMode)
+					.build());
+			if (clearMode == AerospikeCacheConfiguration.ClearMode.EPOCH) {
+				// leave a record of the previous epoch that both callers try to replace
+				cache.put(KEY, "stale");
+				cache.clear();
+			}
+
+			List<Cache.ValueWrapper> results = Collections.synchronizedList(new ArrayList<>());
+			AsyncUtils.executeConcurrently(8, () -> results.add(cache.putIfAbsent(KEY, Thread.currentThread().getName())));
+
+			assertThat(results).filteredOn(Objects::isNull).hasSize(1);
+			Object written = cache.get(KEY).get();
+			assertThat(results).filteredOn(Objects::nonNull).extracting(Cache.ValueWrapper::get).containsOnly(written);
+			cache.evict(KEY);
+		}
+	}
+
+	@Test
+	public void getAll_readsCachedValuesInOrderOfKeys() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, -1);
+		Map<String, String> entries = new HashMap<>();
+		entries.put(KEY, "bar");
+		entries.put("other", "baz");
+		cache.putAll(entries);
+
+		Map<Object, Object> values = cache.getAll(Arrays.asList("other", "missing", KEY));
+
+		assertThat(values).containsExactly(entry("other", "baz"), entry(KEY, "bar"));
+	}
+
+	@Test
+	public void getAll_readsValuesOfCurrentEpoch() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.clearMode(AerospikeCacheConfiguration.ClearMode.EPOCH)
+				.build());
+		cache.put(KEY, "bar");
+		cache.clear();
+		cache.put("other", "baz");
+
+		assertThat(cache.getAll(Arrays.asList(KEY, "other"), String.class)).containsExactly(entry("other", "baz"));
+	}
+
+	@Test
+	public void localCache_servesReadsUntilLocalChange() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.localCacheSize(10)
+				.localCacheTimeToLive(Duration.ofMinutes(1))
+				.build());
+		cache.put(KEY, "bar");
+		assertThat(cache.get(KEY).get()).isEqualTo("bar");
+
+		// changed by another process, the local tier keeps the value read before
+		new AerospikeCache(getNameSpace(), SET, client, -1).put(KEY, "baz");
+		assertThat(cache.get(KEY).get()).isEqualTo("bar");
+		assertThat(cache.getAll(Arrays.asList(KEY))).containsExactly(entry(KEY, "bar"));
+
+		cache.put(KEY, "qux");
+		assertThat(cache.get(KEY).get()).isEqualTo("qux");
+
+		cache.evict(KEY);
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	@Test
+	public void localCache_expiresValues() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.localCacheSize(10)
+				.localCacheTimeToLive(Duration.ofMillis(100))
+				.build());
+		cache.put(KEY, "bar");
+		assertThat(cache.get(KEY).get()).isEqualTo("bar");
+
+		new AerospikeCache(getNameSpace(), SET, client, -1).put(KEY, "baz");
+
+		awaitTenSecondsUntil(() -> assertThat(cache.get(KEY).get()).isEqualTo("baz"));
+	}
+
+	@Test
+	public void valueCodec_treatsRecordWithoutEncodedValueAsMiss() {
+		AerospikeCache cache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.valueCodec(new BinaryCacheValueCodec())
+				.build());
+		// written before the codec was configured
+		client.put(null, new Key(getNameSpace(), SET, KEY), new Bin("value", "bar"));
+
+		assertThat(cache.get(KEY)).isNull();
+		assertThat(cache.getAll(Arrays.asList(KEY))).isEmpty();
+		assertThat(cache.get(KEY, () -> "baz")).isEqualTo("baz");
+		assertThat(cache.get(KEY).get()).isEqualTo("baz");
+	}
+
+	@Test
+	public void valueCodec_treatsValueOfAnotherCodecAsMiss() {
+		AerospikeCache jdkCache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.valueCodec(new JdkSerializationCacheValueCodec())
+				.build());
+		AerospikeCache binaryCache = new AerospikeCache(getNameSpace(), SET, client, AerospikeCacheConfiguration.builder()
+				.expiration(-1)
+				.localCacheSize(10)
+				.valueCodec(new BinaryCacheValueCodec())
+				.build());
+		jdkCache.put(KEY, "bar");
+
+		assertThat(binaryCache.get(KEY)).isNull();
+		assertThat(binaryCache.get(KEY, String.class)).isNull();
+		assertThat(binaryCache.getAll(Arrays.asList(KEY))).isEmpty();
+		assertThat(binaryCache.get(KEY, () -> "baz")).isEqualTo("baz");
+		assertThat(binaryCache.get(KEY).get()).isEqualTo("baz");
+		assertThat(jdkCache.get(KEY)).isNull();
+	}
+
+	private static String slowLoad(AtomicInteger loads) throws InterruptedException {
+		loads.incrementAndGet();
+		Thread.sleep(200);
+		return "bar";
+	}
+}
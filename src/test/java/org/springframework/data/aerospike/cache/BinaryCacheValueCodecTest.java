@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationFailedException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BinaryCacheValueCodecTest {
+
+	private final BinaryCacheValueCodec codec = new BinaryCacheValueCodec();
+
+	@Test
+	public void decodesScalarValues() {
+		for (Object value : Arrays.asList("bar", "", true, (byte) 1, (short) 2, 'c', 3, 4L, 5.5f, 6.5d,
+				new BigInteger("123456789012345678901234567890"), new BigDecimal("-1.50"))) {
+			assertThat(codec.decode(codec.encode(value))).isEqualTo(value);
+		}
+		assertThat(codec.decode(codec.encode(null))).isNull();
+		assertThat((byte[]) codec.decode(codec.encode(new byte[]{1, 2, 3}))).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void decodesStructuredValue() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("list", Arrays.asList(1, "two", null));
+		map.put("set", new LinkedHashSet<>(Arrays.asList(3L, 4L)));
+		map.put("nested", Collections.singletonMap(5, "five"));
+
+		assertThat(codec.decode(codec.encode(map))).isEqualTo(map);
+	}
+
+	@Test
+	public void prefixesStringWithItsLength() {
+		byte[] encoded = codec.encode("bar");
+
+		assertThat(encoded).containsExactly(1, 0, 0, 0, 3, 'b', 'a', 'r');
+	}
+
+	@Test
+	public void failsOnUnsupportedType() {
+		assertThatThrownBy(() -> codec.encode(new Object()))
+				.isInstanceOf(SerializationFailedException.class);
+	}
+
+	@Test
+	public void failsOnCorruptValue() {
+		assertThatThrownBy(() -> codec.decode(new byte[]{99}))
+				.isInstanceOf(SerializationFailedException.class);
+		assertThatThrownBy(() -> codec.decode(new byte[]{1, 127, 0, 0, 0, 'b'}))
+				.isInstanceOf(SerializationFailedException.class);
+		assertThatThrownBy(() -> codec.decode(new byte[]{6, 0, 0}))
+				.isInstanceOf(SerializationFailedException.class);
+		assertThatThrownBy(() -> codec.decode(new byte[]{2, 1, 0}))
+				.isInstanceOf(SerializationFailedException.class);
+	}
+}
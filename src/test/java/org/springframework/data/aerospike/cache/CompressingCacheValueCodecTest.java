@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationFailedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompressingCacheValueCodecTest {
+
+	private final JdkSerializationCacheValueCodec jdkCodec = new JdkSerializationCacheValueCodec();
+	private final CompressingCacheValueCodec codec = new CompressingCacheValueCodec(jdkCodec, 256);
+
+	@Test
+	public void storesSmallValueAsItIs() {
+		byte[] encoded = codec.encode("bar");
+
+		assertThat(encoded[0]).isEqualTo((byte) 0);
+		assertThat(encoded).hasSize(jdkCodec.encode("bar").length + 1);
+		assertThat(codec.decode(encoded)).isEqualTo("bar");
+	}
+
+	@Test
+	public void deflatesLargeValue() {
+		String value = String.join("", Collections.nCopies(1000, "bar"));
+
+		byte[] encoded = codec.encode(value);
+
+		assertThat(encoded[0]).isEqualTo((byte) 1);
+		assertThat(encoded.length).isLessThan(jdkCodec.encode(value).length);
+		assertThat(codec.decode(encoded)).isEqualTo(value);
+	}
+
+	@Test
+	public void storesIncompressibleValueAsItIs() {
+		byte[] random = new byte[1024];
+		new Random(42).nextBytes(random);
+
+		byte[] encoded = codec.encode(random);
+
+		assertThat(encoded[0]).isEqualTo((byte) 0);
+		assertThat((byte[]) codec.decode(encoded)).isEqualTo(random);
+	}
+
+	@Test
+	public void decodesStructuredValue() {
+		Object value = Arrays.asList(1, "two", Collections.singletonMap("three", 3L));
+
+		assertThat(codec.decode(codec.encode(value))).isEqualTo(value);
+	}
+
+	@Test
+	public void failsOnUnknownHeader() {
+		assertThatThrownBy(() -> codec.decode(new byte[]{7, 1, 2}))
+				.isInstanceOf(SerializationFailedException.class);
+	}
+}
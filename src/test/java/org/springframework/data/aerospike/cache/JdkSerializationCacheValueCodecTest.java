@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationFailedException;
+
+import java.io.InvalidClassException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JdkSerializationCacheValueCodecTest {
+
+	private final JdkSerializationCacheValueCodec codec = new JdkSerializationCacheValueCodec(
+			getClass().getClassLoader(), Collections.singletonList("java.util.ArrayList"));
+
+	@Test
+	public void decodesAllowedClasses() {
+		Object value = new ArrayList<>(Arrays.asList(1, "two", 3L, new int[]{4}));
+
+		ArrayList<?> decoded = (ArrayList<?>) codec.decode(codec.encode(value));
+
+		assertThat(decoded).hasSize(4).startsWith(1, "two", 3L);
+		assertThat((int[]) decoded.get(3)).containsExactly(4);
+	}
+
+	@Test
+	public void decodesClassesOfAllowedPackage() {
+		JdkSerializationCacheValueCodec packageCodec = new JdkSerializationCacheValueCodec(
+				getClass().getClassLoader(), Collections.singletonList("java.util.*"));
+		Date date = new Date(42);
+
+		assertThat(packageCodec.decode(packageCodec.encode(date))).isEqualTo(date);
+	}
+
+	@Test
+	public void rejectsClassNotAllowed() {
+		byte[] encoded = codec.encode(new ArrayList<>(Collections.singletonList(new Date(42))));
+
+		assertThatThrownBy(() -> codec.decode(encoded))
+				.isInstanceOf(SerializationFailedException.class)
+				.hasCauseInstanceOf(InvalidClassException.class);
+	}
+}
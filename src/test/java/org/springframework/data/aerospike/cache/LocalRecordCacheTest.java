@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.cache;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalRecordCacheTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final LocalRecordCache cache = new LocalRecordCache(2, 100, now::get);
+
+	@Test
+	public void returnsStoredRecord() {
+		Record record = record("bar");
+		cache.put(key("foo"), record, cache.version());
+
+		assertThat(cache.get(key("foo"))).isSameAs(record);
+		assertThat(cache.get(key("missing"))).isNull();
+	}
+
+	@Test
+	public void expiresRecordAfterTimeToLive() {
+		cache.put(key("foo"), record("bar"), cache.version());
+
+		now.set(99);
+		assertThat(cache.get(key("foo"))).isNotNull();
+		now.set(100);
+		assertThat(cache.get(key("foo"))).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedRecord() {
+		cache.put(key("a"), record("a"), cache.version());
+		cache.put(key("b"), record("b"), cache.version());
+		cache.get(key("a"));
+
+		cache.put(key("c"), record("c"), cache.version());
+
+		assertThat(cache.get(key("a"))).isNotNull();
+		assertThat(cache.get(key("b"))).isNull();
+		assertThat(cache.get(key("c"))).isNotNull();
+	}
+
+	@Test
+	public void invalidatesRecord() {
+		cache.put(key("foo"), record("bar"), cache.version());
+
+		cache.invalidate(key("foo"));
+
+		assertThat(cache.get(key("foo"))).isNull();
+	}
+
+	@Test
+	public void clearsRecords() {
+		cache.put(key("a"), record("a"), cache.version());
+		cache.put(key("b"), record("b"), cache.version());
+
+		cache.clear();
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void doesNotStoreRecordReadBeforeInvalidation() {
+		long version = cache.version();
+		cache.invalidate(key("foo"));
+
+		cache.put(key("foo"), record("stale"), version);
+
+		assertThat(cache.get(key("foo"))).isNull();
+	}
+
+	private static Key key(String key) {
+		return new Key("test", "set", key);
+	}
+
+	private static Record record(String value) {
+		return new Record(Collections.singletonMap("value", value), 1, 0);
+	}
+}
@@ -37,6 +37,7 @@ import org.springframework.data.aerospike.SampleClasses.Person;
 import org.springframework.data.aerospike.SampleClasses.User;
 import org.springframework.data.aerospike.SampleClasses.UserToAerospikeWriteDataConverter;
 import org.springframework.data.aerospike.SampleClasses.VersionedClass;
+import org.springframework.data.util.ClassTypeInformation;
 import org.testcontainers.shaded.com.google.common.collect.ImmutableList;
 
 import java.time.Duration;
@@ -44,6 +45,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +65,21 @@ import static org.springframework.data.aerospike.utility.AerospikeExpirationPoli
 
 public class MappingAerospikeConverterTest extends BaseMappingAerospikeConverterTest {
 
+	@Test
+	public void convertsValuesToWritableForm() {
+		Date date = new Date(42);
+		SampleClasses.Street street = new SampleClasses.Street("Zarichna", 1);
+
+		assertThat(converter.convertToWritableValue(date, ClassTypeInformation.from(Date.class))).isEqualTo(42L);
+		assertThat(converter.convertToWritableValue(SampleClasses.TYPES.FIRST, ClassTypeInformation.from(SampleClasses.TYPES.class)))
+				.isEqualTo("FIRST");
+		assertThat(converter.convertToWritableValue(new SampleClasses.ComplexId(10L), ClassTypeInformation.from(SampleClasses.ComplexId.class)))
+				.isEqualTo("id::10");
+		assertThat(converter.convertToWritableValue(street, ClassTypeInformation.from(SampleClasses.Street.class)))
+				.isEqualTo(of("name", "Zarichna", "number", 1, "@_class", SampleClasses.Street.class.getName()));
+		assertThat(converter.convertToWritableValue(null, ClassTypeInformation.from(Date.class))).isNull();
+	}
+
 	@Test
 	public void readsCollectionOfObjectsToSetByDefault() {
 		CollectionOfObjects object = new CollectionOfObjects("my-id", list(new Person(null, set(new SampleClasses.Address(new SampleClasses.Street("Zarichna", 1), 202)))));
@@ -270,6 +287,21 @@ public class MappingAerospikeConverterTest extends BaseMappingAerospikeConverter
 		assertThat(actual.getMillis()).isCloseTo(expected.getMillis(), Offset.offset(100L));
 	}
 
+	@Test
+	public void shouldConvertPrimitivePropertiesOnRepeatedReads() {
+		Key key = new Key(NAMESPACE, "DocumentWithDefaultConstructor", "docId");
+		Record withIntField = new Record(of("intField", 42L), 0, 0);
+		Record withoutIntField = new Record(Collections.emptyMap(), 0, 0);
+
+		DocumentWithDefaultConstructor first = converter.read(DocumentWithDefaultConstructor.class, AerospikeReadData.forRead(key, withIntField));
+		DocumentWithDefaultConstructor second = converter.read(DocumentWithDefaultConstructor.class, AerospikeReadData.forRead(key, withoutIntField));
+
+		assertThat(first.getId()).isEqualTo("docId");
+		assertThat(first.getIntField()).isEqualTo(42);
+		assertThat(second.getId()).isEqualTo("docId");
+		assertThat(second.getIntField()).isZero();
+	}
+
 	@Test
 	public void shouldReadExpirationForDocumentWithPersistenceConstructor() {
 		int recordExpiration = toRecordExpiration(EXPIRATION_ONE_MINUTE);
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.repository.query.Criteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class AerospikeTemplateAggregateTests extends BaseBlockingIntegrationTests {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        additionalAerospikeTestOperations.deleteAll(Person.class);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_age_index", "age", IndexType.NUMERIC);
+
+        template.insertAll(Arrays.asList(
+                Person.builder().id(nextId()).firstName("Dave").lastName("Matthews").age(42).build(),
+                Person.builder().id(nextId()).firstName("Oliver").lastName("Matthews").age(14).build(),
+                Person.builder().id(nextId()).firstName("Carter").lastName("Beauford").age(49).build(),
+                Person.builder().id(nextId()).firstName("Boyd").lastName("Tinsley").age(5).build()));
+    }
+
+    @Test
+    public void aggregate_sumsFieldOfMatchingDocuments() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        Optional<Long> sum = template.aggregate(adults, Person.class, Long.class, Aggregation.sum("age"));
+
+        assertThat(sum).contains(91L);
+    }
+
+    @Test
+    public void aggregate_findsMinAndMax() {
+        Query all = new Query(new Criteria().gte(0, "age"));
+
+        assertThat(template.aggregate(all, Person.class, Integer.class, Aggregation.min("age"))).contains(5);
+        assertThat(template.aggregate(all, Person.class, Integer.class, Aggregation.max("age"))).contains(49);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void aggregate_groupsByField() {
+        Query all = new Query(new Criteria().gte(0, "age"));
+
+        Optional<Map> counts = template.aggregate(all, Person.class, Map.class,
+                Aggregation.groupBy("lastName", Aggregation.count()));
+
+        assertThat(counts).hasValueSatisfying(map -> assertThat((Map<Object, Object>) map)
+                .containsOnly(entry("Matthews", 2L), entry("Beauford", 1L), entry("Tinsley", 1L)));
+    }
+
+    @Test
+    public void aggregate_returnsEmptyIfNothingMatches() {
+        Query nobody = new Query(new Criteria().gte(100, "age"));
+
+        assertThat(template.aggregate(nobody, Person.class, Long.class, Aggregation.sum("age"))).isEmpty();
+    }
+}
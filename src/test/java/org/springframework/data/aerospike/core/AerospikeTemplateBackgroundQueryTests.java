@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.Update;
+import org.springframework.data.aerospike.repository.query.Criteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AerospikeTemplateBackgroundQueryTests extends BaseBlockingIntegrationTests {
+
+    private Person dave;
+    private Person oliver;
+    private Person carter;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        additionalAerospikeTestOperations.deleteAll(Person.class);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_age_index", "age", IndexType.NUMERIC);
+
+        dave = Person.builder().id(nextId()).firstName("Dave").lastName("Matthews").age(42).build();
+        oliver = Person.builder().id(nextId()).firstName("Oliver").lastName("Matthews").age(14).build();
+        carter = Person.builder().id(nextId()).firstName("Carter").lastName("Beauford").age(49).build();
+        template.insertAll(Arrays.asList(dave, oliver, carter));
+    }
+
+    @Test
+    public void updateAll_modifiesMatchingDocumentsOnly() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        BackgroundTask task = template.updateAll(adults, Update.update("emailAddress", "adult@example.com").increment("age", 1),
+                Person.class);
+        task.waitTillComplete(Duration.ofMillis(50), Duration.ofSeconds(10));
+
+        assertThat(task.isDone()).isTrue();
+        assertThat(task.getStatus()).isNotEqualTo(BackgroundTask.Status.IN_PROGRESS);
+        assertThat(template.findById(dave.getId(), Person.class))
+                .hasFieldOrPropertyWithValue("age", 43)
+                .hasFieldOrPropertyWithValue("emailAddress", "adult@example.com")
+                .hasFieldOrPropertyWithValue("firstName", "Dave");
+        assertThat(template.findById(carter.getId(), Person.class)).hasFieldOrPropertyWithValue("age", 50);
+        assertThat(template.findById(oliver.getId(), Person.class))
+                .hasFieldOrPropertyWithValue("age", 14)
+                .hasFieldOrPropertyWithValue("emailAddress", null);
+    }
+
+    @Test
+    public void updateAll_convertsValuesLikeEntityWrites() {
+        Query upTo42 = new Query(new Criteria().lte(42, "age"));
+        Date dateOfBirth = new Date(1_000_000_000_000L);
+        Person friend = new Person("friend", "Mary", "Smith");
+
+        template.updateAll(upTo42, Update.update("dateOfBirth", dateOfBirth)
+                .set("sex", Person.Sex.FEMALE)
+                .set("friend", friend), Person.class).waitTillComplete();
+
+        assertThat(template.findById(dave.getId(), Person.class))
+                .hasFieldOrPropertyWithValue("dateOfBirth", dateOfBirth)
+                .hasFieldOrPropertyWithValue("sex", Person.Sex.FEMALE)
+                .hasFieldOrPropertyWithValue("friend.firstName", "Mary")
+                .hasFieldOrPropertyWithValue("friend.lastName", "Smith");
+        assertThat(template.findById(carter.getId(), Person.class)).hasFieldOrPropertyWithValue("dateOfBirth", null);
+    }
+
+    @Test
+    public void updateAll_unsetsField() {
+        Query upTo42 = new Query(new Criteria().lte(42, "age"));
+
+        template.updateAll(upTo42, new Update().unset("firstName"), Person.class).waitTillComplete();
+
+        assertThat(template.findById(dave.getId(), Person.class)).hasFieldOrPropertyWithValue("firstName", null);
+        assertThat(template.findById(oliver.getId(), Person.class)).hasFieldOrPropertyWithValue("firstName", null);
+        assertThat(template.findById(carter.getId(), Person.class)).hasFieldOrPropertyWithValue("firstName", "Carter");
+    }
+
+    @Test
+    public void deleteAll_deletesMatchingDocumentsOnly() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        BackgroundTask task = template.deleteAll(adults, Person.class);
+        task.waitTillComplete();
+
+        assertThat(template.exists(dave.getId(), Person.class)).isFalse();
+        assertThat(template.exists(carter.getId(), Person.class)).isFalse();
+        assertThat(template.exists(oliver.getId(), Person.class)).isTrue();
+    }
+
+    @Test
+    public void updateAll_rejectsLimitedOrSortedQuery() {
+        Query limited = new Query(new Criteria().gte(18, "age")).limit(1);
+        Query sorted = new Query(new Criteria().gte(18, "age")).with(Sort.by("age"));
+
+        assertThatThrownBy(() -> template.updateAll(limited, Update.update("age", 1), Person.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> template.deleteAll(sorted, Person.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(template.findById(dave.getId(), Person.class)).hasFieldOrPropertyWithValue("age", 42);
+    }
+}
@@ -24,12 +24,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.CollectionUtils;
 import org.springframework.data.aerospike.QueryUtils;
+import org.springframework.data.aerospike.query.CursorResult;
+import org.springframework.data.aerospike.query.PartitionCursor;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.sample.PersonAge;
+import org.springframework.data.aerospike.sample.PersonNames;
 import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -72,6 +78,19 @@ public class AerospikeTemplateFindByQueryTests extends BaseBlockingIntegrationTe
         assertThat(result).containsOnly(dave);
     }
 
+    @Test
+    public void findWithFilterEqual_shouldMapProjectedBins() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findPersonByFirstName", "Dave");
+
+        List<PersonAge> ages = template.find(query, Person.class, PersonAge.class).collect(Collectors.toList());
+        List<PersonNames> names = template.find(query, Person.class, PersonNames.class).collect(Collectors.toList());
+
+        assertThat(ages).containsOnly(new PersonAge(dave.getId(), 24));
+        assertThat(names).hasSize(1);
+        assertThat(names.get(0).getFirstName()).isEqualTo("Dave");
+        assertThat(names.get(0).getLastName()).isEqualTo("Matthews");
+    }
+
     @Test
     public void findWithFilterEqualOrderByAsc() {
         Query query = QueryUtils.createQueryForMethodWithArgs("findByLastNameOrderByFirstNameAsc", "Matthews");
@@ -177,6 +196,65 @@ public class AerospikeTemplateFindByQueryTests extends BaseBlockingIntegrationTe
         assertThat(result).isEmpty();
     }
 
+    @Test
+    public void findAllInParallel_findsAllExistingDocuments() {
+        try (Stream<Person> result = template.findAllInParallel(Person.class)) {
+            assertThat(result.isParallel()).isTrue();
+            assertThat(result).containsAll(all);
+        }
+    }
+
+    @Test
+    public void findAllInParallel_allowsQueriesWhileConsumed() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByLastName", "Matthews");
+
+        try (Stream<Person> result = template.findAllInParallel(Person.class)) {
+            result.forEach(person -> {
+                assertThat(template.count(query, Person.class)).isEqualTo(10);
+                try (Stream<Person> nested = template.findAllInParallel(Person.class)) {
+                    assertThat(nested.count()).isEqualTo(all.size());
+                }
+            });
+        }
+    }
+
+    @Test
+    public void findInParallel_appliesSortToSecondaryIndexQuery() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByLastNameOrderByFirstNameAsc", "Matthews");
+
+        try (Stream<Person> result = template.findInParallel(query, Person.class)) {
+            assertThat(result)
+                    .containsExactly(aabbot, alister, ashley, beatrice, dave, jean, knowlen, mitch, xylophone, zaipper);
+        }
+    }
+
+    @Test
+    public void findInRange_withCursorReadsEveryDocumentOnce() {
+        List<Person> found = new ArrayList<>();
+        PartitionCursor cursor = PartitionCursor.START;
+        do {
+            CursorResult<Person> page = template.findInRange(cursor, 3, Person.class);
+            assertThat(page.getContent().size()).isLessThanOrEqualTo(3);
+            found.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(found).containsExactlyInAnyOrderElementsOf(all);
+    }
+
+    @Test
+    public void findWithCursor_appliesQueryCriteria() {
+        Query query = QueryUtils.createQueryForMethodWithArgs("findCustomerByAgeBetween", 25, 30);
+
+        CursorResult<Person> first = template.find(query, PartitionCursor.START, 4, Person.class);
+        CursorResult<Person> second = template.find(query, first.getNextCursor(), 4, Person.class);
+
+        assertThat(first.getContent()).hasSize(4);
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(first.getContent()).doesNotContainAnyElementsOf(second.getContent());
+    }
+
     @Test
     public void find_throwsExceptionForUnsortedQueryWithSpecifiedOffsetValue() {
         Query query = new Query((Sort) null);
@@ -17,11 +17,16 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Value;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.SampleClasses.VersionedClassWithAllArgsConstructor;
+import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.sample.PersonAge;
+import org.springframework.data.aerospike.sample.PersonContact;
+import org.springframework.data.aerospike.sample.PersonNames;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -119,4 +124,74 @@ public class AerospikeTemplateFindTests extends BaseBlockingIntegrationTests {
         assertThat(result.getFirstName()).isEqualTo("Dave");
         assertThat(result.getAge()).isEqualTo(56);
     }
+
+    @Test
+    public void findById_shouldReturnNullIfQualifierDoesNotMatch() {
+        Person person = new Person(id, "Dave", "Matthews");
+        person.setAge(25);
+        template.insert(person);
+
+        Qualifier adult = new Qualifier("age", Qualifier.FilterOperation.GTEQ, Value.get(18));
+        Qualifier senior = new Qualifier("age", Qualifier.FilterOperation.GTEQ, Value.get(65));
+
+        assertThat(template.findById(id, Person.class, adult)).isEqualTo(person);
+        assertThat(template.findById(id, Person.class, senior)).isNull();
+        assertThat(template.exists(id, Person.class, adult)).isTrue();
+        assertThat(template.exists(id, Person.class, senior)).isFalse();
+    }
+
+    @Test
+    public void findByIds_shouldReturnOnlyDocumentsMatchingQualifier() {
+        Person dave = new Person(nextId(), "Dave", "Matthews");
+        dave.setAge(25);
+        Person james = new Person(nextId(), "James", "Bond");
+        james.setAge(70);
+        template.insertAll(Arrays.asList(dave, james));
+
+        Qualifier senior = new Qualifier("age", Qualifier.FilterOperation.GTEQ, Value.get(65));
+        List<Person> actual = template.findByIds(Arrays.asList(dave.getId(), james.getId()), Person.class, senior);
+
+        assertThat(actual).containsExactly(james);
+    }
+
+    @Test
+    public void findById_shouldMapProjectedBins() {
+        Person person = new Person(id, "Dave", "Matthews");
+        person.setAge(42);
+        template.insert(person);
+
+        PersonNames names = template.findById(id, Person.class, PersonNames.class);
+        PersonAge age = template.findById(id, Person.class, PersonAge.class);
+
+        assertThat(names.getFirstName()).isEqualTo("Dave");
+        assertThat(names.getLastName()).isEqualTo("Matthews");
+        assertThat(age).isEqualTo(new PersonAge(id, 42));
+        assertThat(template.findById("non-existing-key", Person.class, PersonAge.class)).isNull();
+    }
+
+    @Test
+    public void findById_shouldMapDtoPropertyStoredInRenamedBin() {
+        Person person = new Person(id, "Dave", "Matthews");
+        person.setEmailAddress("dave@gmail.com");
+        template.insert(person);
+
+        PersonContact contact = template.findById(id, Person.class, PersonContact.class);
+        List<PersonContact> contacts = template.findByIds(Collections.singletonList(id), Person.class, PersonContact.class);
+
+        assertThat(contact).isEqualTo(new PersonContact(id, "Dave", "dave@gmail.com"));
+        assertThat(contacts).containsExactly(contact);
+    }
+
+    @Test
+    public void findByIds_shouldMapProjectedBins() {
+        Person dave = new Person(nextId(), "Dave", "Matthews");
+        dave.setAge(25);
+        Person james = new Person(nextId(), "James", "Bond");
+        james.setAge(70);
+        template.insertAll(Arrays.asList(dave, james));
+
+        List<PersonAge> actual = template.findByIds(Arrays.asList(dave.getId(), james.getId()), Person.class, PersonAge.class);
+
+        assertThat(actual).containsExactly(new PersonAge(dave.getId(), 25), new PersonAge(james.getId(), 70));
+    }
 }
@@ -190,4 +190,33 @@ public class AerospikeTemplateInsertTests extends BaseBlockingIntegrationTests {
 
         assertThat(result).hasSameElementsAs(persons);
     }
+
+    @Test
+    public void insertAll_insertsMoreDocumentsThanWritesInFlight() {
+        List<Person> persons = IntStream.range(0, 250)
+                .mapToObj(age -> Person.builder().id(nextId()).firstName("Gregor").age(age).build())
+                .collect(Collectors.toList());
+
+        template.insertAll(persons);
+
+        List<Person> result = template.findByIds(persons.stream().map(Person::getId).collect(Collectors.toList()), Person.class);
+        assertThat(result).hasSameElementsAs(persons);
+    }
+
+    @Test
+    public void batchInsert_reportsFailedDocumentsAndWritesTheRest() {
+        Person existing = Person.builder().id(nextId()).firstName("Existing").build();
+        template.insert(existing);
+        Person first = Person.builder().id(nextId()).firstName("First").build();
+        Person second = Person.builder().id(nextId()).firstName("Second").build();
+
+        BatchWriteResult<Person> result = template.batchInsert(Arrays.asList(first, existing, second));
+
+        assertThat(result.getWritten()).containsExactly(first, second);
+        assertThat(result.getFailures()).hasSize(1);
+        assertThat(result.getFailures().get(0).getDocument()).isEqualTo(existing);
+        assertThat(result.getFailures().get(0).getException()).isInstanceOf(DuplicateKeyException.class);
+        assertThat(template.findById(first.getId(), Person.class)).isEqualTo(first);
+        assertThat(template.findById(second.getId(), Person.class)).isEqualTo(second);
+    }
 }
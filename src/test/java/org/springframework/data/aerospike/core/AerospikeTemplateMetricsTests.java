@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.metrics.AerospikeMetrics;
+import org.springframework.data.aerospike.metrics.MicrometerAerospikeMetrics;
+import org.springframework.data.aerospike.sample.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AerospikeTemplateMetricsTests extends BaseBlockingIntegrationTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    public void resetMetrics() {
+        template.setMetrics(AerospikeMetrics.NOOP);
+    }
+
+    @Test
+    public void templateOperationsRecordMetrics() {
+        template.setMetrics(new MicrometerAerospikeMetrics(registry));
+        String set = template.getSetName(Person.class);
+
+        template.save(Person.builder().id(id).firstName("Dave").lastName("Matthews").build());
+        template.findById(id, Person.class);
+        template.findById(id, Person.class);
+
+        assertThat(registry.get("aerospike.operation").tags("operation", "save", "set", set, "exception", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("aerospike.operation").tags("operation", "findById", "set", set, "exception", "none")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("aerospike.operation.records").tags("operation", "findById", "set", set)
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get("aerospike.network").tags("set", set).timers()).isNotEmpty();
+        assertThat(registry.get("aerospike.conversion").tags("direction", AerospikeMetrics.WRITE, "set", set)
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -26,6 +26,8 @@ import org.springframework.data.aerospike.AsyncUtils;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.sample.Person;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -257,4 +259,22 @@ public class AerospikeTemplateSaveTests extends BaseBlockingIntegrationTests {
 
         assertThat(result).isEqualTo(document);
     }
+
+    @Test
+    public void batchSave_updatesVersionsAndReportsStaleDocuments() {
+        String otherId = nextId();
+        template.save(new VersionedClass(otherId, "foo"));
+        VersionedClass fresh = new VersionedClass(id, "foo");
+        VersionedClass stale = new VersionedClass(otherId, "bar");
+
+        BatchWriteResult<VersionedClass> result = template.batchSave(Arrays.asList(fresh, stale));
+
+        assertThat(result.getWritten()).containsExactly(fresh);
+        assertThat(fresh.version).isEqualTo(1L);
+        assertThat(result.getFailures()).hasSize(1);
+        assertThat(result.getFailures().get(0).getDocument()).isSameAs(stale);
+        assertThat(result.getFailures().get(0).getException()).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> template.saveAll(Collections.singletonList(new VersionedClass(otherId, "baz"))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
 }
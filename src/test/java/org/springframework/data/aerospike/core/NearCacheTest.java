@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NearCacheTest {
+
+    private static final Key KEY_1 = new Key("test", "set", "1");
+    private static final Key KEY_2 = new Key("test", "set", "2");
+    private static final Key KEY_3 = new Key("test", "set", "3");
+
+    @Test
+    public void evictsLeastRecentlyUsedRecord() {
+        NearCache cache = new NearCache(2, 60_000);
+        cache.put(KEY_1, record(1), cache.stamp());
+        cache.put(KEY_2, record(1), cache.stamp());
+        cache.get(KEY_1);
+
+        cache.put(KEY_3, record(1), cache.stamp());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(KEY_1)).isNotNull();
+        assertThat(cache.get(KEY_2)).isNull();
+        assertThat(cache.get(KEY_3)).isNotNull();
+    }
+
+    @Test
+    public void expiresRecordAfterTtl() throws InterruptedException {
+        NearCache cache = new NearCache(10, 1);
+        cache.put(KEY_1, record(1), cache.stamp());
+
+        Thread.sleep(5);
+
+        assertThat(cache.get(KEY_1)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void doesNotCacheRecordReadBeforeInvalidation() {
+        NearCache cache = new NearCache(10, 60_000);
+        long stamp = cache.stamp();
+
+        cache.invalidate(KEY_1);
+        cache.put(KEY_1, record(1), stamp);
+
+        assertThat(cache.get(KEY_1)).isNull();
+    }
+
+    @Test
+    public void doesNotReplaceRecordOfNewerGeneration() {
+        NearCache cache = new NearCache(10, 60_000);
+        Record newer = record(2);
+        cache.put(KEY_1, newer, cache.stamp());
+
+        cache.put(KEY_1, record(1), cache.stamp());
+
+        assertThat(cache.get(KEY_1)).isSameAs(newer);
+    }
+
+    @Test
+    public void invalidatesAndClearsRecords() {
+        NearCache cache = new NearCache(10, 60_000);
+        cache.put(KEY_1, record(1), cache.stamp());
+        cache.put(KEY_2, record(1), cache.stamp());
+
+        cache.invalidate(KEY_1);
+        assertThat(cache.get(KEY_1)).isNull();
+        assertThat(cache.get(KEY_2)).isNotNull();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void staysBoundedUnderConcurrentAccess() {
+        NearCache cache = new NearCache(100, 60_000);
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            Key key = new Key("test", "set", i % 1000);
+            cache.put(key, record(1), cache.stamp());
+            cache.get(key);
+        });
+        cache.put(KEY_1, record(1), cache.stamp());
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.get(KEY_1)).isNotNull();
+    }
+
+    private static Record record(int generation) {
+        return new Record(Collections.singletonMap("bin", "value"), generation, 0);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NearCachesTest {
+
+    private final NearCaches nearCaches = new NearCaches();
+
+    @Test
+    public void bypassesSuspendedSetUntilEveryTaskResumes() {
+        AerospikePersistentEntity<?> entity = entity("set");
+        AerospikePersistentEntity<?> other = entity("other");
+
+        Runnable first = nearCaches.suspend("set");
+        Runnable second = nearCaches.suspend("set");
+
+        assertThat(nearCaches.forEntity(entity)).isNull();
+        assertThat(nearCaches.forEntity(other)).isNotNull();
+
+        first.run();
+        first.run();
+        assertThat(nearCaches.forEntity(entity)).isNull();
+
+        second.run();
+        assertThat(nearCaches.forEntity(entity)).isNotNull();
+    }
+
+    private static AerospikePersistentEntity<?> entity(String set) {
+        AerospikePersistentEntity<?> entity = mock(AerospikePersistentEntity.class);
+        when(entity.getSetName()).thenReturn(set);
+        when(entity.getNearCacheSize()).thenReturn(10);
+        when(entity.getNearCacheTtlMillis()).thenReturn(60_000L);
+        return entity;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SpillingRecordSorterTest {
+
+    private final SpillingRecordSorter sorter = new SpillingRecordSorter(10);
+
+    @Test
+    public void sortsRecordsSpilledToSeveralRuns() {
+        List<KeyRecord> records = IntStream.range(0, 95)
+                .map(i -> (i * 37) % 95)
+                .mapToObj(i -> keyRecord("key" + i, i))
+                .collect(Collectors.toList());
+
+        try (Stream<Long> result = sorter.sort(records.iterator(), SpillingRecordSorterTest::age, Comparator.naturalOrder())) {
+            assertThat(result).containsExactlyElementsOf(
+                    LongStream.range(0, 95).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void restoresKeysAndBinsOfSpilledRecords() {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("age", 1L);
+        bins.put("names", Arrays.asList("a", "b"));
+        bins.put("location", new Value.GeoJSONValue("{\"type\":\"Point\",\"coordinates\":[1,2]}"));
+        KeyRecord original = new KeyRecord(new Key("ns", "set", "id"), new Record(bins, 3, 100));
+        List<KeyRecord> records = IntStream.range(2, 12)
+                .mapToObj(i -> keyRecord("key" + i, i))
+                .collect(Collectors.toList());
+        records.add(original);
+
+        try (Stream<KeyRecord> result = sorter.sort(records.iterator(), keyRecord -> keyRecord,
+                Comparator.comparingLong(SpillingRecordSorterTest::age))) {
+            KeyRecord restored = result.findFirst().get();
+
+            assertThat(restored.key).isEqualTo(original.key);
+            assertThat(restored.key.userKey.getObject()).isEqualTo("id");
+            assertThat(restored.record.generation).isEqualTo(3);
+            assertThat(restored.record.expiration).isEqualTo(100);
+            assertThat(restored.record.bins).isEqualTo(bins);
+        }
+    }
+
+    @Test
+    public void keepsSmallResultsInMemory() {
+        List<KeyRecord> records = Arrays.asList(keyRecord("b", 2), keyRecord("a", 1));
+
+        try (Stream<Long> result = sorter.sort(records.iterator(), SpillingRecordSorterTest::age, Comparator.naturalOrder())) {
+            assertThat(result).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    public void removesRunsOnceMergeIsExhaustedWithoutClose() throws IOException {
+        Set<Path> before = runFiles();
+        List<KeyRecord> records = IntStream.range(0, 25)
+                .mapToObj(i -> keyRecord("key" + i, 25 - i))
+                .collect(Collectors.toList());
+
+        List<Long> sorted = sorter.sort(records.iterator(), SpillingRecordSorterTest::age, Comparator.naturalOrder())
+                .collect(Collectors.toList());
+
+        assertThat(sorted).hasSize(25).isSorted();
+        assertThat(runFiles()).isEqualTo(before);
+    }
+
+    @Test
+    public void removesRunsWhenMergeFails() throws IOException {
+        Set<Path> before = runFiles();
+        List<KeyRecord> records = IntStream.range(0, 25)
+                .mapToObj(i -> keyRecord("key" + i, i))
+                .collect(Collectors.toList());
+        AtomicInteger mapped = new AtomicInteger();
+        Function<KeyRecord, Long> failingMapper = keyRecord -> {
+            if (mapped.incrementAndGet() > 28) {
+                throw new IllegalStateException("mapping failed");
+            }
+            return age(keyRecord);
+        };
+
+        Stream<Long> result = sorter.sort(records.iterator(), failingMapper, Comparator.naturalOrder());
+
+        assertThatThrownBy(() -> result.collect(Collectors.toList())).isInstanceOf(IllegalStateException.class);
+        assertThat(runFiles()).isEqualTo(before);
+    }
+
+    private static Set<Path> runFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("aerospike-sort-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static KeyRecord keyRecord(String id, long age) {
+        return new KeyRecord(new Key("ns", "set", id), new Record(new HashMap<>(Collections.singletonMap("age", age)), 1, 0));
+    }
+
+    private static long age(KeyRecord keyRecord) {
+        return keyRecord.record.getLong("age");
+    }
+}
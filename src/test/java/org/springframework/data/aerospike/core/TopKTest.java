@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopKTest {
+
+    @Test
+    public void keepsSmallestElementsInOrder() {
+        List<Integer> result = IntStream.of(7, 3, 9, 1, 8, 2, 6)
+                .boxed()
+                .collect(TopK.collector(Comparator.naturalOrder(), 3));
+
+        assertThat(result).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void collectsInParallel() {
+        List<Integer> shuffled = IntStream.range(0, 10_000)
+                .map(i -> (i * 7919) % 10_000)
+                .boxed()
+                .collect(Collectors.toList());
+
+        List<Integer> result = shuffled.parallelStream()
+                .collect(TopK.collector(Comparator.reverseOrder(), 5));
+
+        assertThat(result).containsExactly(9999, 9998, 9997, 9996, 9995);
+    }
+
+    @Test
+    public void returnsWholeInputIfSmallerThanK() {
+        List<Integer> result = IntStream.of(2, 1)
+                .boxed()
+                .collect(TopK.collector(Comparator.naturalOrder(), 10));
+
+        assertThat(result).containsExactly(1, 2);
+    }
+
+    @Test
+    public void keepsNothingForZeroK() {
+        List<Integer> result = IntStream.of(2, 1)
+                .boxed()
+                .collect(TopK.collector(Comparator.naturalOrder(), 0));
+
+        assertThat(result).isEmpty();
+    }
+}
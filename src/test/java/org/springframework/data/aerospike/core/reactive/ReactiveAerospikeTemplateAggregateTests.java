@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.reactive;
+
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.query.Aggregation;
+import org.springframework.data.aerospike.repository.query.Criteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+
+public class ReactiveAerospikeTemplateAggregateTests extends BaseReactiveIntegrationTests {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        additionalAerospikeTestOperations.deleteAll(Person.class);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_age_index", "age", IndexType.NUMERIC);
+
+        reactiveTemplate.insertAll(Arrays.asList(
+                Person.builder().id(nextId()).firstName("Dave").lastName("Matthews").age(42).build(),
+                Person.builder().id(nextId()).firstName("Carter").lastName("Beauford").age(49).build(),
+                Person.builder().id(nextId()).firstName("Boyd").lastName("Tinsley").age(5).build())).blockLast();
+    }
+
+    @Test
+    public void aggregate_sumsFieldOfMatchingDocuments() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        StepVerifier.create(reactiveTemplate.aggregate(adults, Person.class, Long.class, Aggregation.sum("age"))
+                .subscribeOn(Schedulers.parallel()))
+                .expectNext(91L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void aggregate_completesEmptyIfNothingMatches() {
+        Query nobody = new Query(new Criteria().gte(100, "age"));
+
+        StepVerifier.create(reactiveTemplate.aggregate(nobody, Person.class, Long.class, Aggregation.count()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void aggregate_streamsValuesOfCustomFunction() {
+        Query all = new Query(new Criteria().gte(0, "age"));
+
+        StepVerifier.create(reactiveTemplate.aggregate(all, Person.class, Long.class, Aggregation.MODULE, "count"))
+                .expectNext(3L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.reactive;
+
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.query.Update;
+import org.springframework.data.aerospike.repository.query.Criteria;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReactiveAerospikeTemplateBackgroundQueryTests extends BaseReactiveIntegrationTests {
+
+    private Person dave;
+    private Person boyd;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        additionalAerospikeTestOperations.deleteAll(Person.class);
+        additionalAerospikeTestOperations.createIndexIfNotExists(Person.class, "person_age_index", "age", IndexType.NUMERIC);
+
+        dave = Person.builder().id(nextId()).firstName("Dave").lastName("Matthews").age(42).build();
+        boyd = Person.builder().id(nextId()).firstName("Boyd").lastName("Tinsley").age(5).build();
+        reactiveTemplate.insertAll(Arrays.asList(dave, boyd)).blockLast();
+    }
+
+    @Test
+    public void updateAll_modifiesMatchingDocumentsOnly() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        StepVerifier.create(reactiveTemplate.updateAll(adults, Update.update("age", 43), Person.class)
+                .flatMap(task -> task.whenComplete(Duration.ofMillis(50))))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveTemplate.findById(dave.getId(), Person.class))
+                .expectNextMatches(person -> person.getAge() == 43)
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate.findById(boyd.getId(), Person.class))
+                .expectNextMatches(person -> person.getAge() == 5)
+                .verifyComplete();
+    }
+
+    @Test
+    public void deleteAll_deletesMatchingDocumentsOnly() {
+        Query adults = new Query(new Criteria().gte(18, "age"));
+
+        StepVerifier.create(reactiveTemplate.deleteAll(adults, Person.class)
+                .flatMap(task -> task.whenComplete(Duration.ofMillis(50))))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveTemplate.exists(dave.getId(), Person.class))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate.exists(boyd.getId(), Person.class))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    public void deleteAll_rejectsQueryWithOffset() {
+        Query withOffset = new Query(new Criteria().gte(18, "age")).with(Sort.by("age"));
+        withOffset.setOffset(1);
+
+        assertThatThrownBy(() -> reactiveTemplate.deleteAll(withOffset, Person.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
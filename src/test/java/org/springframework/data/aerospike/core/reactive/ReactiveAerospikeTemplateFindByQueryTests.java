@@ -7,6 +7,7 @@ import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.QueryUtils;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.sample.PersonNames;
 import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Schedulers;
@@ -113,6 +114,24 @@ public class ReactiveAerospikeTemplateFindByQueryTests extends BaseReactiveInteg
                 .containsExactlyInAnyOrderElementsOf(allUsers);
     }
 
+    @Test
+    public void find_shouldSortProjectionByNotProjectedProperty() {
+        List<Person> allUsers = IntStream.rangeClosed(1, 10)
+                .mapToObj(age -> Person.builder().id(nextId()).firstName("Dave" + age).lastName("Matthews").age(age).build())
+                .collect(Collectors.toList());
+        Collections.shuffle(allUsers);
+        reactiveTemplate.insertAll(allUsers).blockLast();
+
+        Query query = QueryUtils.createQueryForMethodWithArgs("findByLastNameOrderByAgeAsc", "Matthews", PersonNames.class);
+        query.setOffset(2);
+        query.setRows(3);
+
+        List<PersonNames> actual = reactiveTemplate.find(query, Person.class, PersonNames.class)
+                .subscribeOn(Schedulers.parallel())
+                .collectList().block();
+        assertThat(actual).extracting(PersonNames::getFirstName).containsExactly("Dave3", "Dave4", "Dave5");
+    }
+
     @Test
     public void find_shouldWorkWithFilterEqualOrderBy() {
         List<Person> allUsers = IntStream.rangeClosed(1, 10)
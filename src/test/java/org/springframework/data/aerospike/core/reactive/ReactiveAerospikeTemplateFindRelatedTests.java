@@ -1,10 +1,12 @@
 package org.springframework.data.aerospike.core.reactive;
 
+import com.aerospike.client.Value;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnRead;
 import org.springframework.data.aerospike.SampleClasses.DocumentWithTouchOnReadAndExpirationProperty;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
+import org.springframework.data.aerospike.query.Qualifier;
 import org.springframework.data.aerospike.sample.Person;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
@@ -12,6 +14,8 @@ import reactor.test.StepVerifier;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -96,4 +100,51 @@ public class ReactiveAerospikeTemplateFindRelatedTests extends BaseReactiveInteg
         assertThat(actual).containsExactlyInAnyOrder(customer1, customer2);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void findByIds_shouldPreserveOrderOfIdsAcrossBatches() {
+        List<Person> customers = IntStream.range(0, 7)
+                .mapToObj(i -> new Person(nextId(), "Name" + i, "Surname" + i))
+                .collect(Collectors.toList());
+        reactiveTemplate.insertAll(customers).blockLast();
+        List<String> ids = customers.stream()
+                .map(Person::getId)
+                .collect(Collectors.toList());
+        Collections.reverse(ids);
+
+        reactiveTemplate.setBatchReadSize(2);
+        reactiveTemplate.setBatchReadOrdered(true);
+        try {
+            List<Person> actual = reactiveTemplate.findByIds(ids, Person.class)
+                    .subscribeOn(Schedulers.parallel())
+                    .collectList().block();
+
+            assertThat(actual).extracting(Person::getId).containsExactlyElementsOf(ids);
+        } finally {
+            reactiveTemplate.setBatchReadSize(1000);
+            reactiveTemplate.setBatchReadOrdered(false);
+        }
+    }
+
+    @Test
+    public void findById_shouldReturnEmptyIfQualifierDoesNotMatch() {
+        Person person = new Person(nextId(), "Dave", "Matthews");
+        person.setAge(25);
+        reactiveTemplate.insert(person).block();
+
+        Qualifier adult = new Qualifier("age", Qualifier.FilterOperation.GTEQ, Value.get(18));
+        Qualifier senior = new Qualifier("age", Qualifier.FilterOperation.GTEQ, Value.get(65));
+
+        StepVerifier.create(reactiveTemplate.findById(person.getId(), Person.class, adult))
+                .expectNext(person)
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate.findById(person.getId(), Person.class, senior))
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate.exists(person.getId(), Person.class, senior))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(reactiveTemplate.findByIds(Collections.singletonList(person.getId()), Person.class, adult))
+                .expectNext(person)
+                .verifyComplete();
+    }
+
+}
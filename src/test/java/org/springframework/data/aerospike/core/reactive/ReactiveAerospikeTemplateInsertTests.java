@@ -182,4 +182,24 @@ public class ReactiveAerospikeTemplateInsertTests extends BaseReactiveIntegratio
                 .expectError(DuplicateKeyException.class)
                 .verify();
     }
+
+    @Test
+    public void batchInsert_reportsFailedDocumentsAndWritesTheRest() {
+        Person existing = new Person(nextId(), "Existing");
+        reactiveTemplate.insert(existing).block();
+        Person first = new Person(nextId(), "First");
+        Person second = new Person(nextId(), "Second");
+
+        StepVerifier.create(reactiveTemplate.batchInsert(asList(first, existing, second)))
+                .assertNext(result -> {
+                    assertThat(result.getWritten()).containsExactlyInAnyOrder(first, second);
+                    assertThat(result.getFailures()).hasSize(1);
+                    assertThat(result.getFailures().get(0).getDocument()).isEqualTo(existing);
+                    assertThat(result.getFailures().get(0).getException()).isInstanceOf(DuplicateKeyException.class);
+                })
+                .verifyComplete();
+
+        assertThat(findById(first.getId(), Person.class)).isEqualTo(first);
+        assertThat(findById(second.getId(), Person.class)).isEqualTo(second);
+    }
 }
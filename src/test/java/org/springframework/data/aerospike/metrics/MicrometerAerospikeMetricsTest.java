@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MicrometerAerospikeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AerospikeMetrics metrics = new MicrometerAerospikeMetrics(registry);
+
+    @Test
+    public void recordsSuccessfulOperation() {
+        String result = MetricsSupport.observe(metrics, "findById", "persons", found -> 1, () -> "found");
+
+        assertThat(result).isEqualTo("found");
+        assertThat(registry.get("aerospike.operation")
+                .tags("operation", "findById", "set", "persons", "exception", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("aerospike.operation.records")
+                .tags("operation", "findById", "set", "persons")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(registry.find("aerospike.operation.errors").counter()).isNull();
+    }
+
+    @Test
+    public void recordsFailedOperationWithThrownException() {
+        assertThatThrownBy(() -> MetricsSupport.observe(metrics, "save", "persons", saved -> 1, () -> {
+            throw new DataRetrievalFailureException("failed");
+        })).isInstanceOf(DataRetrievalFailureException.class);
+
+        assertThat(registry.get("aerospike.operation")
+                .tags("operation", "save", "exception", "DataRetrievalFailureException")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("aerospike.operation.errors")
+                .tags("operation", "save", "set", "persons", "exception", "DataRetrievalFailureException")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void reusesMetersOfSameTags() {
+        metrics.recordOperation("findById", "persons", 10, 1, null);
+        metrics.recordOperation("findById", "persons", 20, 1, null);
+        metrics.recordOperation("findById", null, 30, 0, null);
+
+        assertThat(registry.get("aerospike.operation").tags("operation", "findById", "set", "persons")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("aerospike.operation").tags("operation", "findById", "set", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.getMeters()).hasSize(4);
+    }
+
+    @Test
+    public void recordsNetworkAndConversionSeparately() {
+        MetricsSupport.network(metrics, "get", "persons", () -> "record");
+        metrics.recordConversion(AerospikeMetrics.READ, "persons", TimeUnit.MILLISECONDS.toNanos(2), 128);
+
+        assertThat(registry.get("aerospike.network").tags("command", "get", "set", "persons").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("aerospike.conversion").tags("direction", "read").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+        assertThat(registry.get("aerospike.conversion.bytes").tags("direction", "read").summary().totalAmount())
+                .isEqualTo(128);
+    }
+
+    @Test
+    public void recordsReactiveOperationsOnTermination() {
+        Mono<String> mono = ReactiveMetricsSupport.observe(metrics, "findById", "persons", found -> 1, Mono.just("found"));
+        Flux<Integer> flux = ReactiveMetricsSupport.observe(metrics, "query", "persons", Flux.range(0, 5));
+
+        assertThat(registry.find("aerospike.operation").timer()).isNull();
+
+        StepVerifier.create(mono).expectNext("found").verifyComplete();
+        StepVerifier.create(flux).expectNextCount(5).verifyComplete();
+
+        assertThat(registry.get("aerospike.operation.records").tags("operation", "findById").summary().totalAmount())
+                .isEqualTo(1);
+        assertThat(registry.get("aerospike.operation.records").tags("operation", "query").summary().totalAmount())
+                .isEqualTo(5);
+    }
+
+    @Test
+    public void skipsMeasuringWhenDisabled() {
+        String result = MetricsSupport.observe(AerospikeMetrics.NOOP, "findById", "persons", found -> {
+            throw new AssertionError("records must not be counted");
+        }, () -> "found");
+
+        assertThat(result).isEqualTo("found");
+    }
+}
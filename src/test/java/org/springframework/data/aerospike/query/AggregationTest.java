@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AggregationTest {
+
+    @Test
+    public void count_hasNoArguments() {
+        Aggregation aggregation = Aggregation.count();
+
+        assertThat(aggregation.getFunction()).isEqualTo("count");
+        assertThat(aggregation.getArguments(field -> field)).isEmpty();
+    }
+
+    @Test
+    public void sum_passesBinOfField() {
+        Aggregation aggregation = Aggregation.sum("emailAddress");
+
+        assertThat(aggregation.getFunction()).isEqualTo("sum");
+        assertThat(aggregation.getArguments(field -> "email")).containsExactly(Value.get("email"));
+    }
+
+    @Test
+    public void groupBy_passesGroupBinOperationAndValueBin() {
+        Aggregation aggregation = Aggregation.groupBy("lastName", Aggregation.max("age"));
+
+        assertThat(aggregation.getFunction()).isEqualTo("group_by");
+        assertThat(aggregation.getArguments(field -> field))
+                .containsExactly(Value.get("lastName"), Value.get("max"), Value.get("age"));
+        assertThat(aggregation).hasToString("groupBy(lastName, max(age))");
+    }
+
+    @Test
+    public void groupBy_countPassesNullValueBin() {
+        Aggregation aggregation = Aggregation.groupBy("lastName", Aggregation.count());
+
+        assertThat(aggregation.getArguments(field -> field))
+                .containsExactly(Value.get("lastName"), Value.get("count"), Value.getAsNull());
+    }
+
+    @Test
+    public void groupBy_rejectsNestedGrouping() {
+        Aggregation grouped = Aggregation.groupBy("lastName", Aggregation.count());
+
+        assertThatThrownBy(() -> Aggregation.groupBy("firstName", grouped))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Nested grouping is not supported");
+    }
+}
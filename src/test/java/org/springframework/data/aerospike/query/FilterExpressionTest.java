@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.query.PredExp;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FilterExpressionTest {
+
+    @Test
+    public void combinesQualifiersWithAnd() {
+        Qualifier name = new Qualifier("name", Qualifier.FilterOperation.EQ, Value.get("Bob"));
+        Qualifier age = new Qualifier("age", Qualifier.FilterOperation.GT, Value.get(30));
+
+        PredExp[] predExp = FilterExpression.of(name, null, age).toPredExp();
+
+        assertThat(predExp).hasSize(7);
+        assertThat(predExp[6]).usingRecursiveComparison().isEqualTo(PredExp.and(2));
+    }
+
+    @Test
+    public void skipsQualifiersServedByFilter() {
+        Qualifier name = new Qualifier("name", Qualifier.FilterOperation.EQ, Value.get("Bob"));
+        name.asFilter(true);
+
+        assertThat(FilterExpression.of(name).isEmpty()).isTrue();
+        assertThat(FilterExpression.of((Qualifier[]) null).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void combinesWithExpressionOfPolicy() {
+        Policy policy = new Policy();
+        FilterExpression.of(new Qualifier("age", Qualifier.FilterOperation.GT, Value.get(30))).applyTo(policy);
+        assertThat(policy.predExp).hasSize(3);
+
+        FilterExpression.of(new Qualifier("name", Qualifier.FilterOperation.EQ, Value.get("Bob"))).applyTo(policy);
+        assertThat(policy.predExp).hasSize(7);
+        assertThat(policy.predExp[6]).usingRecursiveComparison().isEqualTo(PredExp.and(2));
+    }
+
+    @Test
+    public void leavesPolicyUntouchedForEmptyExpression() {
+        Policy policy = new Policy();
+
+        FilterExpression.empty().applyTo(policy);
+
+        assertThat(policy.predExp).isNull();
+    }
+
+    @Test
+    public void compilesInWithoutDuplicates() {
+        Qualifier in = new Qualifier("name", Qualifier.FilterOperation.IN, Value.get(Arrays.asList("Bob", "Ann", "Bob")));
+        Qualifier singleIn = new Qualifier("name", Qualifier.FilterOperation.IN, Value.get(Collections.singletonList("Bob")));
+
+        assertThat(in.toPredExp()).hasSize(7);
+        assertThat(singleIn.toPredExp()).hasSize(3);
+    }
+
+    @Test
+    public void rejectsEmptyIn() {
+        Qualifier in = new Qualifier("name", Qualifier.FilterOperation.IN, Value.get(Collections.emptyList()));
+
+        assertThatThrownBy(in::toPredExp).isInstanceOf(QualifierException.class);
+    }
+
+    @Test
+    public void negatesCaseInsensitiveEquality() {
+        Qualifier notEqual = new Qualifier("name", Qualifier.FilterOperation.NOTEQ, true, Value.get("bob"));
+
+        assertThat(notEqual.toPredExp()).hasSize(4);
+        assertThat(notEqual.toPredExp().get(3)).usingRecursiveComparison().isEqualTo(PredExp.not());
+    }
+}
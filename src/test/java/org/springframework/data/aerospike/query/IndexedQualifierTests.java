@@ -19,10 +19,13 @@ package org.springframework.data.aerospike.query;
 import com.aerospike.client.Value;
 import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.KeyRecord;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -61,6 +64,42 @@ public class IndexedQualifierTests extends BaseQueryEngineTests {
 		});
 	}
 
+	@Test
+	public void countOnIndexedLTQualifier() {
+		withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+			Qualifier qualifier = new Qualifier("age", FilterOperation.LT, Value.get(26));
+
+			assertThat(queryEngine.count(namespace, INDEXED_SET_NAME, qualifier))
+					.isEqualTo(queryEngineTestDataPopulator.ageCount.get(25).longValue());
+		});
+	}
+
+	@Test
+	public void selectPageOnIndexedQualifierDoesNotScan() {
+		withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+			queryEngine.setScansEnabled(false);
+			try {
+				Qualifier qualifier = new Qualifier("age", FilterOperation.LT, Value.get(26));
+				List<KeyRecord> records = new ArrayList<>();
+				PartitionCursor cursor = PartitionCursor.START;
+				do {
+					CursorResult<KeyRecord> page = queryEngine.selectPage(namespace, INDEXED_SET_NAME, cursor, 7, qualifier);
+					assertThat(page.getContent().size()).isLessThanOrEqualTo(7);
+					records.addAll(page.getContent());
+					cursor = page.getNextCursor();
+				} while (cursor != null);
+
+				assertThat(records)
+						.allSatisfy(rec -> assertThat(rec.record.getInt("age")).isLessThan(26))
+						.extracting(rec -> rec.key.userKey)
+						.doesNotHaveDuplicates()
+						.hasSize(queryEngineTestDataPopulator.ageCount.get(25));
+			} finally {
+				queryEngine.setScansEnabled(true);
+			}
+		});
+	}
+
 	@Test
 	public void selectOnIndexedLTEQQualifier() {
 		withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.cluster.Partition;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PartitionCursorTest {
+
+    private static final byte[] DIGEST = new Key("namespace", "set", "key").digest;
+
+    @Test
+    public void tokenRoundTrip() {
+        PartitionCursor cursor = new PartitionCursor(4095);
+
+        assertThat(PartitionCursor.fromToken(cursor.toToken())).isEqualTo(cursor);
+    }
+
+    @Test
+    public void tokenRoundTripWithDigest() {
+        PartitionCursor cursor = PartitionCursor.after(DIGEST);
+
+        PartitionCursor decoded = PartitionCursor.fromToken(cursor.toToken());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.getPartition()).isEqualTo(Partition.getPartitionId(DIGEST));
+        assertThat(decoded.getDigest()).isEqualTo(DIGEST);
+    }
+
+    @Test
+    public void fromToken_rejectsMalformedToken() {
+        assertThatThrownBy(() -> PartitionCursor.fromToken("not a token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PartitionCursor.fromToken("EAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PartitionCursor.fromToken("AAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void rejectsPartitionOutOfRange() {
+        assertThatThrownBy(() -> new PartitionCursor(4096))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PartitionCursor(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void precedesRecordsAfterDigestOnly() {
+        PartitionCursor cursor = PartitionCursor.after(DIGEST);
+        int partition = Partition.getPartitionId(DIGEST);
+
+        assertThat(cursor.precedes(DIGEST)).isFalse();
+        assertThat(new PartitionCursor(partition).precedes(DIGEST)).isTrue();
+        assertThat(PartitionCursor.START.precedes(DIGEST)).isTrue();
+        if (partition < 4095) {
+            assertThat(new PartitionCursor(partition + 1).precedes(DIGEST)).isFalse();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.data.aerospike.CollectionUtils;
 import org.springframework.data.aerospike.query.Qualifier.FilterOperation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +76,25 @@ public class QualifierTests extends BaseQueryEngineTests {
 		}
 	}
 
+	@Test
+	public void selectPageReadsEveryRecordOnce() {
+		Qualifier qualifier = new Qualifier("age", LT, Value.get(26));
+		List<KeyRecord> records = new ArrayList<>();
+		PartitionCursor cursor = PartitionCursor.START;
+		do {
+			CursorResult<KeyRecord> page = queryEngine.selectPage(namespace, SET_NAME, cursor, 7, qualifier);
+			assertThat(page.getContent().size()).isLessThanOrEqualTo(7);
+			records.addAll(page.getContent());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(records)
+				.allSatisfy(rec -> assertThat(rec.record.getInt("age")).isLessThan(26))
+				.extracting(rec -> rec.key.userKey)
+				.doesNotHaveDuplicates()
+				.hasSize(queryEngineTestDataPopulator.ageCount.get(25));
+	}
+
 	@Test
 	public void selectOneWitKey() {
 		KeyQualifier kq = new KeyQualifier(Value.get("selector-test:3"));
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.PartitionFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryEngineTest {
+
+    @Test
+    public void partitionRanges_coverAllPartitionsWithoutGaps() {
+        List<PartitionFilter> ranges = QueryEngine.partitionRanges(3);
+
+        assertThat(ranges).extracting("begin").containsExactly(0, 1366, 2731);
+        assertThat(ranges).extracting("count").containsExactly(1366, 1365, 1365);
+    }
+
+    @Test
+    public void partitionRanges_areLimitedByPartitionsCount() {
+        List<PartitionFilter> ranges = QueryEngine.partitionRanges(10_000);
+
+        assertThat(ranges).hasSize(4096);
+        assertThat(ranges).extracting("count").containsOnly(1);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementBuilderTest {
+
+    private static final String NAMESPACE = "test";
+    private static final String SET = "users";
+
+    private final IndexesCacheHolder indexesCache = new IndexesCacheHolder();
+    private final StatementBuilder statementBuilder = new StatementBuilder(indexesCache);
+
+    @Test
+    public void choosesMostSelectiveIndex() {
+        Map<IndexKey, Index> indexes = new HashMap<>();
+        Map<IndexKey, IndexStatistics> statistics = new HashMap<>();
+        addIndex(indexes, statistics, "country", IndexType.STRING, new IndexStatistics(1_000_000, 50));
+        addIndex(indexes, statistics, "userId", IndexType.STRING, new IndexStatistics(1_000_000, 1_000_000));
+        indexesCache.update(IndexesInfo.of(indexes, statistics));
+
+        Qualifier[] qualifiers = {new Qualifier(Qualifier.FilterOperation.AND,
+                new Qualifier("country", Qualifier.FilterOperation.EQ, Value.get("NL")),
+                new Qualifier("userId", Qualifier.FilterOperation.EQ, Value.get("u-1")))};
+
+        QueryPlan plan = statementBuilder.explain(NAMESPACE, SET, qualifiers);
+        assertThat(plan.getCandidates()).extracting(QueryPlan.Candidate::getField).containsExactly("userId", "country");
+        assertThat(plan.getFilter()).hasValueSatisfying(candidate -> {
+            assertThat(candidate.getIndexName()).isEqualTo("userId_idx");
+            assertThat(candidate.getEstimatedRecords()).hasValue(1.0);
+        });
+
+        Statement statement = statementBuilder.build(NAMESPACE, SET, null, qualifiers);
+        assertThat(statement.getFilter()).isEqualTo(Filter.equal("userId", "u-1"));
+        assertThat(statement.getPredExp()).isNotEmpty();
+    }
+
+    @Test
+    public void leavesQualifiersReusableWhenChosenIndexChanges() {
+        Qualifier country = new Qualifier("country", Qualifier.FilterOperation.EQ, Value.get("NL"));
+        Qualifier userId = new Qualifier("userId", Qualifier.FilterOperation.EQ, Value.get("u-1"));
+        Qualifier[] qualifiers = {country, userId};
+
+        Map<IndexKey, Index> indexes = new HashMap<>();
+        Map<IndexKey, IndexStatistics> statistics = new HashMap<>();
+        addIndex(indexes, statistics, "country", IndexType.STRING, new IndexStatistics(1_000_000, 50));
+        addIndex(indexes, statistics, "userId", IndexType.STRING, new IndexStatistics(1_000_000, 1_000_000));
+        indexesCache.update(IndexesInfo.of(indexes, statistics));
+
+        Statement byUserId = statementBuilder.build(NAMESPACE, SET, null, qualifiers);
+        assertThat(byUserId.getFilter()).isEqualTo(Filter.equal("userId", "u-1"));
+        assertThat(byUserId.getPredExp()).usingRecursiveComparison().isEqualTo(FilterExpression.of(country).toPredExp());
+
+        addIndex(indexes, statistics, "country", IndexType.STRING, new IndexStatistics(1_000_000, 1_000_000));
+        addIndex(indexes, statistics, "userId", IndexType.STRING, new IndexStatistics(1_000_000, 50));
+        indexesCache.update(IndexesInfo.of(indexes, statistics));
+
+        Statement byCountry = statementBuilder.build(NAMESPACE, SET, null, qualifiers);
+        assertThat(byCountry.getFilter()).isEqualTo(Filter.equal("country", "NL"));
+        assertThat(byCountry.getPredExp()).usingRecursiveComparison().isEqualTo(FilterExpression.of(userId).toPredExp());
+        assertThat(qualifiers).containsExactly(country, userId);
+        assertThat(country.queryAsFilter()).isFalse();
+        assertThat(userId.queryAsFilter()).isFalse();
+    }
+
+    @Test
+    public void prefersEqualityOverRangeWithoutStatistics() {
+        Map<IndexKey, Index> indexes = new HashMap<>();
+        addIndex(indexes, new HashMap<>(), "age", IndexType.NUMERIC, null);
+        addIndex(indexes, new HashMap<>(), "userId", IndexType.STRING, null);
+        indexesCache.update(IndexesInfo.of(indexes));
+
+        Qualifier[] qualifiers = {
+                new Qualifier("age", Qualifier.FilterOperation.GT, Value.get(30)),
+                new Qualifier("userId", Qualifier.FilterOperation.EQ, Value.get("u-1"))};
+
+        QueryPlan plan = statementBuilder.explain(NAMESPACE, SET, qualifiers);
+        assertThat(plan.getFilter()).hasValueSatisfying(candidate -> {
+            assertThat(candidate.getField()).isEqualTo("userId");
+            assertThat(candidate.isEquality()).isTrue();
+            assertThat(candidate.getEstimatedRecords()).isEmpty();
+        });
+        assertThat(qualifiers[1].queryAsFilter()).isFalse();
+    }
+
+    @Test
+    public void prefersRangeIfEqualityIsLessSelective() {
+        Map<IndexKey, Index> indexes = new HashMap<>();
+        Map<IndexKey, IndexStatistics> statistics = new HashMap<>();
+        addIndex(indexes, statistics, "active", IndexType.NUMERIC, new IndexStatistics(900, 2));
+        addIndex(indexes, statistics, "age", IndexType.NUMERIC, new IndexStatistics(900, 90));
+        indexesCache.update(IndexesInfo.of(indexes, statistics));
+
+        QueryPlan plan = statementBuilder.explain(NAMESPACE, SET, new Qualifier[]{
+                new Qualifier("active", Qualifier.FilterOperation.EQ, Value.get(1)),
+                new Qualifier("age", Qualifier.FilterOperation.BETWEEN, Value.get(20), Value.get(30))});
+
+        assertThat(plan.getFilter()).hasValueSatisfying(candidate -> assertThat(candidate.getField()).isEqualTo("age"));
+    }
+
+    @Test
+    public void usesOnlyIndexOfMatchingType() {
+        Map<IndexKey, Index> indexes = new HashMap<>();
+        addIndex(indexes, new HashMap<>(), "userId", IndexType.STRING, null);
+        addIndex(indexes, new HashMap<>(), "age", IndexType.STRING, null);
+        indexesCache.update(IndexesInfo.of(indexes));
+
+        Qualifier[] qualifiers = {
+                new Qualifier("age", Qualifier.FilterOperation.EQ, Value.get(30)),
+                new Qualifier("userId", Qualifier.FilterOperation.EQ, Value.get("u-1"))};
+
+        QueryPlan plan = statementBuilder.explain(NAMESPACE, SET, qualifiers);
+        assertThat(plan.getCandidates()).extracting(QueryPlan.Candidate::getField).containsExactly("userId");
+    }
+
+    @Test
+    public void usesOnlyIndexOfMatchingCollectionType() {
+        IndexKey key = new IndexKey(NAMESPACE, SET, "tags", IndexType.STRING, IndexCollectionType.LIST);
+        indexesCache.update(IndexesInfo.of(Collections.singletonMap(key,
+                new Index("tags_idx", NAMESPACE, SET, "tags", IndexType.STRING, IndexCollectionType.LIST))));
+
+        QueryPlan equalPlan = statementBuilder.explain(NAMESPACE, SET, new Qualifier[]{
+                new Qualifier("tags", Qualifier.FilterOperation.EQ, Value.get("java"))});
+        QueryPlan containsPlan = statementBuilder.explain(NAMESPACE, SET, new Qualifier[]{
+                new Qualifier("tags", Qualifier.FilterOperation.LIST_CONTAINS, Value.get("java"))});
+
+        assertThat(equalPlan.isScan()).isTrue();
+        assertThat(containsPlan.getFilter()).hasValueSatisfying(candidate ->
+                assertThat(candidate.getIndexName()).isEqualTo("tags_idx"));
+    }
+
+    @Test
+    public void explainsScanIfNoIndexMatches() {
+        indexesCache.update(IndexesInfo.empty());
+
+        QueryPlan plan = statementBuilder.explain(NAMESPACE, SET, new Qualifier[]{
+                new Qualifier("userId", Qualifier.FilterOperation.EQ, Value.get("u-1"))});
+
+        assertThat(plan.isScan()).isTrue();
+        assertThat(plan.toString()).contains("<scan>");
+    }
+
+    private static void addIndex(Map<IndexKey, Index> indexes, Map<IndexKey, IndexStatistics> statistics,
+                                 String bin, IndexType type, IndexStatistics indexStatistics) {
+        IndexKey key = new IndexKey(NAMESPACE, SET, bin, type, IndexCollectionType.DEFAULT);
+        indexes.put(key, new Index(bin + "_idx", NAMESPACE, SET, bin, type, IndexCollectionType.DEFAULT));
+        if (indexStatistics != null) {
+            statistics.put(key, indexStatistics);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.sample.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UpdateTest {
+
+    @Test
+    public void getOperations_mapsModifiersInOrder() {
+        Update update = Update.update("emailAddress", "dave@example.com")
+                .increment("age", 1)
+                .append("lastName", "-Jr")
+                .prepend("firstName", "Sir ")
+                .unset("friend");
+
+        Operation[] operations = update.getOperations(field -> field.equals("emailAddress") ? "email" : field, (field, value) -> value);
+
+        assertThat(operations).extracting(operation -> operation.type).containsExactly(
+                Operation.Type.WRITE, Operation.Type.ADD, Operation.Type.APPEND, Operation.Type.PREPEND, Operation.Type.WRITE);
+        assertThat(operations).extracting(operation -> operation.binName)
+                .containsExactly("email", "age", "lastName", "firstName", "friend");
+        assertThat(operations[0].value).isEqualTo(Value.get("dave@example.com"));
+        assertThat(operations[1].value).isEqualTo(Value.get(1));
+        assertThat(operations[4].value).isEqualTo(Bin.asNull("friend").value);
+    }
+
+    @Test
+    public void getOperations_writesConvertedValues() {
+        Operation[] operations = new Update().set("sex", Person.Sex.FEMALE).unset("friend")
+                .getOperations(field -> field, (field, value) -> field + ":" + value);
+
+        assertThat(operations[0].value).isEqualTo(Value.get("sex:FEMALE"));
+        assertThat(operations[1].value).isEqualTo(Bin.asNull("friend").value);
+    }
+
+    @Test
+    public void rejectsNullValue() {
+        assertThatThrownBy(() -> new Update().set("age", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Value must not be null!");
+    }
+
+    @Test
+    public void toString_listsModifiers() {
+        Update update = Update.update("age", 42).unset("friend");
+
+        assertThat(update).hasToString("Update{set(age, 42), unset(friend)}");
+        assertThat(update.isEmpty()).isFalse();
+        assertThat(new Update().isEmpty()).isTrue();
+    }
+}
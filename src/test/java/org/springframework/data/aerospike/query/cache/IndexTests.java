@@ -4,12 +4,16 @@ import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.AwaitilityUtils;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.IndexUtils;
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -153,6 +157,29 @@ public class IndexTests extends BaseBlockingIntegrationTests {
 
 	}
 
+	@Test
+	public void startRefreshing_notifiesListenersOfIndexCreatedOutsideOfTemplate() {
+		IndexesCacheHolder cache = new IndexesCacheHolder();
+		List<String> added = new CopyOnWriteArrayList<>();
+		cache.addListener(new IndexListener() {
+			@Override
+			public void onIndexAdded(Index index) {
+				added.add(index.getName());
+			}
+		});
+		IndexRefresher refresher = new IndexRefresher(client, client.getInfoPolicyDefault(),
+				new InternalIndexOperations(new IndexInfoParser()), cache);
+		refresher.startRefreshing(Duration.ofMillis(100), Duration.ofMillis(50), Duration.ofSeconds(1));
+		try {
+			IndexUtils.createIndex(client, namespace, SET, INDEX_NAME, BIN_1, IndexType.NUMERIC);
+
+			AwaitilityUtils.awaitTenSecondsUntil(() -> assertThat(added).contains(INDEX_NAME));
+			assertThat(cache.getIndex(new IndexKey(namespace, SET, BIN_1, IndexType.NUMERIC, IndexCollectionType.DEFAULT))).isPresent();
+		} finally {
+			refresher.destroy();
+		}
+	}
+
 	@Test
 	public void isIndexedBin_returnsTrueForIndexedField() {
 		IndexUtils.createIndex(client, namespace, SET, INDEX_NAME, BIN_1, IndexType.NUMERIC);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.cache;
+
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IndexesCacheHolderTest {
+
+    private final IndexesCacheHolder holder = new IndexesCacheHolder();
+    private final List<String> events = new ArrayList<>();
+
+    private final Index ageIndex = index("age_idx", "age");
+    private final Index nameIndex = index("name_idx", "name");
+
+    {
+        holder.addListener(new IndexListener() {
+            @Override
+            public void onIndexAdded(Index index) {
+                events.add("added " + index.getName());
+            }
+
+            @Override
+            public void onIndexRemoved(Index index) {
+                events.add("removed " + index.getName());
+            }
+        });
+    }
+
+    @Test
+    public void notifiesAddedAndRemovedIndexes() {
+        holder.update(indexes(ageIndex));
+        holder.update(indexes(nameIndex));
+
+        assertThat(events).containsExactly("added age_idx", "removed age_idx", "added name_idx");
+        assertThat(holder.getIndex(key(nameIndex))).contains(nameIndex);
+        assertThat(holder.getIndex(key(ageIndex))).isEmpty();
+    }
+
+    @Test
+    public void notifiesRecreatedIndexAsRemovedAndAdded() {
+        Index renamed = index("age_idx_v2", "age");
+        holder.update(indexes(ageIndex));
+        holder.update(indexes(renamed));
+
+        assertThat(events).containsExactly("added age_idx", "removed age_idx", "added age_idx_v2");
+    }
+
+    @Test
+    public void keepsCacheIfNothingChanged() {
+        holder.update(indexes(ageIndex));
+        holder.update(indexes(ageIndex));
+
+        assertThat(events).containsExactly("added age_idx");
+    }
+
+    @Test
+    public void replacesCacheIfOnlyStatisticsChanged() {
+        holder.update(indexes(ageIndex));
+        holder.update(IndexesInfo.of(map(ageIndex), Collections.singletonMap(key(ageIndex), new IndexStatistics(10, 5))));
+
+        assertThat(holder.getIndexStatistics(key(ageIndex))).contains(new IndexStatistics(10, 5));
+        assertThat(events).containsExactly("added age_idx");
+    }
+
+    @Test
+    public void failingListenerDoesNotStopOthers() {
+        IndexesCacheHolder holder = new IndexesCacheHolder();
+        holder.addListener(new IndexListener() {
+            @Override
+            public void onIndexAdded(Index index) {
+                throw new IllegalStateException("failed");
+            }
+        });
+        holder.addListener(new IndexListener() {
+            @Override
+            public void onIndexAdded(Index index) {
+                events.add("added " + index.getName());
+            }
+        });
+
+        holder.update(indexes(ageIndex, nameIndex));
+
+        assertThat(events).containsExactlyInAnyOrder("added age_idx", "added name_idx");
+    }
+
+    private static Index index(String name, String bin) {
+        return new Index(name, "test", "users", bin, IndexType.NUMERIC, IndexCollectionType.DEFAULT);
+    }
+
+    private static IndexKey key(Index index) {
+        return new IndexKey(index.getNamespace(), index.getSet(), index.getBin(), index.getType(), index.getCollectionType());
+    }
+
+    private static IndexesInfo indexes(Index... indexes) {
+        return IndexesInfo.of(map(indexes));
+    }
+
+    private static Map<IndexKey, Index> map(Index... indexes) {
+        Map<IndexKey, Index> map = new HashMap<>();
+        for (Index index : indexes) {
+            map.put(key(index), index);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexStatistics;
+import org.springframework.data.aerospike.query.model.IndexesInfo;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InternalIndexOperationsTest {
+
+    private static final String AGE_INDEX =
+            "ns=test:set=users:indexname=age_idx:num_bins=1:bin=age:type=NUMERIC:indextype=NONE:path=age:sync_state=synced:state=RW";
+    private static final String NAME_INDEX =
+            "ns=test:set=users:indexname=name_idx:num_bins=1:bin=name:type=STRING:indextype=NONE:path=name:sync_state=synced:state=RW";
+
+    private final InternalIndexOperations indexOperations = new InternalIndexOperations(new IndexInfoParser());
+
+    @Test
+    public void parsesIndexStatistics() {
+        IndexStatistics statistics = indexOperations.parseIndexStatistics(
+                "keys=4;entries=10;ibtr_memory_used=18688;nbtr_memory_used=31;si_accounted_memory=18719");
+
+        assertThat(statistics).isEqualTo(new IndexStatistics(10, 4));
+        assertThat(statistics.getEntriesPerKey()).isEqualTo(2.5);
+    }
+
+    @Test
+    public void ignoresIncompleteIndexStatistics() {
+        assertThat(indexOperations.parseIndexStatistics("ibtr_memory_used=18688")).isNull();
+        assertThat(indexOperations.parseIndexStatistics("keys=4;entries=unknown")).isNull();
+    }
+
+    @Test
+    public void addsStatisticsToIndexes() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(
+                "ns=test:set=users:indexname=age_idx:num_bins=1:bin=age:type=NUMERIC:indextype=NONE:path=age:sync_state=synced:state=RW");
+
+        assertThat(indexOperations.buildGetIndexStatisticsCommands(indexesInfo)).containsExactly("sindex/test/age_idx");
+
+        IndexesInfo withStatistics = indexOperations.withStatistics(indexesInfo,
+                Collections.singletonMap("sindex/test/age_idx", "keys=90;entries=900"));
+        assertThat(withStatistics.indexes).isEqualTo(indexesInfo.indexes);
+        assertThat(withStatistics.statistics.values()).containsExactly(new IndexStatistics(900, 90));
+    }
+
+    @Test
+    public void keepsIndexesReadyOnEveryNode() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(Arrays.asList(
+                AGE_INDEX + ";" + NAME_INDEX,
+                NAME_INDEX + ";" + AGE_INDEX));
+
+        assertThat(indexesInfo.indexes.values()).extracting(Index::getName)
+                .containsExactlyInAnyOrder("age_idx", "name_idx");
+    }
+
+    @Test
+    public void skipsIndexMissingOnSomeNode() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(Arrays.asList(
+                AGE_INDEX + ";" + NAME_INDEX,
+                AGE_INDEX));
+
+        assertThat(indexesInfo.indexes.values()).extracting(Index::getName).containsExactly("age_idx");
+        assertThat(indexesInfo.indexedFields).hasSize(1);
+    }
+
+    @Test
+    public void skipsIndexStillBuildingOnSomeNode() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(Arrays.asList(
+                AGE_INDEX + ";" + NAME_INDEX,
+                AGE_INDEX + ";" + NAME_INDEX.replace("state=RW", "state=WO")));
+
+        assertThat(indexesInfo.indexes.values()).extracting(Index::getName).containsExactly("age_idx");
+    }
+
+    @Test
+    public void skipsIndexNotSynced() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(
+                AGE_INDEX.replace("sync_state=synced", "sync_state=need_sync"));
+
+        assertThat(indexesInfo.indexes).isEmpty();
+    }
+
+    @Test
+    public void keepsIndexWithoutReportedState() {
+        IndexesInfo indexesInfo = indexOperations.parseIndexesInfo(
+                "ns=test:set=users:indexname=age_idx:bin=age:type=NUMERIC:indextype=NONE");
+
+        assertThat(indexesInfo.indexes.values()).extracting(Index::getName).containsExactly("age_idx");
+    }
+
+    @Test
+    public void emptyNodeResponseMakesNoIndexQueryable() {
+        assertThat(indexOperations.parseIndexesInfo(Arrays.asList(AGE_INDEX, "")).indexes).isEmpty();
+        assertThat(indexOperations.parseIndexesInfo(Collections.emptyList()).indexes).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RefreshScheduleTest {
+
+    @Test
+    public void doublesIntervalPerFailureUpToMaxBackoff() {
+        RefreshSchedule schedule = new RefreshSchedule(Duration.ofSeconds(10), Duration.ZERO, Duration.ofSeconds(35));
+
+        assertThat(schedule.nextDelay()).isEqualTo(Duration.ofSeconds(10));
+        schedule.failed();
+        assertThat(schedule.nextDelay()).isEqualTo(Duration.ofSeconds(20));
+        schedule.failed();
+        assertThat(schedule.nextDelay()).isEqualTo(Duration.ofSeconds(35));
+        schedule.failed();
+        assertThat(schedule.nextDelay()).isEqualTo(Duration.ofSeconds(35));
+        schedule.succeeded();
+        assertThat(schedule.nextDelay()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void addsJitterToInterval() {
+        RefreshSchedule schedule = new RefreshSchedule(Duration.ofSeconds(10), Duration.ofSeconds(2), Duration.ZERO);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(schedule.nextDelay()).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(12));
+        }
+    }
+
+    @Test
+    public void rejectsNonPositiveInterval() {
+        assertThatThrownBy(() -> new RefreshSchedule(Duration.ZERO, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Interval must be positive");
+    }
+}
@@ -81,6 +81,17 @@ public class ReactiveIndexedQualifierTests extends BaseReactiveQueryEngineTests
 	 * If we use a qualifier on an indexed bin, The QueryEngine will generate a Filter. Verify that a LTEQ Filter Operation
 	 * Generates the correct Filter.Range() filter.
 	 */
+	@Test
+	public void countOnIndexedLTQualifier() {
+		withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
+			Qualifier qualifier = new Qualifier("age", LT, Value.get(26));
+
+			StepVerifier.create(queryEngine.count(namespace, INDEXED_SET_NAME, qualifier))
+					.expectNext(queryEngineTestDataPopulator.ageCount.get(25).longValue())
+					.verifyComplete();
+		});
+	}
+
 	@Test
 	public void selectOnIndexedLTEQQualifier() {
 		withIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC, () -> {
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
 import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.sample.PersonAge;
+import org.springframework.data.aerospike.sample.PersonNames;
 import org.springframework.data.aerospike.sample.PersonRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -51,6 +54,37 @@ public class PersonRepositoryQueryTests extends BaseBlockingIntegrationTests {
         assertThat(repository.findByStringsContaining("str3")).containsOnly(donny);
     }
 
+    @Test
+    public void findByFirstName_shouldReturnInterfaceProjection() {
+        List<PersonNames> result = repository.findPersonNamesByFirstName("Dave");
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getFirstName()).isEqualTo(dave.getFirstName());
+        assertThat(result.get(0).getLastName()).isEqualTo(dave.getLastName());
+    }
+
+    @Test
+    public void findByLastName_shouldSortInterfaceProjectionByNotProjectedProperty() {
+        List<PersonNames> result = repository.findByLastNameOrderByAgeAsc("Matthews", PersonNames.class);
+
+        assertThat(result).extracting(PersonNames::getFirstName).containsExactlyElementsOf(all.stream()
+                .filter(person -> person.getLastName().equals("Matthews"))
+                .sorted(Comparator.comparingInt(Person::getAge))
+                .map(Person::getFirstName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void findByLastName_shouldReturnDynamicDtoProjection() {
+        List<PersonAge> result = repository.findByLastNameOrderByAgeAsc("Matthews", PersonAge.class);
+
+        assertThat(result).containsExactlyElementsOf(all.stream()
+                .filter(person -> person.getLastName().equals("Matthews"))
+                .sorted(Comparator.comparingInt(Person::getAge))
+                .map(person -> new PersonAge(person.getId(), person.getAge()))
+                .collect(Collectors.toList()));
+    }
+
     @Test
     void findByListContainingString_forEmptyResult() {
         List<Person> persons = repository.findByStringsContaining("str5");
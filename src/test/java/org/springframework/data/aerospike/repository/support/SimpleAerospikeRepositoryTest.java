@@ -25,6 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.aerospike.core.AerospikeOperations;
+import org.springframework.data.aerospike.query.CursorResult;
+import org.springframework.data.aerospike.query.PartitionCursor;
+import org.springframework.data.aerospike.repository.query.CursorPageRequest;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -98,7 +101,7 @@ public class SimpleAerospikeRepositoryTest {
 		List<Person> result = aerospikeRepository.saveAll(testPersons);
 
 		assertThat(result).isEqualTo(testPersons);
-		verify(operations, times(testPersons.size())).save(any());
+		verify(operations).saveAll(testPersons);
 	}
 
 	@Test
@@ -130,6 +133,22 @@ public class SimpleAerospikeRepositoryTest {
 		assertThat(result).isEqualTo(page);
 	}
 
+	@Test
+	public void findAllPageableWithCursor() {
+		PartitionCursor cursor = new PartitionCursor(10);
+		PartitionCursor nextCursor = new PartitionCursor(12);
+		List<Person> persons = asList(testPerson, testPerson);
+		doReturn(new CursorResult<>(persons, nextCursor)).when(operations).findInRange(cursor, 2, Person.class);
+		doReturn("set").when(operations).getSetName(Person.class);
+		doReturn(5L).when(operations).count("set");
+
+		Page<Person> result = aerospikeRepository.findAll(CursorPageRequest.of(1, 2, cursor));
+
+		assertThat(result.getContent()).isEqualTo(persons);
+		assertThat(result.getTotalElements()).isEqualTo(5);
+		assertThat(result.nextPageable()).isEqualTo(CursorPageRequest.of(2, 2, nextCursor, 5));
+	}
+
 	@Test
 	public void exists() {
 		when(operations.exists(testPerson.getId(), Person.class)).thenReturn(true);
@@ -96,6 +96,10 @@ public interface PersonRepository<P extends Person> extends AerospikeRepository<
 
 	List<P> findPersonByFirstName(String firstName);
 
+	List<PersonNames> findPersonNamesByFirstName(String firstName);
+
+	<T> List<T> findByLastNameOrderByAgeAsc(String lastName, Class<T> type);
+
 	long countByLastName(String lastName);
 
 	int countByFirstName(String firstName);